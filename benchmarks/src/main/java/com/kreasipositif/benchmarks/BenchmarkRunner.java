@@ -0,0 +1,85 @@
+package com.kreasipositif.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.results.format.ResultFormatFactory;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Runs every benchmark once per thread count with the GC profiler attached and
+ * writes all results into one JSON file, so two releases can be compared with
+ * {@link ResultComparison}.
+ * <p>
+ * Usage: {@code java -jar benchmarks.jar [--threads=1,4] [--include=regex] [--output=file] [--quick]}
+ * or {@code java -jar benchmarks.jar compare <baseline.json> <current.json> [--threshold=10]}.
+ */
+public final class BenchmarkRunner {
+
+    private static final String DEFAULT_INCLUDE = "com\\.kreasipositif\\.benchmarks\\..*Benchmark\\..*";
+    private static final String DEFAULT_OUTPUT = "target/jmh-results.json";
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws RunnerException, IOException {
+        if (args.length > 0 && args[0].equals("compare")) {
+            System.exit(ResultComparison.run(Arrays.copyOfRange(args, 1, args.length)));
+        }
+
+        int[] threadCounts = {1, Runtime.getRuntime().availableProcessors()};
+        String include = DEFAULT_INCLUDE;
+        Path output = Path.of(DEFAULT_OUTPUT);
+        boolean quick = false;
+        for (String arg : args) {
+            if (arg.startsWith("--threads=")) {
+                threadCounts = Arrays.stream(arg.substring("--threads=".length()).split(","))
+                    .mapToInt(Integer::parseInt)
+                    .distinct()
+                    .toArray();
+            } else if (arg.startsWith("--include=")) {
+                include = arg.substring("--include=".length());
+            } else if (arg.startsWith("--output=")) {
+                output = Path.of(arg.substring("--output=".length()));
+            } else if (arg.equals("--quick")) {
+                quick = true;
+            } else {
+                throw new IllegalArgumentException("Unknown argument: " + arg);
+            }
+        }
+
+        List<RunResult> results = new ArrayList<>();
+        for (int threads : threadCounts) {
+            ChainedOptionsBuilder options = new OptionsBuilder()
+                .include(include)
+                .threads(threads)
+                .addProfiler(GCProfiler.class)
+                .shouldFailOnError(true);
+            if (quick) {
+                options.forks(1)
+                    .warmupIterations(1)
+                    .warmupTime(TimeValue.milliseconds(500))
+                    .measurementIterations(2)
+                    .measurementTime(TimeValue.milliseconds(500));
+            }
+            results.addAll(new Runner(options.build()).run());
+        }
+
+        if (output.getParent() != null) {
+            Files.createDirectories(output.getParent());
+        }
+        ResultFormatFactory.getInstance(ResultFormatType.JSON, output.toString()).writeOut(results);
+        System.out.println("Results written to " + output.toAbsolutePath());
+    }
+}
@@ -0,0 +1,66 @@
+package com.kreasipositif.benchmarks;
+
+import com.kreasipositif.utility.formatter.DateFormatter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DateFormatterBenchmark {
+
+    private final DateFormatter dateFormatter = new DateFormatter();
+
+    /**
+     * Rotates through distinct timestamps so no result can be folded into a constant.
+     */
+    @State(Scope.Thread)
+    public static class Input {
+
+        private static final int SIZE = 1024;
+
+        final LocalDateTime[] values = new LocalDateTime[SIZE];
+        final StringBuilder buffer = new StringBuilder(32);
+        int index;
+
+        public Input() {
+            LocalDateTime start = LocalDateTime.of(2026, 1, 1, 0, 0);
+            for (int i = 0; i < SIZE; i++) {
+                values[i] = start.plusSeconds(i * 7_919L * 60);
+            }
+        }
+
+        LocalDateTime next() {
+            return values[index++ & (SIZE - 1)];
+        }
+    }
+
+    @Benchmark
+    public String formatDateTime(Input input) {
+        return dateFormatter.formatDateTime(input.next());
+    }
+
+    @Benchmark
+    public StringBuilder appendDateTime(Input input) {
+        input.buffer.setLength(0);
+        return dateFormatter.appendDateTime(input.buffer, input.next());
+    }
+
+    @Benchmark
+    public String formatDateTimeWithPattern(Input input) {
+        return dateFormatter.formatDateTime(input.next(), "dd/MM/yyyy HH:mm");
+    }
+}
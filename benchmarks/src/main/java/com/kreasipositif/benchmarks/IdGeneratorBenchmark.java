@@ -0,0 +1,78 @@
+package com.kreasipositif.benchmarks;
+
+import com.kreasipositif.utility.generator.IdGenerator;
+import com.kreasipositif.utility.generator.IdGeneratorProperties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class IdGeneratorBenchmark {
+
+    private final IdGenerator idGenerator = new IdGenerator();
+
+    /**
+     * One generator per mode, shared by all benchmark threads like the application bean.
+     */
+    @State(Scope.Benchmark)
+    public static class ModeState {
+
+        @Param({"RANDOM", "UUID_V7", "SNOWFLAKE"})
+        public IdGeneratorProperties.Mode mode;
+
+        IdGenerator idGenerator;
+
+        @Setup
+        public void setUp() {
+            IdGeneratorProperties properties = new IdGeneratorProperties();
+            properties.setMode(mode);
+            properties.setNodeId(1);
+            idGenerator = new IdGenerator(properties);
+        }
+    }
+
+    @Benchmark
+    public String generateId(ModeState state) {
+        return state.idGenerator.generateId();
+    }
+
+    @Benchmark
+    public String generateUUID() {
+        return idGenerator.generateUUID();
+    }
+
+    @Benchmark
+    public String generateUUIDv7() {
+        return idGenerator.generateUUIDv7();
+    }
+
+    @Benchmark
+    public long generateSnowflakeId() {
+        return idGenerator.generateSnowflakeId();
+    }
+
+    @Benchmark
+    public String generateAlphanumeric() {
+        return idGenerator.generateAlphanumeric(8);
+    }
+
+    @Benchmark
+    public String generateNumericCode() {
+        return idGenerator.generateNumericCode(6);
+    }
+}
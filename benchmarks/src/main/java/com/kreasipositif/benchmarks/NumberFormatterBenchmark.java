@@ -0,0 +1,82 @@
+package com.kreasipositif.benchmarks;
+
+import com.kreasipositif.utility.formatter.FastNumberFormat;
+import com.kreasipositif.utility.formatter.NumberFormatter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class NumberFormatterBenchmark {
+
+    private static final FastNumberFormat GERMANY = FastNumberFormat.forLocale(Locale.GERMANY);
+
+    private final NumberFormatter numberFormatter = new NumberFormatter();
+
+    /**
+     * Order-sized amounts and counts, rotated so no result can be folded into a constant.
+     */
+    @State(Scope.Thread)
+    public static class Input {
+
+        private static final int SIZE = 1024;
+
+        final double[] amounts = new double[SIZE];
+        final long[] counts = new long[SIZE];
+        final StringBuilder buffer = new StringBuilder(32);
+        int index;
+
+        public Input() {
+            SplittableRandom random = new SplittableRandom(42);
+            for (int i = 0; i < SIZE; i++) {
+                amounts[i] = random.nextLong(1, 10_000_000) / 100.0;
+                counts[i] = random.nextLong(0, 100_000_000);
+            }
+        }
+
+        int next() {
+            return index++ & (SIZE - 1);
+        }
+    }
+
+    @Benchmark
+    public String formatNumber(Input input) {
+        return numberFormatter.formatNumber(input.counts[input.next()]);
+    }
+
+    @Benchmark
+    public String formatCurrency(Input input) {
+        return numberFormatter.formatCurrency(input.amounts[input.next()]);
+    }
+
+    @Benchmark
+    public String formatPercentage(Input input) {
+        return numberFormatter.formatPercentage(input.amounts[input.next()] / 100_000);
+    }
+
+    @Benchmark
+    public String formatCurrencyWithLocale(Input input) {
+        return numberFormatter.formatCurrency(input.amounts[input.next()], Locale.GERMANY);
+    }
+
+    @Benchmark
+    public StringBuilder appendCurrency(Input input) {
+        input.buffer.setLength(0);
+        return GERMANY.appendCurrency(input.buffer, input.amounts[input.next()]);
+    }
+}
@@ -0,0 +1,36 @@
+package com.kreasipositif.benchmarks;
+
+import com.kreasipositif.utility.generator.OrderNumberAllocator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OrderNumberAllocatorBenchmark {
+
+    private final OrderNumberAllocator orderNumberAllocator = new OrderNumberAllocator();
+
+    @Benchmark
+    public String next() {
+        return orderNumberAllocator.next();
+    }
+
+    @Benchmark
+    public List<String> nextBatch() {
+        return orderNumberAllocator.next(100);
+    }
+}
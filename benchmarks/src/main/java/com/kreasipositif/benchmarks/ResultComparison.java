@@ -0,0 +1,130 @@
+package com.kreasipositif.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compares two JMH JSON result files and reports every score that moved in the
+ * wrong direction by more than a threshold: throughput going down, and average
+ * time or bytes allocated per operation going up.
+ */
+public final class ResultComparison {
+
+    static final String ALLOCATION_METRIC = "gc.alloc.rate.norm";
+
+    private static final double DEFAULT_THRESHOLD_PERCENT = 10.0;
+
+    // Allocation below this many bytes per operation is noise from the profiler itself
+    private static final double MIN_ALLOCATION_BYTES = 8.0;
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private ResultComparison() {
+    }
+
+    /**
+     * One score present in both files.
+     */
+    record Change(String benchmark, String metric, String unit, double baseline, double current,
+                  double percent, boolean regression) {
+    }
+
+    /**
+     * @return the process exit code: 0 when nothing regressed, 1 when something did, 2 on bad usage
+     */
+    static int run(String[] args) throws IOException {
+        List<String> files = new ArrayList<>();
+        double threshold = DEFAULT_THRESHOLD_PERCENT;
+        for (String arg : args) {
+            if (arg.startsWith("--threshold=")) {
+                threshold = Double.parseDouble(arg.substring("--threshold=".length()));
+            } else {
+                files.add(arg);
+            }
+        }
+        if (files.size() != 2) {
+            System.err.println("Usage: compare <baseline.json> <current.json> [--threshold=percent]");
+            return 2;
+        }
+
+        List<Change> changes = compare(
+            MAPPER.readTree(Path.of(files.get(0)).toFile()),
+            MAPPER.readTree(Path.of(files.get(1)).toFile()),
+            threshold);
+        int regressions = 0;
+        for (Change change : changes) {
+            if (change.regression()) {
+                regressions++;
+            }
+            System.out.printf("%s %-90s %-20s %14.3f -> %14.3f %-10s %+8.1f%%%n",
+                change.regression() ? "REGRESSED" : "         ", change.benchmark(), change.metric(),
+                change.baseline(), change.current(), change.unit(), change.percent());
+        }
+        System.out.printf("%d of %d scores regressed by more than %.1f%%%n", regressions, changes.size(), threshold);
+        return regressions == 0 ? 0 : 1;
+    }
+
+    static List<Change> compare(JsonNode baseline, JsonNode current, double thresholdPercent) {
+        Map<String, JsonNode> baselineByKey = index(baseline);
+        List<Change> changes = new ArrayList<>();
+        for (Map.Entry<String, JsonNode> entry : index(current).entrySet()) {
+            JsonNode before = baselineByKey.get(entry.getKey());
+            if (before == null) {
+                continue;
+            }
+            JsonNode after = entry.getValue();
+            boolean higherIsBetter = after.path("mode").asText().equals("thrpt");
+            changes.add(change(entry.getKey(), "score", before.path("primaryMetric"),
+                after.path("primaryMetric"), higherIsBetter, thresholdPercent, 0));
+
+            JsonNode allocationBefore = before.path("secondaryMetrics").path(ALLOCATION_METRIC);
+            JsonNode allocationAfter = after.path("secondaryMetrics").path(ALLOCATION_METRIC);
+            if (!allocationBefore.isMissingNode() && !allocationAfter.isMissingNode()) {
+                changes.add(change(entry.getKey(), ALLOCATION_METRIC, allocationBefore, allocationAfter,
+                    false, thresholdPercent, MIN_ALLOCATION_BYTES));
+            }
+        }
+        return changes;
+    }
+
+    private static Change change(String benchmark, String metric, JsonNode before, JsonNode after,
+                                 boolean higherIsBetter, double thresholdPercent, double noiseFloor) {
+        double baseline = before.path("score").asDouble();
+        double current = after.path("score").asDouble();
+        double percent = baseline == 0 ? (current == 0 ? 0 : 100) : (current - baseline) / baseline * 100;
+        boolean worse = higherIsBetter ? percent < -thresholdPercent : percent > thresholdPercent;
+        boolean regression = worse && Math.max(baseline, current) >= noiseFloor;
+        return new Change(benchmark, metric, after.path("scoreUnit").asText(), baseline, current, percent,
+            regression);
+    }
+
+    /**
+     * Keys each result by benchmark, mode, thread count and parameters, which together
+     * identify the same measurement across runs.
+     */
+    private static Map<String, JsonNode> index(JsonNode results) {
+        Map<String, JsonNode> byKey = new LinkedHashMap<>();
+        for (JsonNode result : results) {
+            StringBuilder key = new StringBuilder(result.path("benchmark").asText())
+                .append(" [").append(result.path("mode").asText())
+                .append(", threads=").append(result.path("threads").asInt());
+            Map<String, String> params = new TreeMap<>();
+            for (Iterator<Map.Entry<String, JsonNode>> it = result.path("params").fields(); it.hasNext(); ) {
+                Map.Entry<String, JsonNode> param = it.next();
+                params.put(param.getKey(), param.getValue().asText());
+            }
+            params.forEach((name, value) -> key.append(", ").append(name).append('=').append(value));
+            byKey.put(key.append(']').toString(), result);
+        }
+        return byKey;
+    }
+}
@@ -0,0 +1,81 @@
+package com.kreasipositif.benchmarks;
+
+import com.kreasipositif.utility.validator.StringValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StringValidatorBenchmark {
+
+    private static final String[] EMAILS = {
+        "john.doe@example.com", "jane+orders@mail.example.co.id", "invalid-email", "user@host",
+        "first_last@sub-domain.example.org", "trailing@example.c0m", "a@b.cd", "@example.com"
+    };
+
+    private static final String[] PHONES = {
+        "+6281234567890", "081234567890", "+1234567890", "12", "+123abc7890", "+123456789012345"
+    };
+
+    private static final String[] NAMES = {"John Doe", "   ", "Jane", "", "\tPadded name  "};
+
+    private static final int BATCH_SIZE = 1000;
+
+    private final StringValidator stringValidator = new StringValidator();
+    private final List<String> emailBatch = new ArrayList<>(BATCH_SIZE);
+
+    public StringValidatorBenchmark() {
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            emailBatch.add(EMAILS[i % EMAILS.length]);
+        }
+    }
+
+    /**
+     * Rotates through valid and invalid inputs so branch prediction sees a realistic mix.
+     */
+    @State(Scope.Thread)
+    public static class Input {
+
+        int index;
+
+        int next() {
+            return index++ & Integer.MAX_VALUE;
+        }
+    }
+
+    @Benchmark
+    public boolean isValidEmail(Input input) {
+        return stringValidator.isValidEmail(EMAILS[input.next() % EMAILS.length]);
+    }
+
+    @Benchmark
+    public boolean isValidPhone(Input input) {
+        return stringValidator.isValidPhone(PHONES[input.next() % PHONES.length]);
+    }
+
+    @Benchmark
+    public boolean isNotEmpty(Input input) {
+        return stringValidator.isNotEmpty(NAMES[input.next() % NAMES.length]);
+    }
+
+    @Benchmark
+    public BitSet findInvalidEmails() {
+        return stringValidator.findInvalid(emailBatch, stringValidator::isValidEmail);
+    }
+}
@@ -0,0 +1,78 @@
+package com.kreasipositif.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResultComparisonTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private static String result(String benchmark, String mode, int threads, double score, double allocated) {
+        return """
+            {"benchmark": "%s", "mode": "%s", "threads": %d, "params": {"mode": "SNOWFLAKE"},
+             "primaryMetric": {"score": %s, "scoreUnit": "us/op"},
+             "secondaryMetrics": {"gc.alloc.rate.norm": {"score": %s, "scoreUnit": "B/op"}}}
+            """.formatted(benchmark, mode, threads, score, allocated);
+    }
+
+    private static JsonNode results(String... results) throws Exception {
+        return MAPPER.readTree("[" + String.join(",", results) + "]");
+    }
+
+    @Test
+    void testCompare_FlagsSlowerThroughputAndMoreAllocation() throws Exception {
+        // Arrange
+        JsonNode baseline = results(
+            result("IdGeneratorBenchmark.generateId", "thrpt", 1, 100.0, 48.0),
+            result("IdGeneratorBenchmark.generateId", "avgt", 1, 0.010, 48.0));
+        JsonNode current = results(
+            result("IdGeneratorBenchmark.generateId", "thrpt", 1, 80.0, 96.0),
+            result("IdGeneratorBenchmark.generateId", "avgt", 1, 0.009, 48.0));
+
+        // Act
+        List<ResultComparison.Change> changes = ResultComparison.compare(baseline, current, 10.0);
+
+        // Assert
+        assertEquals(4, changes.size());
+        assertTrue(changes.get(0).regression());
+        assertEquals(-20.0, changes.get(0).percent(), 1e-9);
+        assertTrue(changes.get(1).regression());
+        assertEquals(ResultComparison.ALLOCATION_METRIC, changes.get(1).metric());
+        assertFalse(changes.get(2).regression());
+        assertFalse(changes.get(3).regression());
+    }
+
+    @Test
+    void testCompare_MatchesOnThreadsAndIgnoresNewBenchmarks() throws Exception {
+        // Arrange
+        JsonNode baseline = results(result("DateFormatterBenchmark.formatDateTime", "thrpt", 1, 50.0, 0.0));
+        JsonNode current = results(
+            result("DateFormatterBenchmark.formatDateTime", "thrpt", 8, 10.0, 0.0),
+            result("DateFormatterBenchmark.appendDateTime", "thrpt", 1, 10.0, 0.0));
+
+        // Act
+        List<ResultComparison.Change> changes = ResultComparison.compare(baseline, current, 10.0);
+
+        // Assert
+        assertTrue(changes.isEmpty());
+    }
+
+    @Test
+    void testCompare_IgnoresAllocationBelowNoiseFloor() throws Exception {
+        // Arrange
+        JsonNode baseline = results(result("StringValidatorBenchmark.isValidEmail", "avgt", 1, 0.01, 0.001));
+        JsonNode current = results(result("StringValidatorBenchmark.isValidEmail", "avgt", 1, 0.01, 0.004));
+
+        // Act
+        List<ResultComparison.Change> changes = ResultComparison.compare(baseline, current, 10.0);
+
+        // Assert
+        assertEquals(2, changes.size());
+        assertFalse(changes.get(1).regression());
+    }
+}
@@ -53,6 +53,9 @@ echo -e ""
 echo -e "Run Service B (Order Management):"
 echo -e "  ${GREEN}cd service-b && mvn spring-boot:run${NC}"
 echo -e ""
+echo -e "Measure latency under load (both services in-process):"
+echo -e "  ${GREEN}java -jar load-test/target/load-test-1.0.0-SNAPSHOT.jar --rate=1000 --duration=60s${NC}"
+echo -e ""
 echo -e "Or use the provided run scripts:"
 echo -e "  ${GREEN}./run-service-a.sh${NC}"
 echo -e "  ${GREEN}./run-service-b.sh${NC}"
@@ -1,5 +1,5 @@
 import React, { useEffect, useState } from 'react';
-import { orderService, Order } from '../services/orderService';
+import { orderService, nextStatuses, Order, OrderStatus } from '../services/orderService';
 import './OrderList.css';
 
 const OrderList: React.FC = () => {
@@ -17,6 +17,7 @@ const OrderList: React.FC = () => {
 
   useEffect(() => {
     fetchOrders();
+    return orderService.subscribeToChanges((type, order) => upsertOrder(order), fetchOrders);
   }, []);
 
   useEffect(() => {
@@ -43,13 +44,30 @@ const OrderList: React.FC = () => {
     }
   };
 
+  // Changes arrive without the customer, so an order already shown keeps the one it has
+  const upsertOrder = (order: Order) => {
+    setOrders((current) =>
+      current.some((o) => o.id === order.id)
+        ? current.map((o) => (o.id === order.id ? { ...o, ...order } : o))
+        : [...current, order]
+    );
+  };
+
+  const handleStatusChange = async (order: Order, status: OrderStatus) => {
+    try {
+      upsertOrder(await orderService.changeStatus(order.id, status));
+      setError(null);
+    } catch (err) {
+      setError(err instanceof Error ? err.message : 'Failed to change order status');
+    }
+  };
+
   const handleSubmit = async (e: React.FormEvent) => {
     e.preventDefault();
     try {
-      await orderService.createOrder(formData);
+      upsertOrder(await orderService.createOrder(formData));
       setFormData({ customerId: '', productName: '', quantity: 1, unitPrice: 0 });
       setShowForm(false);
-      fetchOrders();
     } catch (err) {
       setError('Failed to create order');
     }
@@ -116,11 +134,20 @@ const OrderList: React.FC = () => {
                 <span className={`status ${order.status.toLowerCase()}`}>{order.status}</span>
               </div>
               <p><strong>Order #:</strong> {order.orderNumber}</p>
-              <p><strong>Customer ID:</strong> {order.customerId}</p>
+              <p><strong>Customer:</strong> {order.customer ? `${order.customer.name} (${order.customer.email})` : order.customerId}</p>
               <p><strong>Quantity:</strong> {order.quantity}</p>
               <p><strong>Unit Price:</strong> {order.unitPrice}</p>
               <p><strong>Total:</strong> {order.totalAmount}</p>
               <p className="date"><strong>Created:</strong> {order.createdAt}</p>
+              {nextStatuses[order.status].length > 0 && (
+                <div className="status-actions">
+                  {nextStatuses[order.status].map((status) => (
+                    <button key={status} onClick={() => handleStatusChange(order, status)}>
+                      {status.charAt(0) + status.slice(1).toLowerCase()}
+                    </button>
+                  ))}
+                </div>
+              )}
             </div>
           ))
         )}
@@ -16,6 +16,7 @@ const UserList: React.FC = () => {
 
   useEffect(() => {
     fetchUsers();
+    return userService.subscribeToChanges((type, user) => upsertUser(user), fetchUsers);
   }, []);
 
   useEffect(() => {
@@ -42,13 +43,20 @@ const UserList: React.FC = () => {
     }
   };
 
+  const upsertUser = (user: User) => {
+    setUsers((current) =>
+      current.some((u) => u.id === user.id)
+        ? current.map((u) => (u.id === user.id ? user : u))
+        : [...current, user]
+    );
+  };
+
   const handleSubmit = async (e: React.FormEvent) => {
     e.preventDefault();
     try {
-      await userService.createUser(formData);
+      upsertUser(await userService.createUser(formData));
       setFormData({ name: '', email: '', phone: '' });
       setShowForm(false);
-      fetchUsers();
     } catch (err) {
       setError('Failed to create user');
     }
@@ -1,5 +1,23 @@
 const SERVICE_B_BASE_URL = process.env.REACT_APP_SERVICE_B_URL || 'http://localhost:8082';
 
+export interface Customer {
+  id: string;
+  name: string;
+  email: string;
+  phone: string;
+}
+
+export type OrderStatus = 'PENDING' | 'CONFIRMED' | 'SHIPPED' | 'DELIVERED' | 'CANCELLED';
+
+// Statuses an order can move to next; mirrors OrderStatus on the server
+export const nextStatuses: Record<OrderStatus, OrderStatus[]> = {
+  PENDING: ['CONFIRMED', 'CANCELLED'],
+  CONFIRMED: ['SHIPPED', 'CANCELLED'],
+  SHIPPED: ['DELIVERED'],
+  DELIVERED: [],
+  CANCELLED: [],
+};
+
 export interface Order {
   id: string;
   orderNumber: string;
@@ -8,8 +26,15 @@ export interface Order {
   quantity: string;
   unitPrice: string;
   totalAmount: string;
-  status: string;
+  status: OrderStatus;
   createdAt: string;
+  // Present when requested with include=customer; null if Service A did not answer in time
+  customer?: Customer | null;
+}
+
+export interface Page<T> {
+  items: T[];
+  next: string | null;
 }
 
 export interface CreateOrderRequest {
@@ -19,9 +44,20 @@ export interface CreateOrderRequest {
   unitPrice: number;
 }
 
+export type ChangeType = 'created' | 'updated';
+
 export const orderService = {
   getAllOrders: async (): Promise<Order[]> => {
-    const response = await fetch(`${SERVICE_B_BASE_URL}/api/orders`);
+    const page = await orderService.getOrderPage();
+    return page.items;
+  },
+
+  getOrderPage: async (cursor?: string, limit: number = 100): Promise<Page<Order>> => {
+    const params = new URLSearchParams({ limit: String(limit), include: 'customer' });
+    if (cursor) {
+      params.set('cursor', cursor);
+    }
+    const response = await fetch(`${SERVICE_B_BASE_URL}/api/orders?${params}`);
     if (!response.ok) {
       throw new Error('Failed to fetch orders');
     }
@@ -29,7 +65,7 @@ export const orderService = {
   },
 
   getOrderById: async (id: string): Promise<Order> => {
-    const response = await fetch(`${SERVICE_B_BASE_URL}/api/orders/${id}`);
+    const response = await fetch(`${SERVICE_B_BASE_URL}/api/orders/${id}?include=customer`);
     if (!response.ok) {
       throw new Error('Failed to fetch order');
     }
@@ -49,4 +85,32 @@ export const orderService = {
     }
     return response.json();
   },
+
+  changeStatus: async (id: string, status: OrderStatus): Promise<Order> => {
+    const response = await fetch(`${SERVICE_B_BASE_URL}/api/orders/${id}/status`, {
+      method: 'PUT',
+      headers: {
+        'Content-Type': 'application/json',
+      },
+      body: JSON.stringify({ status }),
+    });
+    if (!response.ok) {
+      throw new Error(response.status === 409 ? 'Order status changed meanwhile' : 'Failed to change order status');
+    }
+    return response.json();
+  },
+
+  // Streams order changes, without customers; on 'reset' the stream fell behind and the
+  // list must be reloaded. The browser reconnects on its own and resumes after the last event.
+  subscribeToChanges: (
+    onChange: (type: ChangeType, order: Order) => void,
+    onReset: () => void
+  ): (() => void) => {
+    const source = new EventSource(`${SERVICE_B_BASE_URL}/api/orders/changes`);
+    const handle = (type: ChangeType) => (event: MessageEvent) => onChange(type, JSON.parse(event.data));
+    source.addEventListener('created', handle('created'));
+    source.addEventListener('updated', handle('updated'));
+    source.addEventListener('reset', () => onReset());
+    return () => source.close();
+  },
 };
@@ -9,15 +9,31 @@ export interface User {
   createdAt: string;
 }
 
+export interface Page<T> {
+  items: T[];
+  next: string | null;
+}
+
 export interface CreateUserRequest {
   name: string;
   email: string;
   phone: string;
 }
 
+export type ChangeType = 'created' | 'updated';
+
 export const userService = {
   getAllUsers: async (): Promise<User[]> => {
-    const response = await fetch(`${SERVICE_A_BASE_URL}/api/users`);
+    const page = await userService.getUserPage();
+    return page.items;
+  },
+
+  getUserPage: async (cursor?: string, limit: number = 100): Promise<Page<User>> => {
+    const params = new URLSearchParams({ limit: String(limit) });
+    if (cursor) {
+      params.set('cursor', cursor);
+    }
+    const response = await fetch(`${SERVICE_A_BASE_URL}/api/users?${params}`);
     if (!response.ok) {
       throw new Error('Failed to fetch users');
     }
@@ -45,4 +61,18 @@ export const userService = {
     }
     return response.json();
   },
+
+  // Streams user changes; on 'reset' the stream fell behind and the list must be reloaded.
+  // The browser reconnects on its own and resumes after the last event it received.
+  subscribeToChanges: (
+    onChange: (type: ChangeType, user: User) => void,
+    onReset: () => void
+  ): (() => void) => {
+    const source = new EventSource(`${SERVICE_A_BASE_URL}/api/users/changes`);
+    const handle = (type: ChangeType) => (event: MessageEvent) => onChange(type, JSON.parse(event.data));
+    source.addEventListener('created', handle('created'));
+    source.addEventListener('updated', handle('updated'));
+    source.addEventListener('reset', () => onReset());
+    return () => source.close();
+  },
 };
@@ -0,0 +1,119 @@
+package com.kreasipositif.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Percentile report for one measured run. {@link #writeTo} writes a {@code summary.csv}
+ * plus one HdrHistogram percentile distribution ({@code .hgrm}) per operation, in
+ * milliseconds, which HdrHistogram's plotter can chart.
+ */
+public class LatencyReport {
+
+    static final String SUMMARY_FILE = "summary.csv";
+
+    private static final double MICROS_PER_MILLI = 1_000.0;
+    private static final double[] PERCENTILES = {50.0, 90.0, 99.0, 99.9};
+
+    private final Map<Operation, OperationStats> stats;
+    private final Duration duration;
+
+    public LatencyReport(Map<Operation, OperationStats> stats, Duration duration) {
+        this.stats = stats;
+        this.duration = duration;
+    }
+
+    public void writeTo(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        try (Writer summary = Files.newBufferedWriter(directory.resolve(SUMMARY_FILE))) {
+            summary.write("operation,count,errors,throughput_per_second,p50_ms,p90_ms,p99_ms,p99_9_ms,max_ms,"
+                + "service_p50_ms,service_p99_ms,service_p99_9_ms\n");
+            for (Map.Entry<Operation, OperationStats> entry : stats.entrySet()) {
+                Histogram response = entry.getValue().getResponseTime();
+                Histogram service = entry.getValue().getServiceTime();
+                StringBuilder row = new StringBuilder(entry.getKey().getKey())
+                    .append(',').append(response.getTotalCount())
+                    .append(',').append(entry.getValue().getErrors())
+                    .append(',').append(format(response.getTotalCount() / seconds()));
+                for (double percentile : PERCENTILES) {
+                    row.append(',').append(millis(response, percentile));
+                }
+                row.append(',').append(format(response.getMaxValue() / MICROS_PER_MILLI));
+                row.append(',').append(millis(service, 50.0))
+                    .append(',').append(millis(service, 99.0))
+                    .append(',').append(millis(service, 99.9));
+                summary.write(row.append('\n').toString());
+
+                try (PrintStream out = new PrintStream(
+                    Files.newOutputStream(directory.resolve(entry.getKey().getKey() + ".hgrm")))) {
+                    response.outputPercentileDistribution(out, MICROS_PER_MILLI);
+                }
+            }
+        }
+    }
+
+    /**
+     * Human-readable table of the same numbers as {@code summary.csv}.
+     */
+    public String summary() {
+        StringBuilder text = new StringBuilder(String.format(Locale.ROOT,
+            "%-14s %9s %7s %9s %9s %9s %9s %9s %9s%n",
+            "operation", "count", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms"));
+        stats.forEach((operation, operationStats) -> {
+            Histogram response = operationStats.getResponseTime();
+            text.append(String.format(Locale.ROOT, "%-14s %9d %7d %9s", operation.getKey(),
+                response.getTotalCount(), operationStats.getErrors(), format(response.getTotalCount() / seconds())));
+            for (double percentile : PERCENTILES) {
+                text.append(String.format(Locale.ROOT, " %9s", millis(response, percentile)));
+            }
+            text.append(String.format(Locale.ROOT, " %9s%n", format(response.getMaxValue() / MICROS_PER_MILLI)));
+        });
+        return text.toString();
+    }
+
+    /**
+     * Runs of the same mix side by side, one row per operation and run, to compare
+     * throughput and tail latency between service configurations.
+     */
+    public static String comparison(Map<String, LatencyReport> runs) {
+        StringBuilder text = new StringBuilder(String.format(Locale.ROOT,
+            "%-14s %-10s %9s %7s %9s %9s %9s %9s %9s%n",
+            "operation", "run", "req/s", "errors", "p50 ms", "p99 ms", "p99.9 ms", "max ms", "svc p99"));
+        Map<Operation, OperationStats> operations = runs.values().iterator().next().stats;
+        for (Operation operation : operations.keySet()) {
+            runs.forEach((name, report) -> {
+                OperationStats operationStats = report.stats.get(operation);
+                if (operationStats == null) {
+                    return;
+                }
+                Histogram response = operationStats.getResponseTime();
+                text.append(String.format(Locale.ROOT, "%-14s %-10s %9s %7d %9s %9s %9s %9s %9s%n",
+                    operation.getKey(), name, format(response.getTotalCount() / report.seconds()),
+                    operationStats.getErrors(), millis(response, 50.0), millis(response, 99.0),
+                    millis(response, 99.9), format(response.getMaxValue() / MICROS_PER_MILLI),
+                    millis(operationStats.getServiceTime(), 99.0)));
+            });
+        }
+        return text.toString();
+    }
+
+    private double seconds() {
+        return duration.toNanos() / 1_000_000_000.0;
+    }
+
+    private static String millis(Histogram histogram, double percentile) {
+        return format(histogram.getValueAtPercentile(percentile) / MICROS_PER_MILLI);
+    }
+
+    private static String format(double value) {
+        return String.format(Locale.ROOT, "%.3f", value);
+    }
+}
@@ -0,0 +1,107 @@
+package com.kreasipositif.loadtest;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Sends requests at a fixed arrival rate, independent of how fast responses come back.
+ * <p>
+ * Request {@code i} is due at {@code start + i / rate}. A single dispatcher waits for
+ * each due time and hands the request to a virtual thread. When the dispatcher falls
+ * behind, because the server stalls or {@code maxInFlight} is reached, it sends the
+ * overdue requests immediately. Their response time still counts from the due time, so
+ * a stall is charged to every request it delayed, not just the one in flight.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class LoadGenerator {
+
+    private final HttpClient httpClient;
+    private final Workload workload;
+    private final TrafficMix mix;
+    private final int maxInFlight;
+
+    public Map<Operation, OperationStats> run(double ratePerSecond, Duration duration) throws InterruptedException {
+        if (!(ratePerSecond > 0)) {
+            throw new IllegalArgumentException("Rate must be positive");
+        }
+        Map<Operation, OperationStats> stats = new EnumMap<>(Operation.class);
+        for (Operation operation : mix.getWeights().keySet()) {
+            stats.put(operation, new OperationStats());
+        }
+
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        SplittableRandom random = new SplittableRandom();
+        double intervalNanos = 1_000_000_000.0 / ratePerSecond;
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+        long lateSends = 0;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long i = 0; ; i++) {
+                long due = start + (long) (i * intervalNanos);
+                if (due - end >= 0) {
+                    break;
+                }
+                long wait = due - System.nanoTime();
+                while (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                    wait = due - System.nanoTime();
+                }
+                if (wait < -intervalNanos) {
+                    lateSends++;
+                }
+
+                Operation operation = mix.next(random);
+                HttpRequest request = workload.request(operation);
+                OperationStats operationStats = stats.get(operation);
+                inFlight.acquire();
+                executor.execute(() -> {
+                    try {
+                        send(operation, request, due, operationStats);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            }
+        }
+        if (lateSends > 0) {
+            log.warn("{} requests were sent later than scheduled; their delay is included in response times",
+                lateSends);
+        }
+        return Collections.unmodifiableMap(stats);
+    }
+
+    private void send(Operation operation, HttpRequest request, long due, OperationStats stats) {
+        long sent = System.nanoTime();
+        try {
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            long received = System.nanoTime();
+            if (response.statusCode() >= 400) {
+                stats.recordError();
+                return;
+            }
+            stats.recordSuccess((received - due) / 1_000, (received - sent) / 1_000);
+            workload.completed(operation, response);
+        } catch (IOException e) {
+            log.debug("{} failed: {}", operation.getKey(), e.toString());
+            stats.recordError();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            stats.recordError();
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.kreasipositif.loadtest;
+
+import com.kreasipositif.servicea.ServiceAApplication;
+import com.kreasipositif.serviceb.ServiceBApplication;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.util.FileSystemUtils;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Boots service-a and service-b on random localhost ports, seeds them, and drives the
+ * configured traffic mix at a fixed rate: a warm-up phase, then a measured phase whose
+ * latencies are reported. Service data goes to a temporary directory removed afterwards.
+ * With several thread modes, each gets freshly started services and the same load.
+ */
+@Slf4j
+public final class LoadTestApplication {
+
+    private static final DateTimeFormatter RUN_NAME = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private LoadTestApplication() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.parse(args);
+        TrafficMix mix = TrafficMix.parse(config.getMix());
+        Path reportDirectory = config.getOutput().resolve(LocalDateTime.now().format(RUN_NAME));
+        Map<String, LatencyReport> reports = new LinkedHashMap<>();
+        for (ThreadMode mode : config.getThreads()) {
+            LatencyReport report = run(config, mix, mode);
+            // A comparison keeps each mode's files apart; a single run writes them directly
+            report.writeTo(config.getThreads().size() == 1 ? reportDirectory : reportDirectory.resolve(mode.getKey()));
+            System.out.println();
+            System.out.println("Services on " + mode.getKey() + " threads:");
+            System.out.print(report.summary());
+            reports.put(mode.getKey(), report);
+        }
+        if (reports.size() > 1) {
+            System.out.println();
+            System.out.print(LatencyReport.comparison(reports));
+        }
+        System.out.println("Report written to " + reportDirectory.toAbsolutePath());
+    }
+
+    private static LatencyReport run(LoadTestConfig config, TrafficMix mix, ThreadMode mode) throws Exception {
+        Path dataDirectory = Files.createTempDirectory("load-test-");
+        try (ConfigurableApplicationContext users = ServiceLauncher.start(ServiceAApplication.class, Map.of(
+                 "logging.level.com.kreasipositif.servicea", "WARN",
+                 "spring.threads.virtual.enabled", mode.virtualThreadsEnabled(),
+                 "users.persistence.directory", dataDirectory.resolve("service-a").toString(),
+                 "users.import.directory", dataDirectory.resolve("import").toString()));
+             ConfigurableApplicationContext orders = ServiceLauncher.start(ServiceBApplication.class, Map.of(
+                 "logging.level.com.kreasipositif.serviceb", "WARN",
+                 "spring.threads.virtual.enabled", mode.virtualThreadsEnabled(),
+                 "customers.lookup.base-url", ServiceLauncher.baseUri(users).toString()))) {
+            URI usersUri = ServiceLauncher.baseUri(users);
+            URI ordersUri = ServiceLauncher.baseUri(orders);
+            log.info("service-a on {}, service-b on {}, {} threads", usersUri, ordersUri, mode.getKey());
+
+            HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(config.getRequestTimeout())
+                .build();
+            ServiceWorkload workload = new ServiceWorkload(usersUri, ordersUri, config.getRequestTimeout());
+            workload.seed(httpClient, config.getSeed());
+
+            LoadGenerator generator = new LoadGenerator(httpClient, workload, mix, config.getMaxInFlight());
+            log.info("Warming up for {} at {} req/s with mix {}", config.getWarmup(), config.getRate(), mix);
+            generator.run(config.getRate(), config.getWarmup());
+            log.info("Measuring for {} at {} req/s", config.getDuration(), config.getRate());
+            Map<Operation, OperationStats> stats = generator.run(config.getRate(), config.getDuration());
+            return new LatencyReport(stats, config.getDuration());
+        } finally {
+            FileSystemUtils.deleteRecursively(dataDirectory);
+        }
+    }
+}
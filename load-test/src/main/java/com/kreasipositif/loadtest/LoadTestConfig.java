@@ -0,0 +1,80 @@
+package com.kreasipositif.loadtest;
+
+import lombok.Data;
+import org.springframework.boot.convert.DurationStyle;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Command-line options, given as {@code --name=value}. Durations accept values such as
+ * {@code 30s} or {@code 2m}.
+ */
+@Data
+public class LoadTestConfig {
+
+    /**
+     * Requests per second across all operations.
+     */
+    private double rate = 500;
+
+    /**
+     * Time spent at the target rate before measuring; its latencies are discarded.
+     */
+    private Duration warmup = Duration.ofSeconds(10);
+
+    /**
+     * Measured time at the target rate.
+     */
+    private Duration duration = Duration.ofSeconds(30);
+
+    private String mix = "users.create=5,users.get=40,users.list=5,orders.create=5,orders.get=35,orders.list=10";
+
+    /**
+     * Users and orders created before the run so get requests have records to find.
+     */
+    private int seed = 1000;
+
+    /**
+     * Cap on concurrent requests; beyond it sends are delayed and the delay is measured.
+     */
+    private int maxInFlight = 512;
+
+    private Duration requestTimeout = Duration.ofSeconds(30);
+
+    /**
+     * Thread modes of the services to run the load against: {@code virtual},
+     * {@code platform}, or {@code both} to compare them.
+     */
+    private List<ThreadMode> threads = List.of(ThreadMode.VIRTUAL);
+
+    /**
+     * Directory that receives one timestamped report directory per run.
+     */
+    private Path output = Path.of("target/load-test");
+
+    public static LoadTestConfig parse(String[] args) {
+        LoadTestConfig config = new LoadTestConfig();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (!arg.startsWith("--") || separator < 0) {
+                throw new IllegalArgumentException("Options must look like --name=value: " + arg);
+            }
+            String value = arg.substring(separator + 1);
+            switch (arg.substring(2, separator)) {
+                case "rate" -> config.setRate(Double.parseDouble(value));
+                case "warmup" -> config.setWarmup(DurationStyle.detectAndParse(value));
+                case "duration" -> config.setDuration(DurationStyle.detectAndParse(value));
+                case "mix" -> config.setMix(value);
+                case "seed" -> config.setSeed(Integer.parseInt(value));
+                case "max-in-flight" -> config.setMaxInFlight(Integer.parseInt(value));
+                case "request-timeout" -> config.setRequestTimeout(DurationStyle.detectAndParse(value));
+                case "threads" -> config.setThreads(ThreadMode.parseAll(value));
+                case "output" -> config.setOutput(Path.of(value));
+                default -> throw new IllegalArgumentException("Unknown option: " + arg);
+            }
+        }
+        return config;
+    }
+}
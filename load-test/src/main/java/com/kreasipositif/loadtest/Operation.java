@@ -0,0 +1,32 @@
+package com.kreasipositif.loadtest;
+
+/**
+ * Request kinds the load generator can mix, keyed by the names used in {@code --mix}.
+ */
+public enum Operation {
+    USERS_CREATE("users.create"),
+    USERS_GET("users.get"),
+    USERS_LIST("users.list"),
+    ORDERS_CREATE("orders.create"),
+    ORDERS_GET("orders.get"),
+    ORDERS_LIST("orders.list");
+
+    private final String key;
+
+    Operation(String key) {
+        this.key = key;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public static Operation fromKey(String key) {
+        for (Operation operation : values()) {
+            if (operation.key.equals(key)) {
+                return operation;
+            }
+        }
+        throw new IllegalArgumentException("Unknown operation: " + key);
+    }
+}
@@ -0,0 +1,43 @@
+package com.kreasipositif.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latencies of one operation in microseconds.
+ * <p>
+ * Response time is measured from when the request was scheduled to be sent, so a
+ * stalled server also shows up in the requests that queued behind it. Service time
+ * is measured from when the request was actually sent.
+ */
+public class OperationStats {
+
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final Histogram responseTime = new ConcurrentHistogram(SIGNIFICANT_DIGITS);
+    private final Histogram serviceTime = new ConcurrentHistogram(SIGNIFICANT_DIGITS);
+    private final LongAdder errors = new LongAdder();
+
+    void recordSuccess(long responseMicros, long serviceMicros) {
+        responseTime.recordValue(responseMicros);
+        serviceTime.recordValue(serviceMicros);
+    }
+
+    void recordError() {
+        errors.increment();
+    }
+
+    public Histogram getResponseTime() {
+        return responseTime;
+    }
+
+    public Histogram getServiceTime() {
+        return serviceTime;
+    }
+
+    public long getErrors() {
+        return errors.sum();
+    }
+}
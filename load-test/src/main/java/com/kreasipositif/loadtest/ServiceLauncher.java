@@ -0,0 +1,67 @@
+package com.kreasipositif.loadtest;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Boots a service in this JVM on a random localhost port.
+ */
+final class ServiceLauncher {
+
+    private static final String CONFIG_FILE = "application.properties";
+
+    private ServiceLauncher() {
+    }
+
+    static ConfigurableApplicationContext start(Class<?> application, Map<String, String> properties)
+        throws IOException {
+        List<String> args = new ArrayList<>();
+        args.add("--spring.config.location=" + configFileOf(application));
+        args.add("--server.port=0");
+        args.add("--server.address=127.0.0.1");
+        args.add("--spring.main.banner-mode=off");
+        args.add("--logging.level.root=WARN");
+        args.add("--logging.level.com.kreasipositif.loadtest=INFO");
+        properties.forEach((name, value) -> args.add("--" + name + "=" + value));
+        return new SpringApplicationBuilder(application).main(application).run(args.toArray(new String[0]));
+    }
+
+    static URI baseUri(ConfigurableApplicationContext context) {
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        return URI.create("http://127.0.0.1:" + port);
+    }
+
+    /**
+     * Every service ships its own {@code application.properties} at the classpath root,
+     * so the default lookup would load whichever comes first for both. This picks the
+     * copy from the jar or directory the application class was loaded from.
+     */
+    private static String configFileOf(Class<?> application) throws IOException {
+        String codeSource = normalize(application.getProtectionDomain().getCodeSource().getLocation().toString());
+        for (URL url : Collections.list(application.getClassLoader().getResources(CONFIG_FILE))) {
+            String location = url.toString();
+            if (normalize(location.substring(0, location.length() - CONFIG_FILE.length())).equals(codeSource)) {
+                return location;
+            }
+        }
+        throw new IllegalStateException("No " + CONFIG_FILE + " found next to " + application.getName());
+    }
+
+    private static String normalize(String location) {
+        String normalized = location.startsWith("jar:") ? location.substring("jar:".length()) : location;
+        int end = normalized.length();
+        while (end > 0 && (normalized.charAt(end - 1) == '/' || normalized.charAt(end - 1) == '!')) {
+            end--;
+        }
+        return normalized.substring(0, end);
+    }
+}
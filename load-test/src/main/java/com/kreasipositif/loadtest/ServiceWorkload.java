@@ -0,0 +1,146 @@
+package com.kreasipositif.loadtest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Requests against the user and order APIs. Ids returned by create requests are
+ * kept so later get requests hit existing records, and orders are placed for
+ * existing users, which service-b checks with service-a.
+ */
+@Slf4j
+public class ServiceWorkload implements Workload {
+
+    private static final int ID_POOL_SIZE = 100_000;
+    private static final int PAGE_SIZE = 20;
+    private static final int PRODUCTS = 50;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final URI usersUri;
+    private final URI ordersUri;
+    private final Duration requestTimeout;
+    private final IdPool userIds = new IdPool(ID_POOL_SIZE);
+    private final IdPool orderIds = new IdPool(ID_POOL_SIZE);
+    private final AtomicLong sequence = new AtomicLong();
+
+    public ServiceWorkload(URI usersBaseUri, URI ordersBaseUri, Duration requestTimeout) {
+        this.usersUri = usersBaseUri.resolve("/api/users");
+        this.ordersUri = ordersBaseUri.resolve("/api/orders");
+        this.requestTimeout = requestTimeout;
+    }
+
+    /**
+     * Creates {@code count} users and orders up front so get requests have something to find.
+     */
+    public void seed(HttpClient httpClient, int count) throws IOException, InterruptedException {
+        for (int i = 0; i < count; i++) {
+            for (Operation operation : new Operation[]{Operation.USERS_CREATE, Operation.ORDERS_CREATE}) {
+                HttpResponse<String> response = httpClient.send(request(operation), HttpResponse.BodyHandlers.ofString());
+                if (response.statusCode() >= 400) {
+                    throw new IllegalStateException("Seeding " + operation.getKey() + " failed with status "
+                        + response.statusCode());
+                }
+                completed(operation, response);
+            }
+        }
+        log.info("Seeded {} users and {} orders", count, count);
+    }
+
+    @Override
+    public HttpRequest request(Operation operation) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return switch (operation) {
+            case USERS_CREATE -> {
+                long n = sequence.incrementAndGet();
+                yield post(usersUri, new NewUser("Load User " + n, "load-" + n + "@example.com",
+                    "+6281" + String.format("%08d", n % 100_000_000)));
+            }
+            case USERS_GET -> get(usersUri, "/" + userIds.pick(random));
+            case USERS_LIST -> get(usersUri, "?limit=" + PAGE_SIZE);
+            case ORDERS_CREATE -> post(ordersUri, new NewOrder(userIds.pick(random),
+                "Product " + random.nextInt(PRODUCTS), 1 + random.nextInt(5), 1 + random.nextInt(100_000) / 100.0));
+            case ORDERS_GET -> get(ordersUri, "/" + orderIds.pick(random));
+            case ORDERS_LIST -> get(ordersUri, "?customerId=" + userIds.pick(random) + "&limit=" + PAGE_SIZE);
+        };
+    }
+
+    @Override
+    public void completed(Operation operation, HttpResponse<String> response) {
+        IdPool pool = switch (operation) {
+            case USERS_CREATE -> userIds;
+            case ORDERS_CREATE -> orderIds;
+            default -> null;
+        };
+        if (pool == null) {
+            return;
+        }
+        try {
+            pool.add(objectMapper.readTree(response.body()).path("id").asText());
+        } catch (JsonProcessingException e) {
+            log.warn("Could not read id from {} response: {}", operation.getKey(), e.getMessage());
+        }
+    }
+
+    private HttpRequest get(URI base, String suffix) {
+        return HttpRequest.newBuilder(URI.create(base + suffix))
+            .timeout(requestTimeout)
+            .GET()
+            .build();
+    }
+
+    private HttpRequest post(URI uri, Object body) {
+        try {
+            return HttpRequest.newBuilder(uri)
+                .timeout(requestTimeout)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+                .build();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize request body", e);
+        }
+    }
+
+    private record NewUser(String name, String email, String phone) {
+    }
+
+    private record NewOrder(String customerId, String productName, int quantity, double unitPrice) {
+    }
+
+    /**
+     * Ring of the most recently created ids; old ids are overwritten once it is full.
+     */
+    static final class IdPool {
+
+        private final AtomicReferenceArray<String> ids;
+        private final AtomicLong added = new AtomicLong();
+
+        IdPool(int capacity) {
+            this.ids = new AtomicReferenceArray<>(capacity);
+        }
+
+        void add(String id) {
+            ids.set((int) (added.getAndIncrement() % ids.length()), id);
+        }
+
+        /**
+         * @return a random id, or {@code "missing"} before any id was added
+         */
+        String pick(ThreadLocalRandom random) {
+            int size = (int) Math.min(added.get(), ids.length());
+            String id = size == 0 ? null : ids.get(random.nextInt(size));
+            // A slot can be claimed but not yet written
+            return id != null ? id : "missing";
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.kreasipositif.loadtest;
+
+import java.util.List;
+
+/**
+ * How the services under test handle requests, keyed by the names used in {@code --threads}.
+ */
+public enum ThreadMode {
+    PLATFORM("platform", false),
+    VIRTUAL("virtual", true);
+
+    private final String key;
+    private final boolean virtual;
+
+    ThreadMode(String key, boolean virtual) {
+        this.key = key;
+        this.virtual = virtual;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * Value for the services' {@code spring.threads.virtual.enabled} property.
+     */
+    String virtualThreadsEnabled() {
+        return Boolean.toString(virtual);
+    }
+
+    /**
+     * @return the modes to run, in order; {@code both} runs platform threads first as the baseline
+     */
+    public static List<ThreadMode> parseAll(String value) {
+        if ("both".equals(value)) {
+            return List.of(PLATFORM, VIRTUAL);
+        }
+        for (ThreadMode mode : values()) {
+            if (mode.key.equals(value)) {
+                return List.of(mode);
+            }
+        }
+        throw new IllegalArgumentException("Unknown thread mode: " + value);
+    }
+}
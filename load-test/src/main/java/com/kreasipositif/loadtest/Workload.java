@@ -0,0 +1,21 @@
+package com.kreasipositif.loadtest;
+
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+/**
+ * Turns operations into concrete requests for {@link LoadGenerator}.
+ */
+public interface Workload {
+
+    /**
+     * Called on the dispatching thread, so it must not block.
+     */
+    HttpRequest request(Operation operation);
+
+    /**
+     * Called with every successful response, from the thread that received it.
+     */
+    default void completed(Operation operation, HttpResponse<String> response) {
+    }
+}
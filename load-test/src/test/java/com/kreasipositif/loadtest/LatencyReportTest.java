@@ -0,0 +1,65 @@
+package com.kreasipositif.loadtest;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LatencyReportTest {
+
+    @Test
+    void testWriteTo_WritesSummaryAndHistograms(@TempDir Path directory) throws Exception {
+        // Arrange
+        OperationStats stats = new OperationStats();
+        for (int i = 1; i <= 1000; i++) {
+            stats.recordSuccess(i * 1_000L, 500);
+        }
+        stats.recordError();
+        LatencyReport report = new LatencyReport(Map.of(Operation.USERS_GET, stats), Duration.ofSeconds(10));
+
+        // Act
+        report.writeTo(directory);
+
+        // Assert
+        List<String> summary = Files.readAllLines(directory.resolve(LatencyReport.SUMMARY_FILE));
+        assertEquals(2, summary.size());
+        assertTrue(summary.get(0).startsWith("operation,count,errors,throughput_per_second,p50_ms"));
+        String[] row = summary.get(1).split(",");
+        assertEquals("users.get", row[0]);
+        assertEquals("1000", row[1]);
+        assertEquals("1", row[2]);
+        assertEquals("100.000", row[3]);
+        assertEquals(500.0, Double.parseDouble(row[4]), 1.0);
+        assertEquals(990.0, Double.parseDouble(row[6]), 1.0);
+        assertTrue(Files.readString(directory.resolve("users.get.hgrm")).contains("Percentile"));
+        assertTrue(report.summary().contains("users.get"));
+    }
+
+    @Test
+    void testComparison_ListsEachOperationOncePerRun() {
+        // Arrange
+        Map<String, LatencyReport> runs = new LinkedHashMap<>();
+        for (String run : List.of("platform", "virtual")) {
+            OperationStats stats = new OperationStats();
+            for (int i = 1; i <= 100; i++) {
+                stats.recordSuccess(i * (run.equals("platform") ? 2_000L : 1_000L), 500);
+            }
+            runs.put(run, new LatencyReport(Map.of(Operation.ORDERS_GET, stats), Duration.ofSeconds(10)));
+        }
+
+        // Act
+        List<String> lines = LatencyReport.comparison(runs).lines().toList();
+
+        // Assert
+        assertEquals(3, lines.size());
+        assertTrue(lines.get(1).matches("orders\\.get\\s+platform\\s+10\\.000\\s+0\\s+100\\..*"), lines.get(1));
+        assertTrue(lines.get(2).matches("orders\\.get\\s+virtual\\s+10\\.000\\s+0\\s+50\\..*"), lines.get(2));
+    }
+}
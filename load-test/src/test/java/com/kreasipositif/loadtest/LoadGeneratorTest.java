@@ -0,0 +1,100 @@
+package com.kreasipositif.loadtest;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LoadGeneratorTest {
+
+    private HttpServer server;
+    private URI baseUri;
+    private final AtomicInteger received = new AtomicInteger();
+    private volatile long stallMillis;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/ok", exchange -> {
+            if (received.incrementAndGet() == 1 && stallMillis > 0) {
+                try {
+                    Thread.sleep(stallMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            exchange.sendResponseHeaders(200, -1);
+            exchange.close();
+        });
+        server.createContext("/fail", exchange -> {
+            exchange.sendResponseHeaders(500, -1);
+            exchange.close();
+        });
+        // One handler thread, so a stall holds up every request behind it
+        server.setExecutor(Executors.newSingleThreadExecutor());
+        server.start();
+        baseUri = URI.create("http://127.0.0.1:" + server.getAddress().getPort());
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    private LoadGenerator generator(String mix) {
+        Workload workload = operation -> HttpRequest.newBuilder(
+            baseUri.resolve(operation == Operation.USERS_GET ? "/ok" : "/fail")).build();
+        return new LoadGenerator(HttpClient.newHttpClient(), workload, TrafficMix.parse(mix), 64);
+    }
+
+    @Test
+    void testRun_SendsAtFixedRate() throws Exception {
+        // Act
+        Map<Operation, OperationStats> stats = generator("users.get=1").run(200, Duration.ofSeconds(1));
+
+        // Assert
+        assertEquals(200, stats.get(Operation.USERS_GET).getResponseTime().getTotalCount());
+        assertEquals(0, stats.get(Operation.USERS_GET).getErrors());
+        assertEquals(200, received.get());
+    }
+
+    @Test
+    void testRun_ChargesStallToQueuedRequests() throws Exception {
+        // Arrange
+        stallMillis = 500;
+
+        // Act
+        OperationStats stats = generator("users.get=1").run(100, Duration.ofSeconds(1)).get(Operation.USERS_GET);
+
+        // Assert
+        // Requests due in the first half of the stall queued behind it, so they are charged 250 ms or more
+        assertEquals(100, stats.getResponseTime().getTotalCount());
+        assertTrue(stats.getResponseTime().getCountBetweenValues(250_000, Long.MAX_VALUE) >= 20);
+        assertTrue(stats.getResponseTime().getValueAtPercentile(50) < 250_000);
+        assertTrue(stats.getServiceTime().getValueAtPercentile(50) <= stats.getResponseTime().getValueAtPercentile(50));
+    }
+
+    @Test
+    void testRun_CountsErrorResponses() throws Exception {
+        // Act
+        Map<Operation, OperationStats> stats = generator("users.get=1,orders.get=1").run(100, Duration.ofMillis(500));
+
+        // Assert
+        OperationStats failed = stats.get(Operation.ORDERS_GET);
+        assertTrue(failed.getErrors() > 0);
+        assertEquals(0, failed.getResponseTime().getTotalCount());
+        assertEquals(50, failed.getErrors() + stats.get(Operation.USERS_GET).getResponseTime().getTotalCount());
+    }
+}
@@ -0,0 +1,50 @@
+package com.kreasipositif.loadtest;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TrafficMixTest {
+
+    @Test
+    void testParse_SkipsZeroWeightsAndMergesDuplicates() {
+        // Act
+        TrafficMix mix = TrafficMix.parse("users.get=30, orders.get=0,users.get=10,orders.create=60");
+
+        // Assert
+        assertEquals(Map.of(Operation.USERS_GET, 40, Operation.ORDERS_CREATE, 60), mix.getWeights());
+        assertEquals("users.get=40,orders.create=60", mix.toString());
+    }
+
+    @Test
+    void testParse_WithInvalidSpec_ThrowsException() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> TrafficMix.parse("users.delete=10"));
+        assertThrows(IllegalArgumentException.class, () -> TrafficMix.parse("users.get"));
+        assertThrows(IllegalArgumentException.class, () -> TrafficMix.parse("users.get=-1"));
+        assertThrows(IllegalArgumentException.class, () -> TrafficMix.parse("users.get=many"));
+        assertThrows(IllegalArgumentException.class, () -> TrafficMix.parse("users.get=0"));
+    }
+
+    @Test
+    void testNext_FollowsWeights() {
+        // Arrange
+        TrafficMix mix = TrafficMix.parse("users.get=75,orders.list=25");
+        SplittableRandom random = new SplittableRandom(7);
+        Map<Operation, Integer> counts = new EnumMap<>(Operation.class);
+
+        // Act
+        for (int i = 0; i < 100_000; i++) {
+            counts.merge(mix.next(random), 1, Integer::sum);
+        }
+
+        // Assert
+        assertEquals(2, counts.size());
+        assertEquals(75_000, counts.get(Operation.USERS_GET), 1_000);
+        assertEquals(25_000, counts.get(Operation.ORDERS_LIST), 1_000);
+    }
+}
@@ -0,0 +1,29 @@
+package com.kreasipositif.servicea.config;
+
+import com.kreasipositif.servicea.model.User;
+import com.kreasipositif.servicea.service.UserService;
+import com.kreasipositif.utility.feed.ChangeFeed;
+import com.kreasipositif.utility.feed.ChangeFeedStream;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class ChangeFeedConfig {
+
+    @Bean
+    public ChangeFeed<User> userChangeFeed(UserFeedProperties properties, MeterRegistry registry) {
+        ChangeFeed<User> feed = new ChangeFeed<>(properties.getCapacity(), properties.getMaxSubscribers());
+        Gauge.builder("users.feed.subscribers", feed, ChangeFeed::subscriberCount)
+            .description("Open user change streams")
+            .register(registry);
+        return feed;
+    }
+
+    @Bean
+    public ChangeFeedStream<User> userChangeStream(ChangeFeed<User> userChangeFeed, UserService userService,
+                                                   UserFeedProperties properties) {
+        return new ChangeFeedStream<>(userChangeFeed, userService::toJson, properties.getHeartbeat());
+    }
+}
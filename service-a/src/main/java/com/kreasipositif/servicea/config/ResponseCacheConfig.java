@@ -0,0 +1,18 @@
+package com.kreasipositif.servicea.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kreasipositif.servicea.dto.UserResponse;
+import com.kreasipositif.servicea.model.User;
+import com.kreasipositif.utility.cache.ResponseCache;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class ResponseCacheConfig {
+
+    @Bean
+    public ResponseCache<User, UserResponse> userResponseCache(UserCacheProperties properties,
+                                                               ObjectMapper objectMapper) {
+        return new ResponseCache<>(properties.getMaxEntries(), objectMapper::writeValueAsBytes);
+    }
+}
@@ -0,0 +1,15 @@
+package com.kreasipositif.servicea.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "users.cache")
+public class UserCacheProperties {
+
+    /**
+     * Maximum number of user responses kept formatted and serialized. Zero disables
+     * the cache.
+     */
+    private int maxEntries = 100_000;
+}
@@ -0,0 +1,27 @@
+package com.kreasipositif.servicea.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "users.feed")
+public class UserFeedProperties {
+
+    /**
+     * Number of recent changes kept for subscribers to resume from. A subscriber that
+     * falls this far behind is disconnected.
+     */
+    private int capacity = 4096;
+
+    /**
+     * Maximum number of open change streams; further subscribers get 503.
+     */
+    private int maxSubscribers = 10_000;
+
+    /**
+     * How often an idle stream sends a keep-alive comment.
+     */
+    private Duration heartbeat = Duration.ofSeconds(15);
+}
@@ -1,13 +1,21 @@
 package com.kreasipositif.servicea.controller;
 
 import com.kreasipositif.servicea.dto.CreateUserRequest;
+import com.kreasipositif.servicea.dto.UserLookupRequest;
 import com.kreasipositif.servicea.dto.UserResponse;
+import com.kreasipositif.servicea.model.User;
 import com.kreasipositif.servicea.service.UserService;
+import com.kreasipositif.utility.feed.ChangeFeed;
+import com.kreasipositif.utility.feed.ChangeFeedStream;
+import com.kreasipositif.utility.pagination.CursorPage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -18,6 +26,8 @@ import java.util.List;
 public class UserController {
 
     private final UserService userService;
+    private final ChangeFeed<User> userChangeFeed;
+    private final ChangeFeedStream<User> userChangeStream;
 
     @PostMapping
     public ResponseEntity<UserResponse> createUser(@RequestBody CreateUserRequest request) {
@@ -31,15 +41,55 @@ public class UserController {
     }
 
     @GetMapping
-    public ResponseEntity<List<UserResponse>> getAllUsers() {
-        List<UserResponse> users = userService.getAllUsers();
-        return ResponseEntity.ok(users);
+    public ResponseEntity<CursorPage<UserResponse>> getAllUsers(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "100") int limit) {
+        try {
+            CursorPage<UserResponse> users = userService.getUsers(cursor, limit);
+            return ResponseEntity.ok(users);
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid page request: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * Streams user changes as server-sent events. A reconnecting client resumes after
+     * its {@code Last-Event-ID}; {@code since} does the same for a first connection.
+     */
+    @GetMapping(value = "/changes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamChanges(
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId,
+            @RequestParam(required = false) Long since) {
+        // Only a check: the stream takes its slot when it starts, so one that never runs holds none
+        if (!userChangeFeed.hasRoom()) {
+            log.warn("Rejecting user change subscriber, {} already open", userChangeFeed.subscriberCount());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+        Long after = lastEventId != null ? lastEventId : since;
+        return ResponseEntity.ok()
+            .contentType(MediaType.TEXT_EVENT_STREAM)
+            .cacheControl(CacheControl.noStore())
+            .body(out -> userChangeStream.writeTo(out, after));
+    }
+
+    /**
+     * Returns the users with the given ids; unknown ids are left out.
+     */
+    @PostMapping("/lookup")
+    public ResponseEntity<List<UserResponse>> lookupUsers(@RequestBody UserLookupRequest request) {
+        try {
+            return ResponseEntity.ok(userService.getUsersByIds(request.getIds()));
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid lookup request: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<UserResponse> getUserById(@PathVariable String id) {
-        return userService.getUserById(id)
-            .map(ResponseEntity::ok)
+    public ResponseEntity<byte[]> getUserById(@PathVariable String id) {
+        return userService.getUserJsonById(id)
+            .map(json -> ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(json))
             .orElse(ResponseEntity.notFound().build());
     }
 }
@@ -0,0 +1,37 @@
+package com.kreasipositif.servicea.controller;
+
+import com.kreasipositif.servicea.dto.UserImportJobResponse;
+import com.kreasipositif.servicea.dto.UserImportRequest;
+import com.kreasipositif.servicea.importer.UserImportService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/users/import")
+@RequiredArgsConstructor
+public class UserImportController {
+
+    private final UserImportService userImportService;
+
+    @PostMapping
+    public ResponseEntity<UserImportJobResponse> startImport(@RequestBody UserImportRequest request) {
+        try {
+            UserImportJobResponse job = userImportService.startImport(request.getFileName());
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(job);
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid import request: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @GetMapping("/{jobId}")
+    public ResponseEntity<UserImportJobResponse> getImport(@PathVariable String jobId) {
+        return userImportService.getJob(jobId)
+            .map(ResponseEntity::ok)
+            .orElse(ResponseEntity.notFound().build());
+    }
+}
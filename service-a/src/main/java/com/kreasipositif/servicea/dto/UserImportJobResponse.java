@@ -0,0 +1,32 @@
+package com.kreasipositif.servicea.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserImportJobResponse {
+    private String id;
+    private String fileName;
+    private String status;
+    private long totalBytes;
+    private long processedBytes;
+    private long acceptedRows;
+    private long rejectedRows;
+    private List<RejectedRow> rejected;
+    private String error;
+    private String startedAt;
+    private String finishedAt;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RejectedRow {
+        private long offset;
+        private String reason;
+    }
+}
@@ -0,0 +1,12 @@
+package com.kreasipositif.servicea.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserImportRequest {
+    private String fileName;
+}
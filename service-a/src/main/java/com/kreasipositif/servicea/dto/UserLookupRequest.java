@@ -0,0 +1,14 @@
+package com.kreasipositif.servicea.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserLookupRequest {
+    private List<String> ids;
+}
@@ -0,0 +1,105 @@
+package com.kreasipositif.servicea.importer;
+
+import com.kreasipositif.servicea.dto.UserImportJobResponse;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Progress of one import, updated concurrently by the chunk workers and read by
+ * status requests.
+ */
+@Getter
+final class UserImportJob {
+
+    enum Status { QUEUED, RUNNING, COMPLETED, FAILED }
+
+    enum Format { CSV, NDJSON }
+
+    private final String id;
+    private final Path file;
+    private final Format format;
+    private final long totalBytes;
+    @Getter(AccessLevel.NONE)
+    private final int maxReportedRejections;
+
+    private final AtomicLong processedBytes = new AtomicLong();
+    private final LongAdder acceptedRows = new LongAdder();
+    private final LongAdder rejectedRows = new LongAdder();
+    private final Queue<UserImportJobResponse.RejectedRow> rejections = new ConcurrentLinkedQueue<>();
+    @Getter(AccessLevel.NONE)
+    private final AtomicInteger reportedRejections = new AtomicInteger();
+
+    private volatile Status status = Status.QUEUED;
+    private volatile String error;
+    private volatile LocalDateTime startedAt;
+    private volatile LocalDateTime finishedAt;
+
+    UserImportJob(String id, Path file, Format format, long totalBytes, int maxReportedRejections) {
+        this.id = id;
+        this.file = file;
+        this.format = format;
+        this.totalBytes = totalBytes;
+        this.maxReportedRejections = maxReportedRejections;
+    }
+
+    long getProcessedBytes() {
+        return processedBytes.get();
+    }
+
+    long getAcceptedRows() {
+        return acceptedRows.sum();
+    }
+
+    long getRejectedRows() {
+        return rejectedRows.sum();
+    }
+
+    List<UserImportJobResponse.RejectedRow> getRejections() {
+        return List.copyOf(rejections);
+    }
+
+    void started() {
+        startedAt = LocalDateTime.now();
+        status = Status.RUNNING;
+    }
+
+    void completed() {
+        finishedAt = LocalDateTime.now();
+        status = Status.COMPLETED;
+    }
+
+    void failed(String reason) {
+        error = reason;
+        finishedAt = LocalDateTime.now();
+        status = Status.FAILED;
+    }
+
+    void processed(long bytes) {
+        processedBytes.addAndGet(bytes);
+    }
+
+    void accepted(int rows) {
+        acceptedRows.add(rows);
+    }
+
+    /**
+     * Counts a rejected row and keeps it for the report while there is room.
+     *
+     * @param offset byte offset of the row in the file
+     */
+    void rejected(long offset, String reason) {
+        rejectedRows.increment();
+        if (reportedRejections.getAndIncrement() < maxReportedRejections) {
+            rejections.add(new UserImportJobResponse.RejectedRow(offset, reason));
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.kreasipositif.servicea.importer;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "users.import")
+public class UserImportProperties {
+
+    /**
+     * Directory import files are read from. Requested files must resolve inside it.
+     */
+    private String directory = "data/import";
+
+    /**
+     * Number of chunks parsed and validated at the same time. Zero or negative uses
+     * one worker per available processor.
+     */
+    private int parallelism = 0;
+
+    /**
+     * Target size of the slices a file is split into; each slice is extended to the
+     * next line break so no record spans two slices.
+     */
+    private int chunkSizeBytes = 8 * 1024 * 1024;
+
+    /**
+     * Number of parsed rows inserted and journaled together.
+     */
+    private int batchSize = 1000;
+
+    /**
+     * Maximum number of rejected rows kept for the job report. Further rejections
+     * are still counted.
+     */
+    private int maxReportedRejections = 1000;
+
+    /**
+     * Number of most recently started jobs kept for status requests, the running one
+     * included; older ones are forgotten. Queued jobs are always kept.
+     */
+    private int jobHistory = 100;
+}
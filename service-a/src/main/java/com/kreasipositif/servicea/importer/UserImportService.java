@@ -0,0 +1,368 @@
+package com.kreasipositif.servicea.importer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kreasipositif.servicea.dto.CreateUserRequest;
+import com.kreasipositif.servicea.dto.UserImportJobResponse;
+import com.kreasipositif.servicea.service.UserService;
+import com.kreasipositif.utility.formatter.DateFormatter;
+import com.kreasipositif.utility.generator.IdGenerator;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bulk-loads users from CSV ({@code name,email,phone}, optional header) or NDJSON
+ * files in the import directory.
+ * <p>
+ * A job memory-maps its file in slices that end on a line break and hands each slice
+ * to a fork-join pool, where it is parsed, validated and inserted in batches through
+ * {@link UserService#createUsers}. Bad rows are counted and reported with their byte
+ * offset; they never stop the import. Jobs run one at a time in submission order, and
+ * only the last {@link UserImportProperties#getJobHistory()} started ones are kept.
+ * Records must fit on one line, so quoted CSV fields cannot contain line breaks.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserImportService {
+
+    private static final String CSV_HEADER = "name,email,phone";
+    private static final char BYTE_ORDER_MARK = '\uFEFF';
+    private static final int PROBE_BYTES = 8192;
+
+    private final UserImportProperties properties;
+    private final UserService userService;
+    private final IdGenerator idGenerator;
+    private final DateFormatter dateFormatter;
+    private final ObjectMapper objectMapper;
+
+    private final Map<String, UserImportJob> jobs = new ConcurrentHashMap<>();
+    // Ids of started jobs, oldest first; only the job runner touches it
+    private final Deque<String> startedJobs = new ArrayDeque<>();
+    private ExecutorService jobRunner;
+    private ForkJoinPool workers;
+
+    @PostConstruct
+    public void start() {
+        int parallelism = properties.getParallelism() > 0
+            ? properties.getParallelism()
+            : Runtime.getRuntime().availableProcessors();
+        workers = new ForkJoinPool(parallelism);
+        jobRunner = Executors.newSingleThreadExecutor(Thread.ofPlatform().name("user-import").daemon().factory());
+    }
+
+    @PreDestroy
+    public void close() throws InterruptedException {
+        jobRunner.shutdownNow();
+        workers.shutdownNow();
+        workers.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Queues an import of a file in the import directory.
+     *
+     * @throws IllegalArgumentException if the file is outside the import directory,
+     *                                  missing, or not a {@code .csv}/{@code .ndjson} file
+     */
+    public UserImportJobResponse startImport(String fileName) {
+        Path file = resolve(fileName);
+        UserImportJob.Format format = formatOf(file);
+        long size;
+        try {
+            size = Files.size(file);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Import file is not readable");
+        }
+
+        UserImportJob job = new UserImportJob(idGenerator.generateUUID(), file, format, size,
+            properties.getMaxReportedRejections());
+        jobs.put(job.getId(), job);
+        jobRunner.submit(() -> run(job));
+        log.info("Queued user import {} of {} ({} bytes)", job.getId(), file.getFileName(), size);
+        return convertToResponse(job);
+    }
+
+    public Optional<UserImportJobResponse> getJob(String jobId) {
+        return Optional.ofNullable(jobs.get(jobId)).map(this::convertToResponse);
+    }
+
+    private Path resolve(String fileName) {
+        if (fileName == null || fileName.isBlank()) {
+            throw new IllegalArgumentException("File name is required");
+        }
+        try {
+            Path directory = Paths.get(properties.getDirectory()).toRealPath();
+            Path file = directory.resolve(fileName).normalize();
+            if (!file.startsWith(directory)) {
+                throw new IllegalArgumentException("File must be inside the import directory");
+            }
+            if (!Files.isRegularFile(file)) {
+                throw new IllegalArgumentException("Import file not found");
+            }
+            // Reject symbolic links that lead out of the directory
+            Path real = file.toRealPath();
+            if (!real.startsWith(directory)) {
+                throw new IllegalArgumentException("File must be inside the import directory");
+            }
+            return real;
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Import file not found");
+        }
+    }
+
+    private static UserImportJob.Format formatOf(Path file) {
+        String name = file.getFileName().toString().toLowerCase(Locale.ROOT);
+        if (name.endsWith(".csv")) {
+            return UserImportJob.Format.CSV;
+        }
+        if (name.endsWith(".ndjson") || name.endsWith(".jsonl")) {
+            return UserImportJob.Format.NDJSON;
+        }
+        throw new IllegalArgumentException("Unsupported import file type");
+    }
+
+    private void run(UserImportJob job) {
+        startedJobs.addLast(job.getId());
+        while (startedJobs.size() > Math.max(1, properties.getJobHistory())) {
+            jobs.remove(startedJobs.removeFirst());
+        }
+        job.started();
+        long started = System.nanoTime();
+        try (FileChannel channel = FileChannel.open(job.getFile(), StandardOpenOption.READ)) {
+            List<ForkJoinTask<?>> tasks = new ArrayList<>();
+            long start = 0;
+            while (start < job.getTotalBytes()) {
+                long end = nextLineStart(channel,
+                    Math.min(job.getTotalBytes(), start + properties.getChunkSizeBytes()), job.getTotalBytes());
+                long chunkStart = start;
+                tasks.add(workers.submit(() -> importChunk(job, channel, chunkStart, end)));
+                start = end;
+            }
+
+            RuntimeException failure = null;
+            for (ForkJoinTask<?> task : tasks) {
+                try {
+                    task.join();
+                } catch (RuntimeException e) {
+                    if (failure == null) {
+                        failure = e;
+                    }
+                }
+            }
+            if (failure != null) {
+                throw failure;
+            }
+            job.completed();
+            log.info("User import {} finished in {} ms: {} accepted, {} rejected", job.getId(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started),
+                job.getAcceptedRows(), job.getRejectedRows());
+        } catch (IOException | RuntimeException e) {
+            log.error("User import {} failed", job.getId(), e);
+            job.failed(e.getMessage());
+        }
+    }
+
+    /**
+     * @return the offset just past the first line break at or after {@code position - 1},
+     * or {@code size} if there is none
+     */
+    private static long nextLineStart(FileChannel channel, long position, long size) throws IOException {
+        if (position >= size) {
+            return size;
+        }
+        ByteBuffer probe = ByteBuffer.allocate(PROBE_BYTES);
+        long offset = position - 1;
+        while (offset < size) {
+            probe.clear();
+            int read = channel.read(probe, offset);
+            if (read <= 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                if (probe.get(i) == '\n') {
+                    return offset + i + 1;
+                }
+            }
+            offset += read;
+        }
+        return size;
+    }
+
+    private void importChunk(UserImportJob job, FileChannel channel, long start, long end) {
+        MappedByteBuffer buffer;
+        try {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        int batchSize = properties.getBatchSize();
+        List<CreateUserRequest> batch = new ArrayList<>(batchSize);
+        long[] offsets = new long[batchSize];
+        int limit = buffer.limit();
+        int flushedAt = 0;
+        int lineStart = 0;
+        while (lineStart < limit) {
+            int lineEnd = lineStart;
+            while (lineEnd < limit && buffer.get(lineEnd) != '\n') {
+                lineEnd++;
+            }
+            long offset = start + lineStart;
+            String line = decodeLine(buffer, lineStart, lineEnd, offset == 0);
+            lineStart = lineEnd + 1;
+
+            if (line.isBlank() || (offset == 0 && job.getFormat() == UserImportJob.Format.CSV
+                    && line.strip().equalsIgnoreCase(CSV_HEADER))) {
+                continue;
+            }
+            try {
+                batch.add(parse(line, job.getFormat()));
+                offsets[batch.size() - 1] = offset;
+            } catch (IllegalArgumentException e) {
+                job.rejected(offset, e.getMessage());
+            }
+            if (batch.size() == batchSize) {
+                insert(job, batch, offsets);
+                int consumed = Math.min(lineStart, limit);
+                job.processed(consumed - flushedAt);
+                flushedAt = consumed;
+            }
+        }
+        insert(job, batch, offsets);
+        job.processed(limit - flushedAt);
+    }
+
+    private static String decodeLine(ByteBuffer buffer, int from, int to, boolean startOfFile) {
+        if (to > from && buffer.get(to - 1) == '\r') {
+            to--;
+        }
+        byte[] bytes = new byte[to - from];
+        buffer.get(from, bytes);
+        String line = new String(bytes, StandardCharsets.UTF_8);
+        if (startOfFile && !line.isEmpty() && line.charAt(0) == BYTE_ORDER_MARK) {
+            line = line.substring(1);
+        }
+        return line;
+    }
+
+    private void insert(UserImportJob job, List<CreateUserRequest> batch, long[] offsets) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            String[] errors = userService.createUsers(batch);
+            int accepted = 0;
+            for (int i = 0; i < errors.length; i++) {
+                if (errors[i] == null) {
+                    accepted++;
+                } else {
+                    job.rejected(offsets[i], errors[i]);
+                }
+            }
+            job.accepted(accepted);
+        } catch (RuntimeException e) {
+            log.error("Failed to store batch of {} imported users", batch.size(), e);
+            for (int i = 0; i < batch.size(); i++) {
+                job.rejected(offsets[i], "Failed to store user");
+            }
+        }
+        batch.clear();
+    }
+
+    private CreateUserRequest parse(String line, UserImportJob.Format format) {
+        if (format == UserImportJob.Format.NDJSON) {
+            try {
+                return objectMapper.readValue(line, CreateUserRequest.class);
+            } catch (JsonProcessingException e) {
+                throw new IllegalArgumentException("Malformed JSON");
+            }
+        }
+        List<String> fields = splitCsv(line);
+        if (fields.size() != 3) {
+            throw new IllegalArgumentException("Expected 3 fields but found " + fields.size());
+        }
+        return new CreateUserRequest(fields.get(0), fields.get(1), fields.get(2));
+    }
+
+    static List<String> splitCsv(String line) {
+        List<String> fields = new ArrayList<>(3);
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c != '"') {
+                    field.append(c);
+                } else if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString().strip());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("Unterminated quoted field");
+        }
+        fields.add(field.toString().strip());
+        return fields;
+    }
+
+    private UserImportJobResponse convertToResponse(UserImportJob job) {
+        List<UserImportJobResponse.RejectedRow> rejected = new ArrayList<>(job.getRejections());
+        rejected.sort(Comparator.comparingLong(UserImportJobResponse.RejectedRow::getOffset));
+        return new UserImportJobResponse(
+            job.getId(),
+            job.getFile().getFileName().toString(),
+            job.getStatus().name(),
+            job.getTotalBytes(),
+            job.getProcessedBytes(),
+            job.getAcceptedRows(),
+            job.getRejectedRows(),
+            rejected,
+            job.getError(),
+            formatTime(job.getStartedAt()),
+            formatTime(job.getFinishedAt())
+        );
+    }
+
+    private String formatTime(LocalDateTime time) {
+        return time == null ? null : dateFormatter.formatDateTime(time);
+    }
+}
@@ -0,0 +1,105 @@
+package com.kreasipositif.servicea.metrics;
+
+import com.kreasipositif.servicea.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Meters for the user service. Meters are registered once up front and recorded with
+ * start times from {@link System#nanoTime()}, so recording allocates nothing on the
+ * request path. Histogram buckets for {@code users.operations} are configured through
+ * {@code management.metrics.distribution.*}.
+ */
+@Component
+public class UserMetrics {
+
+    public enum Operation {
+        CREATE, CREATE_BATCH, GET, LIST, LOOKUP;
+
+        private final String tag = name().toLowerCase(Locale.ROOT);
+
+        String tag() {
+            return tag;
+        }
+    }
+
+    // Rejection reasons are fixed messages today; the cap keeps a future dynamic one from exploding the series
+    static final int MAX_REJECTION_REASONS = 32;
+    static final String OTHER_REASON = "other";
+
+    private final MeterRegistry registry;
+    private final Map<Operation, Timer> operationTimers = new EnumMap<>(Operation.class);
+    private final Map<String, Counter> rejections = new ConcurrentHashMap<>();
+    private final Timer idGeneration;
+    private final Timer responseConversion;
+
+    public UserMetrics(MeterRegistry registry, UserRepository userRepository) {
+        this.registry = registry;
+        for (Operation operation : Operation.values()) {
+            operationTimers.put(operation, Timer.builder("users.operations")
+                .description("Time spent in user service operations")
+                .tag("operation", operation.tag())
+                .register(registry));
+        }
+        this.idGeneration = Timer.builder("users.id.generation")
+            .description("Time spent generating user ids")
+            .register(registry);
+        this.responseConversion = Timer.builder("users.response.conversion")
+            .description("Time spent formatting users into responses")
+            .register(registry);
+
+        Gauge.builder("users.store.size", userRepository, UserRepository::count)
+            .description("Users held in memory")
+            .register(registry);
+        Gauge.builder("users.index.size", userRepository, UserRepository::emailIndexSize)
+            .description("Entries in the secondary user indexes")
+            .tag("index", "email")
+            .register(registry);
+    }
+
+    public void recordOperation(Operation operation, long startNanos) {
+        operationTimers.get(operation).record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordIdGeneration(long startNanos) {
+        idGeneration.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordResponseConversion(long startNanos) {
+        responseConversion.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Counts a user rejected for {@code reason}, under {@code users.validation.failures}.
+     */
+    public void recordRejection(String reason) {
+        String tag = reasonTag(reason);
+        Counter counter = rejections.get(tag);
+        if (counter == null) {
+            if (rejections.size() >= MAX_REJECTION_REASONS) {
+                tag = OTHER_REASON;
+            }
+            counter = rejections.computeIfAbsent(tag, key -> Counter.builder("users.validation.failures")
+                .description("Users rejected, by reason")
+                .tag("reason", key)
+                .register(registry));
+        }
+        counter.increment();
+    }
+
+    static String reasonTag(String reason) {
+        if (reason == null || reason.isBlank()) {
+            return OTHER_REASON;
+        }
+        return reason.trim().toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9]+", "_").replaceAll("^_|_$", "");
+    }
+}
@@ -0,0 +1,150 @@
+package com.kreasipositif.servicea.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Flight Recorder event for one user service call, with the time spent in each phase.
+ * The service marks the end of each phase as it goes. While no recording has the
+ * event enabled, {@link #start} hands out a shared inactive instance on which every
+ * call is a no-op, so the request path neither allocates nor reads the clock.
+ */
+@Name("com.kreasipositif.users.Operation")
+@Label("User Operation")
+@Category({"Kreasipositif", "Users"})
+@Description("One user service call, broken down by phase")
+@StackTrace(false)
+public class UserOperationEvent extends Event {
+
+    @Label("Operation")
+    private String operation;
+
+    @Label("Users")
+    @Description("Users in the request")
+    private int users;
+
+    @Label("Rejected")
+    private int rejected;
+
+    @Label("Validation")
+    @Timespan(Timespan.NANOSECONDS)
+    private long validation;
+
+    @Label("ID Generation")
+    @Timespan(Timespan.NANOSECONDS)
+    private long idGeneration;
+
+    @Label("Storage")
+    @Description("Repository inserts and lookups")
+    @Timespan(Timespan.NANOSECONDS)
+    private long storage;
+
+    @Label("Journaling")
+    @Description("Appending to the write-ahead log")
+    @Timespan(Timespan.NANOSECONDS)
+    private long journaling;
+
+    @Label("Formatting")
+    @Description("Building or fetching the cached response")
+    @Timespan(Timespan.NANOSECONDS)
+    private long formatting;
+
+    @Label("Response Size")
+    @DataAmount
+    private int responseSize;
+
+    private final transient boolean active;
+    private transient long phaseStart;
+
+    private UserOperationEvent(UserMetrics.Operation operation, long startNanos, boolean active) {
+        this.operation = operation.tag();
+        this.phaseStart = startNanos;
+        this.active = active;
+    }
+
+    public static UserOperationEvent start(UserMetrics.Operation operation, long startNanos) {
+        if (!Holder.TYPE.isEnabled()) {
+            return Holder.INACTIVE;
+        }
+        UserOperationEvent event = new UserOperationEvent(operation, startNanos, true);
+        event.begin();
+        return event;
+    }
+
+    public void users(int count) {
+        if (active) {
+            users = count;
+        }
+    }
+
+    public void rejected(int count) {
+        if (active) {
+            rejected = count;
+        }
+    }
+
+    public void validated() {
+        if (active) {
+            validation += lap();
+        }
+    }
+
+    public void idsGenerated() {
+        if (active) {
+            idGeneration += lap();
+        }
+    }
+
+    public void stored() {
+        if (active) {
+            storage += lap();
+        }
+    }
+
+    public void journaled() {
+        if (active) {
+            journaling += lap();
+        }
+    }
+
+    public void formatted() {
+        if (active) {
+            formatting += lap();
+        }
+    }
+
+    public void responseSize(int bytes) {
+        if (active) {
+            responseSize = bytes;
+        }
+    }
+
+    /**
+     * Commits the event if it is active; use this instead of {@link #commit()}.
+     */
+    public void finish() {
+        if (active) {
+            commit();
+        }
+    }
+
+    private long lap() {
+        long now = System.nanoTime();
+        long elapsed = now - phaseStart;
+        phaseStart = now;
+        return elapsed;
+    }
+
+    // Deferred to first use so the event class is fully initialized before it is registered
+    private static final class Holder {
+        static final EventType TYPE = EventType.getEventType(UserOperationEvent.class);
+        static final UserOperationEvent INACTIVE = new UserOperationEvent(UserMetrics.Operation.GET, 0, false);
+    }
+}
@@ -0,0 +1,41 @@
+package com.kreasipositif.servicea.persistence;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "users.persistence")
+public class UserPersistenceProperties {
+
+    /**
+     * Whether created users are journaled to disk and recovered on startup.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Directory holding log segments and snapshots.
+     */
+    private String directory = "data/users";
+
+    /**
+     * Size after which the active log segment is closed and a new one started.
+     */
+    private long segmentSizeBytes = 64L * 1024 * 1024;
+
+    /**
+     * Maximum number of records written and fsynced together by one group commit.
+     */
+    private int groupCommitMaxBatch = 1024;
+
+    /**
+     * Maximum number of appends waiting for the writer before callers block.
+     */
+    private int queueCapacity = 16_384;
+
+    /**
+     * How often a compacted snapshot is written. Zero or negative disables snapshots.
+     */
+    private Duration snapshotInterval = Duration.ofMinutes(10);
+}
@@ -0,0 +1,141 @@
+package com.kreasipositif.servicea.persistence;
+
+import com.kreasipositif.servicea.model.User;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.zip.CRC32C;
+
+/**
+ * Binary framing of a user record shared by log segments and snapshots:
+ * {@code [int payloadLength][int crc32c][payload]}. A record whose length or checksum
+ * does not add up marks the end of the valid data, which is how a write torn by a
+ * crash is detected on replay.
+ */
+final class UserRecordCodec {
+
+    static final int HEADER_BYTES = Integer.BYTES * 2;
+
+    private static final int MAX_PAYLOAD_BYTES = 1024 * 1024;
+
+    private UserRecordCodec() {
+    }
+
+    static ByteBuffer encode(User user) {
+        byte[] id = bytes(user.getId());
+        byte[] name = bytes(user.getName());
+        byte[] email = bytes(user.getEmail());
+        byte[] phone = bytes(user.getPhone());
+        int payloadLength = 4 * Integer.BYTES + length(id) + length(name) + length(email) + length(phone)
+            + 2 * (Long.BYTES + Integer.BYTES);
+
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + payloadLength);
+        buffer.putInt(payloadLength);
+        buffer.putInt(0);
+        putBytes(buffer, id);
+        putBytes(buffer, name);
+        putBytes(buffer, email);
+        putBytes(buffer, phone);
+        putDateTime(buffer, user.getCreatedAt());
+        putDateTime(buffer, user.getUpdatedAt());
+
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.array(), HEADER_BYTES, payloadLength);
+        buffer.putInt(Integer.BYTES, (int) crc.getValue());
+        return buffer.flip();
+    }
+
+    /**
+     * Reads the record at the buffer's position and advances past it.
+     *
+     * @return the user, or {@code null} if the remaining bytes do not hold a complete,
+     *         intact record; the position is then left unchanged
+     */
+    static User decode(ByteBuffer buffer) {
+        int start = buffer.position();
+        if (buffer.remaining() < HEADER_BYTES) {
+            return null;
+        }
+        int payloadLength = buffer.getInt();
+        int expectedCrc = buffer.getInt();
+        if (payloadLength <= 0 || payloadLength > MAX_PAYLOAD_BYTES || payloadLength > buffer.remaining()) {
+            buffer.position(start);
+            return null;
+        }
+        ByteBuffer payload = buffer.slice(buffer.position(), payloadLength);
+        CRC32C crc = new CRC32C();
+        crc.update(payload.duplicate());
+        if ((int) crc.getValue() != expectedCrc) {
+            buffer.position(start);
+            return null;
+        }
+        try {
+            User user = new User(
+                getString(payload),
+                getString(payload),
+                getString(payload),
+                getString(payload),
+                getDateTime(payload),
+                getDateTime(payload)
+            );
+            buffer.position(buffer.position() + payloadLength);
+            return user;
+        } catch (BufferUnderflowException | IllegalArgumentException | DateTimeException e) {
+            buffer.position(start);
+            return null;
+        }
+    }
+
+    private static byte[] bytes(String value) {
+        return value == null ? null : value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static int length(byte[] value) {
+        return value == null ? 0 : value.length;
+    }
+
+    private static void putBytes(ByteBuffer buffer, byte[] value) {
+        if (value == null) {
+            buffer.putInt(-1);
+        } else {
+            buffer.putInt(value.length);
+            buffer.put(value);
+        }
+    }
+
+    private static String getString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0) {
+            return null;
+        }
+        if (length > buffer.remaining()) {
+            throw new IllegalArgumentException("String length exceeds record");
+        }
+        byte[] value = new byte[length];
+        buffer.get(value);
+        return new String(value, StandardCharsets.UTF_8);
+    }
+
+    private static void putDateTime(ByteBuffer buffer, LocalDateTime dateTime) {
+        if (dateTime == null) {
+            buffer.putLong(Long.MIN_VALUE);
+            buffer.putInt(0);
+        } else {
+            buffer.putLong(dateTime.toEpochSecond(ZoneOffset.UTC));
+            buffer.putInt(dateTime.getNano());
+        }
+    }
+
+    private static LocalDateTime getDateTime(ByteBuffer buffer) {
+        long epochSecond = buffer.getLong();
+        int nano = buffer.getInt();
+        if (epochSecond == Long.MIN_VALUE) {
+            return null;
+        }
+        return LocalDateTime.ofEpochSecond(epochSecond, nano, ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,435 @@
+package com.kreasipositif.servicea.persistence;
+
+import com.kreasipositif.servicea.model.User;
+import com.kreasipositif.servicea.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Append-only journal of created users.
+ * <p>
+ * Callers hand encoded records to a single writer thread and block until their record
+ * is on disk. The writer drains whatever has queued up since its last round, writes it
+ * with one gathering write and makes it durable with one {@code force}, so the fsync
+ * cost is shared by every concurrent creator (group commit).
+ * <p>
+ * The log is split into numbered segments. A snapshot rolls the log to a new segment,
+ * writes every user in the repository to {@code snapshot-N.dat}, including users that
+ * are journaled but not yet published, and deletes the segments and snapshots before
+ * {@code N}. Startup replays the newest snapshot and the segments from {@code N} on
+ * through read-only memory maps; replay is idempotent, so records present in both are
+ * harmless.
+ * <p>
+ * A batch that fails to write or force is cut off the segment again before the next
+ * one is written, so a failed creation leaves no record behind and replay never stops
+ * short of an acknowledged one. If the cut itself fails, the journal refuses every
+ * later write until it is restarted.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserWriteAheadLog {
+
+    private static final String SEGMENT_PREFIX = "users-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final String SNAPSHOT_PREFIX = "snapshot-";
+    private static final String SNAPSHOT_SUFFIX = ".dat";
+    private static final long MAX_MAP_WINDOW = 1L << 30;
+    private static final int SNAPSHOT_BUFFER_BYTES = 1 << 20;
+
+    private final UserPersistenceProperties properties;
+    private final UserRepository userRepository;
+
+    private Path directory;
+    private BlockingQueue<PendingWrite> queue;
+    private Thread writer;
+    private ScheduledExecutorService snapshotScheduler;
+    private volatile boolean running;
+    private volatile IOException failure;
+
+    // Owned by the writer thread once it has started
+    private FileChannel activeSegment;
+    private long activeSegmentNumber;
+
+    @PostConstruct
+    public void start() throws IOException {
+        if (!properties.isEnabled()) {
+            log.info("User persistence is disabled");
+            return;
+        }
+        directory = Paths.get(properties.getDirectory());
+        Files.createDirectories(directory);
+
+        long started = System.nanoTime();
+        long nextSegment = recover();
+        log.info("Recovered {} users from {} in {} ms", userRepository.count(), directory,
+            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+
+        openSegment(nextSegment);
+        queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+        running = true;
+        writer = Thread.ofPlatform().name("user-wal-writer").daemon().start(this::writeLoop);
+
+        long intervalMillis = properties.getSnapshotInterval().toMillis();
+        if (intervalMillis > 0) {
+            snapshotScheduler = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("user-wal-snapshot").daemon().factory());
+            snapshotScheduler.scheduleWithFixedDelay(this::scheduledSnapshot,
+                intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Journals a user and returns once the record has been forced to disk.
+     *
+     * @throws UncheckedIOException if the record could not be written
+     */
+    public void append(User user) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        await(enqueue(new PendingWrite(UserRecordCodec.encode(user))));
+    }
+
+    /**
+     * Journals several users and returns once all of them have been forced to disk.
+     * The records are queued back to back, so they usually share a single fsync.
+     *
+     * @throws UncheckedIOException if any record could not be written
+     */
+    public void appendAll(List<User> users) {
+        if (!properties.isEnabled() || users.isEmpty()) {
+            return;
+        }
+        List<CompletableFuture<Long>> pending = new ArrayList<>(users.size());
+        for (User user : users) {
+            pending.add(enqueue(new PendingWrite(UserRecordCodec.encode(user))));
+        }
+        for (CompletableFuture<Long> done : pending) {
+            await(done);
+        }
+    }
+
+    /**
+     * Writes a compacted snapshot of the repository and drops the log segments and
+     * snapshots it supersedes.
+     */
+    public void snapshot() throws IOException {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        long snapshotNumber = await(enqueue(new PendingWrite(null)));
+        Path target = directory.resolve(fileName(SNAPSHOT_PREFIX, snapshotNumber, SNAPSHOT_SUFFIX));
+        Path temporary = directory.resolve(target.getFileName() + ".tmp");
+
+        long written = 0;
+        try (FileChannel out = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+             Stream<User> users = userRepository.findAllWithReserved()) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(SNAPSHOT_BUFFER_BYTES);
+            for (User user : (Iterable<User>) users::iterator) {
+                ByteBuffer record = UserRecordCodec.encode(user);
+                if (record.remaining() > buffer.remaining()) {
+                    writeFully(out, buffer.flip());
+                    buffer.clear();
+                }
+                if (record.remaining() > buffer.capacity()) {
+                    writeFully(out, record);
+                } else {
+                    buffer.put(record);
+                }
+                written++;
+            }
+            writeFully(out, buffer.flip());
+            out.force(true);
+        }
+        Files.move(temporary, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+
+        for (long segment : list(SEGMENT_PREFIX, SEGMENT_SUFFIX)) {
+            if (segment < snapshotNumber) {
+                Files.deleteIfExists(directory.resolve(fileName(SEGMENT_PREFIX, segment, SEGMENT_SUFFIX)));
+            }
+        }
+        for (long snapshot : list(SNAPSHOT_PREFIX, SNAPSHOT_SUFFIX)) {
+            if (snapshot < snapshotNumber) {
+                Files.deleteIfExists(directory.resolve(fileName(SNAPSHOT_PREFIX, snapshot, SNAPSHOT_SUFFIX)));
+            }
+        }
+        log.info("Wrote snapshot {} with {} users", target.getFileName(), written);
+    }
+
+    @PreDestroy
+    public void close() throws IOException, InterruptedException {
+        if (!running) {
+            return;
+        }
+        if (snapshotScheduler != null) {
+            snapshotScheduler.shutdownNow();
+        }
+        running = false;
+        writer.join();
+        activeSegment.close();
+        PendingWrite straggler;
+        while ((straggler = queue.poll()) != null) {
+            straggler.done.completeExceptionally(new IOException("User journal is closed"));
+        }
+    }
+
+    private CompletableFuture<Long> enqueue(PendingWrite write) {
+        if (!running) {
+            throw new IllegalStateException("User journal is not running");
+        }
+        if (failure != null) {
+            throw new UncheckedIOException("User journal has failed", failure);
+        }
+        try {
+            queue.put(write);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while journaling user", e);
+        }
+        return write.done;
+    }
+
+    private static long await(CompletableFuture<Long> done) {
+        try {
+            return done.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof IOException cause) {
+                throw new UncheckedIOException("Failed to journal user", cause);
+            }
+            throw e;
+        }
+    }
+
+    private void writeLoop() {
+        List<PendingWrite> batch = new ArrayList<>(properties.getGroupCommitMaxBatch());
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingWrite first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, properties.getGroupCommitMaxBatch() - 1);
+                commit(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                running = false;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void commit(List<PendingWrite> batch) {
+        if (failure != null) {
+            for (PendingWrite write : batch) {
+                write.done.completeExceptionally(failure);
+            }
+            return;
+        }
+        List<PendingWrite> unsynced = new ArrayList<>(batch.size());
+        try {
+            for (PendingWrite write : batch) {
+                if (write.record == null) {
+                    sync(unsynced);
+                    rollSegment();
+                    write.done.complete(activeSegmentNumber);
+                } else {
+                    unsynced.add(write);
+                }
+            }
+            sync(unsynced);
+            if (activeSegment.position() >= properties.getSegmentSizeBytes()) {
+                rollSegment();
+            }
+        } catch (IOException e) {
+            log.error("Failed to write user journal", e);
+            for (PendingWrite write : batch) {
+                write.done.completeExceptionally(e);
+            }
+        }
+    }
+
+    private void sync(List<PendingWrite> writes) throws IOException {
+        if (writes.isEmpty()) {
+            return;
+        }
+        ByteBuffer[] records = new ByteBuffer[writes.size()];
+        long remaining = 0;
+        for (int i = 0; i < records.length; i++) {
+            records[i] = writes.get(i).record;
+            remaining += records[i].remaining();
+        }
+        long start = activeSegment.position();
+        try {
+            while (remaining > 0) {
+                remaining -= activeSegment.write(records);
+            }
+            activeSegment.force(false);
+        } catch (IOException e) {
+            discardFrom(start, e);
+            throw e;
+        }
+        for (PendingWrite write : writes) {
+            write.done.complete(activeSegmentNumber);
+        }
+        writes.clear();
+    }
+
+    /**
+     * Cuts a failed batch off the active segment, so whatever part of it reached the
+     * file can neither be replayed nor hide the records written after it. The callers
+     * of the batch are told it failed, so its records must not come back on restart.
+     */
+    private void discardFrom(long start, IOException cause) {
+        try {
+            activeSegment.truncate(start);
+            activeSegment.force(false);
+        } catch (IOException | RuntimeException e) {
+            cause.addSuppressed(e);
+            failure = cause;
+            log.error("User journal could not discard a failed write and refuses further writes", e);
+        }
+    }
+
+    private void rollSegment() throws IOException {
+        try {
+            activeSegment.force(false);
+            activeSegment.close();
+            openSegment(activeSegmentNumber + 1);
+        } catch (IOException e) {
+            failure = e;
+            throw e;
+        }
+    }
+
+    private void openSegment(long number) throws IOException {
+        activeSegment = openSegmentChannel(directory.resolve(fileName(SEGMENT_PREFIX, number, SEGMENT_SUFFIX)));
+        activeSegmentNumber = number;
+    }
+
+    /**
+     * Opens a log segment for appending; tests override it to inject I/O failures.
+     */
+    FileChannel openSegmentChannel(Path file) throws IOException {
+        return FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    private void scheduledSnapshot() {
+        try {
+            snapshot();
+        } catch (IOException | RuntimeException e) {
+            log.error("Failed to write user snapshot", e);
+        }
+    }
+
+    /**
+     * Loads the newest snapshot and every later segment into the repository.
+     *
+     * @return the number of the segment new records should go to
+     */
+    private long recover() throws IOException {
+        List<Long> snapshots = list(SNAPSHOT_PREFIX, SNAPSHOT_SUFFIX);
+        long firstSegment = 0;
+        if (!snapshots.isEmpty()) {
+            firstSegment = snapshots.get(snapshots.size() - 1);
+            replay(directory.resolve(fileName(SNAPSHOT_PREFIX, firstSegment, SNAPSHOT_SUFFIX)));
+        }
+        long nextSegment = firstSegment;
+        for (long segment : list(SEGMENT_PREFIX, SEGMENT_SUFFIX)) {
+            if (segment >= firstSegment) {
+                replay(directory.resolve(fileName(SEGMENT_PREFIX, segment, SEGMENT_SUFFIX)));
+                nextSegment = segment + 1;
+            }
+        }
+        return nextSegment;
+    }
+
+    /**
+     * Replays every intact record of a file through read-only mappings of at most
+     * {@link #MAX_MAP_WINDOW} bytes, then cuts off a torn tail left by a crash.
+     */
+    private void replay(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            long size = channel.size();
+            long offset = 0;
+            while (offset < size) {
+                long window = Math.min(MAX_MAP_WINDOW, size - offset);
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, offset, window);
+                User user;
+                while ((user = UserRecordCodec.decode(buffer)) != null) {
+                    userRepository.restore(user);
+                }
+                boolean windowReachesEnd = offset + window == size;
+                if (buffer.position() == 0 || windowReachesEnd) {
+                    offset += buffer.position();
+                    break;
+                }
+                offset += buffer.position();
+            }
+            if (offset < size) {
+                log.warn("Truncating {} bytes of incomplete records from {}", size - offset, file.getFileName());
+                channel.truncate(offset);
+                channel.force(true);
+            }
+        }
+    }
+
+    private List<Long> list(String prefix, String suffix) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files
+                .map(path -> path.getFileName().toString())
+                .filter(name -> name.startsWith(prefix) && name.endsWith(suffix))
+                .map(name -> name.substring(prefix.length(), name.length() - suffix.length()))
+                .filter(number -> !number.isEmpty() && number.chars().allMatch(Character::isDigit))
+                .map(Long::parseLong)
+                .sorted()
+                .toList();
+        }
+    }
+
+    private static String fileName(String prefix, long number, String suffix) {
+        return prefix + String.format("%016d", number) + suffix;
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    private static final class PendingWrite {
+        private final ByteBuffer record;
+        private final CompletableFuture<Long> done = new CompletableFuture<>();
+
+        private PendingWrite(ByteBuffer record) {
+            this.record = record;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.kreasipositif.servicea.repository;
+
+import com.kreasipositif.servicea.model.User;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+
+/**
+ * Sort key of a user: creation time, then id to break ties.
+ */
+@Value
+public class UserKey implements Comparable<UserKey> {
+
+    private static final Comparator<UserKey> ORDER =
+        Comparator.comparing(UserKey::getCreatedAt).thenComparing(UserKey::getId);
+
+    LocalDateTime createdAt;
+    String id;
+
+    public static UserKey of(User user) {
+        return new UserKey(user.getCreatedAt(), user.getId());
+    }
+
+    @Override
+    public int compareTo(UserKey other) {
+        return ORDER.compare(this, other);
+    }
+}
@@ -0,0 +1,161 @@
+package com.kreasipositif.servicea.repository;
+
+import com.kreasipositif.servicea.model.User;
+import org.springframework.stereotype.Repository;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.stream.Stream;
+
+/**
+ * In-memory user store with an id index and a unique, case-normalized email index.
+ * Both indexes are {@link ConcurrentHashMap}s, so lookups are O(1) and writers only
+ * contend when they hash to the same bin. A skip list of {@link UserKey}s keeps users
+ * in creation order for keyset pagination.
+ * <p>
+ * A new user is first {@link #reserve reserved}, which claims its email and id
+ * without making it visible, and then {@link #publish published}. Creators journal
+ * the user in between, so nothing is readable before it is durable.
+ */
+@Repository
+public class UserRepository {
+
+    private final Map<String, User> usersById = new ConcurrentHashMap<>();
+    private final Map<String, User> reservedById = new ConcurrentHashMap<>();
+    private final Map<String, String> userIdsByEmail = new ConcurrentHashMap<>();
+    private final NavigableSet<UserKey> keys = new ConcurrentSkipListSet<>();
+
+    /**
+     * Stores a new user and makes it visible at once.
+     *
+     * @throws IllegalArgumentException if the email or id is already taken
+     */
+    public User insert(User user) {
+        reserve(user);
+        publish(user);
+        return user;
+    }
+
+    /**
+     * Claims the email and id of a new user without making it visible. The email is
+     * claimed first with {@code putIfAbsent}, so two concurrent reservations with the
+     * same address can never both succeed. Follow with {@link #publish} or
+     * {@link #release}.
+     *
+     * @throws IllegalArgumentException if the email or id is already taken
+     */
+    public void reserve(User user) {
+        String emailKey = normalizeEmail(user.getEmail());
+        String existingId = userIdsByEmail.putIfAbsent(emailKey, user.getId());
+        if (existingId != null) {
+            throw new IllegalArgumentException("Email is already registered");
+        }
+        // publish() adds the user before dropping the reservation, so one of the two
+        // checks sees a user that is being published concurrently
+        if (reservedById.putIfAbsent(user.getId(), user) != null) {
+            userIdsByEmail.remove(emailKey, user.getId());
+            throw new IllegalArgumentException("User ID is already in use");
+        }
+        if (usersById.containsKey(user.getId())) {
+            reservedById.remove(user.getId(), user);
+            userIdsByEmail.remove(emailKey, user.getId());
+            throw new IllegalArgumentException("User ID is already in use");
+        }
+    }
+
+    /**
+     * Makes a user claimed by {@link #reserve} visible to readers.
+     */
+    public void publish(User user) {
+        usersById.put(user.getId(), user);
+        keys.add(UserKey.of(user));
+        reservedById.remove(user.getId(), user);
+    }
+
+    /**
+     * Gives up a reservation whose creation could not be completed, freeing its email.
+     */
+    public void release(User user) {
+        if (reservedById.remove(user.getId(), user)) {
+            userIdsByEmail.remove(normalizeEmail(user.getEmail()), user.getId());
+        }
+    }
+
+    /**
+     * Puts a user recovered from the journal, replacing any earlier version with the
+     * same id. Recovery replays records in their original order, so uniqueness was
+     * already enforced when they were first inserted.
+     */
+    public void restore(User user) {
+        User previous = usersById.put(user.getId(), user);
+        if (previous != null) {
+            userIdsByEmail.remove(normalizeEmail(previous.getEmail()), previous.getId());
+            keys.remove(UserKey.of(previous));
+        }
+        userIdsByEmail.put(normalizeEmail(user.getEmail()), user.getId());
+        keys.add(UserKey.of(user));
+    }
+
+    public Optional<User> findById(String id) {
+        if (id == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(usersById.get(id));
+    }
+
+    public Optional<User> findByEmail(String email) {
+        if (email == null) {
+            return Optional.empty();
+        }
+        String userId = userIdsByEmail.get(normalizeEmail(email));
+        return userId == null ? Optional.empty() : findById(userId);
+    }
+
+    public boolean existsByEmail(String email) {
+        return email != null && userIdsByEmail.containsKey(normalizeEmail(email));
+    }
+
+    public Stream<User> findAll() {
+        return findAfter(null);
+    }
+
+    /**
+     * Streams users in creation order, starting strictly after {@code after}, or from
+     * the beginning when it is {@code null}. The skip list seeks to the position in
+     * O(log n), so the cost of a page does not depend on how deep it is.
+     */
+    public Stream<User> findAfter(UserKey after) {
+        NavigableSet<UserKey> tail = after == null ? keys : keys.tailSet(after, false);
+        return tail.stream()
+            .map(key -> usersById.get(key.getId()))
+            .filter(Objects::nonNull);
+    }
+
+    /**
+     * Streams every reserved user followed by every published one. A reserved user
+     * may already be in the journal, so a snapshot must include it. A reservation is
+     * dropped only after its user is published, so walking the reservations first
+     * cannot miss a user published during the walk; it may return that user twice,
+     * which replay tolerates.
+     */
+    public Stream<User> findAllWithReserved() {
+        return Stream.concat(reservedById.values().stream(), findAll());
+    }
+
+    public int count() {
+        return usersById.size();
+    }
+
+    public int emailIndexSize() {
+        return userIdsByEmail.size();
+    }
+
+    static String normalizeEmail(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+}
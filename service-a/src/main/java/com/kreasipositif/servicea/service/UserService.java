@@ -2,9 +2,19 @@ package com.kreasipositif.servicea.service;
 
 import com.kreasipositif.servicea.dto.CreateUserRequest;
 import com.kreasipositif.servicea.dto.UserResponse;
+import com.kreasipositif.servicea.metrics.UserMetrics;
+import com.kreasipositif.servicea.metrics.UserOperationEvent;
 import com.kreasipositif.servicea.model.User;
+import com.kreasipositif.servicea.persistence.UserWriteAheadLog;
+import com.kreasipositif.servicea.repository.UserKey;
+import com.kreasipositif.servicea.repository.UserRepository;
+import com.kreasipositif.utility.cache.ResponseCache;
+import com.kreasipositif.utility.feed.ChangeEvent;
+import com.kreasipositif.utility.feed.ChangeFeed;
 import com.kreasipositif.utility.formatter.DateFormatter;
 import com.kreasipositif.utility.generator.IdGenerator;
+import com.kreasipositif.utility.pagination.CursorCodec;
+import com.kreasipositif.utility.pagination.CursorPage;
 import com.kreasipositif.utility.validator.StringValidator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -21,62 +31,304 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class UserService {
 
+    public static final int MAX_PAGE_SIZE = 500;
+    public static final int MAX_LOOKUP_SIZE = 500;
+
     private final IdGenerator idGenerator;
     private final DateFormatter dateFormatter;
     private final StringValidator stringValidator;
-
-    private final List<User> users = new ArrayList<>();
+    private final UserRepository userRepository;
+    private final CursorCodec cursorCodec;
+    private final UserWriteAheadLog userWriteAheadLog;
+    private final ResponseCache<User, UserResponse> responseCache;
+    private final UserMetrics userMetrics;
+    private final ChangeFeed<User> userChangeFeed;
 
     public UserResponse createUser(CreateUserRequest request) {
-        log.info("Creating user with email: {}", request.getEmail());
+        long started = System.nanoTime();
+        UserOperationEvent event = UserOperationEvent.start(UserMetrics.Operation.CREATE, started);
+        event.users(1);
+        try {
+            log.info("Creating user with email: {}", request.getEmail());
 
-        if (!stringValidator.isNotEmpty(request.getName())) {
-            throw new IllegalArgumentException("Name is required");
+            String error = validate(request);
+            event.validated();
+            if (error != null) {
+                event.rejected(1);
+                userMetrics.recordRejection(error);
+                throw new IllegalArgumentException(error);
+            }
+
+            long idStarted = System.nanoTime();
+            String userId = idGenerator.generateId();
+            userMetrics.recordIdGeneration(idStarted);
+            event.idsGenerated();
+            User user = newUser(userId, request, LocalDateTime.now());
+
+            // Claim the email before journaling, but publish only once the record is durable
+            try {
+                userRepository.reserve(user);
+            } catch (IllegalArgumentException e) {
+                event.rejected(1);
+                userMetrics.recordRejection(e.getMessage());
+                throw e;
+            }
+            event.stored();
+            try {
+                userWriteAheadLog.append(user);
+            } catch (RuntimeException e) {
+                userRepository.release(user);
+                throw e;
+            }
+            event.journaled();
+            userRepository.publish(user);
+            event.stored();
+            userChangeFeed.publish(ChangeEvent.CREATED, user);
+            log.info("User created successfully with ID: {}", userId);
+
+            UserResponse response = cachedResponse(user);
+            event.formatted();
+            return response;
+        } finally {
+            userMetrics.recordOperation(UserMetrics.Operation.CREATE, started);
+            event.finish();
         }
+    }
 
-        if (!stringValidator.isValidEmail(request.getEmail())) {
-            throw new IllegalArgumentException("Invalid email format");
+    /**
+     * Creates every valid user of a batch and journals them together before any of
+     * them becomes visible. Invalid or duplicate entries are skipped and reported
+     * instead of failing the batch.
+     *
+     * @return for each request, the reason it was rejected, or {@code null} if the user was created
+     */
+    public String[] createUsers(List<CreateUserRequest> requests) {
+        long started = System.nanoTime();
+        UserOperationEvent event = UserOperationEvent.start(UserMetrics.Operation.CREATE_BATCH, started);
+        event.users(requests.size());
+        try {
+            String[] errors = new String[requests.size()];
+            int validCount = 0;
+            for (int i = 0; i < errors.length; i++) {
+                errors[i] = validate(requests.get(i));
+                if (errors[i] == null) {
+                    validCount++;
+                } else {
+                    userMetrics.recordRejection(errors[i]);
+                }
+            }
+
+            event.validated();
+
+            long idStarted = System.nanoTime();
+            List<String> userIds = idGenerator.generateIds(validCount);
+            userMetrics.recordIdGeneration(idStarted);
+            event.idsGenerated();
+            LocalDateTime now = LocalDateTime.now();
+            List<User> reserved = new ArrayList<>(validCount);
+            int next = 0;
+            for (int i = 0; i < errors.length; i++) {
+                if (errors[i] != null) {
+                    continue;
+                }
+                User user = newUser(userIds.get(next++), requests.get(i), now);
+                try {
+                    userRepository.reserve(user);
+                    reserved.add(user);
+                } catch (IllegalArgumentException e) {
+                    errors[i] = e.getMessage();
+                    userMetrics.recordRejection(errors[i]);
+                }
+            }
+            event.stored();
+            try {
+                userWriteAheadLog.appendAll(reserved);
+            } catch (RuntimeException e) {
+                reserved.forEach(userRepository::release);
+                throw e;
+            }
+            event.journaled();
+            reserved.forEach(userRepository::publish);
+            event.stored();
+            for (User user : reserved) {
+                userChangeFeed.publish(ChangeEvent.CREATED, user);
+            }
+            event.rejected(errors.length - reserved.size());
+            log.debug("Batch created {} users, rejected {}", reserved.size(), errors.length - reserved.size());
+            return errors;
+        } finally {
+            userMetrics.recordOperation(UserMetrics.Operation.CREATE_BATCH, started);
+            event.finish();
         }
+    }
 
+    /**
+     * @return the reason the request is invalid, or {@code null} if it is valid
+     */
+    private String validate(CreateUserRequest request) {
+        if (request == null) {
+            return "User is required";
+        }
+        if (!stringValidator.isNotEmpty(request.getName())) {
+            return "Name is required";
+        }
+        if (!stringValidator.isValidEmail(request.getEmail())) {
+            return "Invalid email format";
+        }
         if (!stringValidator.isValidPhone(request.getPhone())) {
-            throw new IllegalArgumentException("Invalid phone format");
+            return "Invalid phone format";
         }
+        return null;
+    }
 
-        String userId = idGenerator.generateUUID();
-        
-        LocalDateTime now = LocalDateTime.now();
-        User user = new User(
+    private static User newUser(String userId, CreateUserRequest request, LocalDateTime createdAt) {
+        return new User(
             userId,
             request.getName(),
             request.getEmail(),
             request.getPhone(),
-            now,
-            now
+            createdAt,
+            createdAt
         );
-
-        users.add(user);
-        log.info("User created successfully with ID: {}", userId);
-
-        return convertToResponse(user);
     }
 
     public List<UserResponse> getAllUsers() {
-        log.info("Fetching all users. Total count: {}", users.size());
-        return users.stream()
-            .map(this::convertToResponse)
-            .collect(Collectors.toList());
+        long started = System.nanoTime();
+        UserOperationEvent event = UserOperationEvent.start(UserMetrics.Operation.LIST, started);
+        try {
+            log.info("Fetching all users. Total count: {}", userRepository.count());
+            // Records are formatted as they are read, so both phases count as formatting
+            List<UserResponse> users = userRepository.findAll()
+                .map(this::cachedResponse)
+                .collect(Collectors.toList());
+            event.formatted();
+            event.users(users.size());
+            return users;
+        } finally {
+            userMetrics.recordOperation(UserMetrics.Operation.LIST, started);
+            event.finish();
+        }
+    }
+
+    public CursorPage<UserResponse> getUsers(String cursor, int limit) {
+        long started = System.nanoTime();
+        UserOperationEvent event = UserOperationEvent.start(UserMetrics.Operation.LIST, started);
+        try {
+            if (limit < 1 || limit > MAX_PAGE_SIZE) {
+                throw new IllegalArgumentException("Limit must be between 1 and " + MAX_PAGE_SIZE);
+            }
+            UserKey after = null;
+            if (cursor != null) {
+                CursorCodec.Position position = cursorCodec.decode(cursor);
+                after = new UserKey(position.getCreatedAt(), position.getId());
+            }
+            log.info("Fetching users page. Limit: {}", limit);
+
+            List<User> page = userRepository.findAfter(after)
+                .limit(limit + 1L)
+                .collect(Collectors.toList());
+            String next = null;
+            if (page.size() > limit) {
+                page = page.subList(0, limit);
+                User last = page.get(limit - 1);
+                next = cursorCodec.encode(last.getCreatedAt(), last.getId());
+            }
+            event.stored();
+            event.users(page.size());
+            CursorPage<UserResponse> result =
+                new CursorPage<>(page.stream().map(this::cachedResponse).collect(Collectors.toList()), next);
+            event.formatted();
+            return result;
+        } finally {
+            userMetrics.recordOperation(UserMetrics.Operation.LIST, started);
+            event.finish();
+        }
     }
 
     public Optional<UserResponse> getUserById(String id) {
-        log.info("Fetching user with ID: {}", id);
-        return users.stream()
-            .filter(user -> user.getId().equals(id))
-            .findFirst()
-            .map(this::convertToResponse);
+        long started = System.nanoTime();
+        UserOperationEvent event = UserOperationEvent.start(UserMetrics.Operation.GET, started);
+        try {
+            log.info("Fetching user with ID: {}", id);
+            Optional<User> user = userRepository.findById(id);
+            event.stored();
+            Optional<UserResponse> response = user.map(this::cachedResponse);
+            event.formatted();
+            event.users(user.isPresent() ? 1 : 0);
+            return response;
+        } finally {
+            userMetrics.recordOperation(UserMetrics.Operation.GET, started);
+            event.finish();
+        }
+    }
+
+    /**
+     * Same as {@link #getUserById} but returns the response already serialized to JSON.
+     */
+    public Optional<byte[]> getUserJsonById(String id) {
+        long started = System.nanoTime();
+        UserOperationEvent event = UserOperationEvent.start(UserMetrics.Operation.GET, started);
+        try {
+            Optional<User> user = userRepository.findById(id);
+            event.stored();
+            Optional<byte[]> json = user.map(this::toJson);
+            event.formatted();
+            if (json.isPresent()) {
+                event.users(1);
+                event.responseSize(json.get().length);
+            }
+            return json;
+        } finally {
+            userMetrics.recordOperation(UserMetrics.Operation.GET, started);
+            event.finish();
+        }
+    }
+
+    /**
+     * Looks up many users at once, e.g. for another service validating references.
+     * Unknown ids are left out of the result.
+     */
+    public List<UserResponse> getUsersByIds(List<String> ids) {
+        long started = System.nanoTime();
+        UserOperationEvent event = UserOperationEvent.start(UserMetrics.Operation.LOOKUP, started);
+        try {
+            if (ids == null || ids.size() > MAX_LOOKUP_SIZE) {
+                throw new IllegalArgumentException("Lookup must contain between 0 and " + MAX_LOOKUP_SIZE + " ids");
+            }
+            event.users(ids.size());
+            List<User> found = new ArrayList<>(ids.size());
+            for (String id : ids) {
+                if (id != null) {
+                    userRepository.findById(id).ifPresent(found::add);
+                }
+            }
+            event.stored();
+            List<UserResponse> users = new ArrayList<>(found.size());
+            for (User user : found) {
+                users.add(cachedResponse(user));
+            }
+            event.formatted();
+            return users;
+        } finally {
+            userMetrics.recordOperation(UserMetrics.Operation.LOOKUP, started);
+            event.finish();
+        }
+    }
+
+    /**
+     * The user's response serialized to JSON. The array is shared and must not be modified.
+     */
+    public byte[] toJson(User user) {
+        return responseCache.getBytes(user.getId(), user, this::convertToResponse);
+    }
+
+    private UserResponse cachedResponse(User user) {
+        return responseCache.get(user.getId(), user, this::convertToResponse);
     }
 
     private UserResponse convertToResponse(User user) {
-        return new UserResponse(
+        long started = System.nanoTime();
+        UserResponse response = new UserResponse(
             user.getId(),
             user.getName(),
             user.getEmail(),
@@ -84,5 +336,7 @@ public class UserService {
             dateFormatter.formatDateTime(user.getCreatedAt()),
             dateFormatter.formatDateTime(user.getUpdatedAt())
         );
+        userMetrics.recordResponseConversion(started);
+        return response;
     }
 }
@@ -3,7 +3,7 @@ package com.kreasipositif.servicea;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 
-@SpringBootTest
+@SpringBootTest(properties = "users.persistence.directory=target/test-data/users")
 class ServiceAApplicationTest {
 
     @Test
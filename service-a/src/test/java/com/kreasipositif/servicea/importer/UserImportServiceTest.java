@@ -0,0 +1,195 @@
+package com.kreasipositif.servicea.importer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kreasipositif.servicea.dto.UserImportJobResponse;
+import com.kreasipositif.servicea.metrics.UserMetrics;
+import com.kreasipositif.servicea.persistence.UserPersistenceProperties;
+import com.kreasipositif.servicea.persistence.UserWriteAheadLog;
+import com.kreasipositif.servicea.repository.UserRepository;
+import com.kreasipositif.servicea.service.UserService;
+import com.kreasipositif.utility.cache.ResponseCache;
+import com.kreasipositif.utility.feed.ChangeFeed;
+import com.kreasipositif.utility.formatter.DateFormatter;
+import com.kreasipositif.utility.generator.IdGenerator;
+import com.kreasipositif.utility.pagination.CursorCodec;
+import com.kreasipositif.utility.validator.StringValidator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UserImportServiceTest {
+
+    @TempDir
+    Path directory;
+
+    private UserRepository userRepository;
+    private UserImportProperties properties;
+    private UserImportService importService;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = new UserRepository();
+        UserService userService = new UserService(new IdGenerator(), new DateFormatter(), new StringValidator(),
+            userRepository, new CursorCodec(), new UserWriteAheadLog(new UserPersistenceProperties(), userRepository),
+            new ResponseCache<>(0, value -> new byte[0]), new UserMetrics(new SimpleMeterRegistry(), userRepository),
+            new ChangeFeed<>(1024, 0));
+
+        properties = new UserImportProperties();
+        properties.setDirectory(directory.toString());
+        properties.setParallelism(4);
+        properties.setChunkSizeBytes(64);
+        properties.setBatchSize(3);
+        importService = new UserImportService(properties, userService, new IdGenerator(), new DateFormatter(),
+            new ObjectMapper());
+        importService.start();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        importService.close();
+    }
+
+    private UserImportJobResponse importAndWait(String fileName) throws InterruptedException {
+        String jobId = importService.startImport(fileName).getId();
+        for (int i = 0; i < 500; i++) {
+            UserImportJobResponse job = importService.getJob(jobId).orElseThrow();
+            if (!job.getStatus().equals("QUEUED") && !job.getStatus().equals("RUNNING")) {
+                return job;
+            }
+            Thread.sleep(20);
+        }
+        fail("Import did not finish");
+        return null;
+    }
+
+    @Test
+    void testImport_CsvFile_InsertsValidRowsAndReportsRejected() throws Exception {
+        // Arrange
+        String content = "name,email,phone\r\n"
+            + "Alice,alice@example.com,+1234567890\r\n"
+            + "\"Doe, John\",john@example.com,+1234567891\r\n"
+            + "Bob,not-an-email,+1234567892\r\n"
+            + "Carol,carol@example.com\r\n"
+            + "\r\n"
+            + "Alice Again,ALICE@example.com,+1234567893\r\n"
+            + "Dave,dave@example.com,+1234567894";
+        Files.writeString(directory.resolve("tenant.csv"), content);
+        long bobOffset = content.indexOf("Bob");
+        long carolOffset = content.indexOf("Carol");
+        long duplicateOffset = content.indexOf("Alice Again");
+
+        // Act
+        UserImportJobResponse job = importAndWait("tenant.csv");
+
+        // Assert
+        assertEquals("COMPLETED", job.getStatus());
+        assertEquals(3, job.getAcceptedRows());
+        assertEquals(3, job.getRejectedRows());
+        assertEquals(content.length(), job.getProcessedBytes());
+        assertEquals(List.of(bobOffset, carolOffset, duplicateOffset),
+            job.getRejected().stream().map(UserImportJobResponse.RejectedRow::getOffset).toList());
+        assertEquals(List.of("Invalid email format", "Expected 3 fields but found 2", "Email is already registered"),
+            job.getRejected().stream().map(UserImportJobResponse.RejectedRow::getReason).toList());
+        assertEquals("Doe, John", userRepository.findByEmail("john@example.com").orElseThrow().getName());
+        assertTrue(userRepository.existsByEmail("dave@example.com"));
+    }
+
+    @Test
+    void testImport_NdjsonFile_RejectsMalformedLines() throws Exception {
+        // Arrange
+        Files.writeString(directory.resolve("tenant.ndjson"),
+            "{\"name\":\"Alice\",\"email\":\"alice@example.com\",\"phone\":\"+1234567890\"}\n"
+                + "{\"name\":\"Broken\"\n"
+                + "{\"name\":\"\",\"email\":\"empty@example.com\",\"phone\":\"+1234567890\"}\n");
+
+        // Act
+        UserImportJobResponse job = importAndWait("tenant.ndjson");
+
+        // Assert
+        assertEquals("COMPLETED", job.getStatus());
+        assertEquals(1, job.getAcceptedRows());
+        assertEquals(List.of("Malformed JSON", "Name is required"),
+            job.getRejected().stream().map(UserImportJobResponse.RejectedRow::getReason).toList());
+    }
+
+    @Test
+    void testImport_ManyChunks_ImportsEveryRowOnce() throws Exception {
+        // Arrange
+        properties.setChunkSizeBytes(4096);
+        properties.setBatchSize(100);
+        properties.setMaxReportedRejections(10);
+        String content = IntStream.range(0, 20_000)
+            .mapToObj(i -> i % 1000 == 0
+                ? "Bad Row " + i + ",bad,+1"
+                : "User " + i + ",user" + i + "@example.com,+1" + (100000000 + i))
+            .collect(Collectors.joining("\n", "", "\n"));
+        Files.writeString(directory.resolve("large.csv"), content);
+
+        // Act
+        UserImportJobResponse job = importAndWait("large.csv");
+
+        // Assert
+        assertEquals("COMPLETED", job.getStatus());
+        assertEquals(19_980, job.getAcceptedRows());
+        assertEquals(20, job.getRejectedRows());
+        assertEquals(10, job.getRejected().size());
+        assertEquals(19_980, userRepository.count());
+        assertEquals(content.getBytes(StandardCharsets.UTF_8).length, job.getProcessedBytes());
+    }
+
+    @Test
+    void testImport_BeyondJobHistory_ForgetsOldestJobs() throws Exception {
+        // Arrange
+        properties.setJobHistory(2);
+        Files.writeString(directory.resolve("users.csv"), "Alice,alice@example.com,+1234567890\n");
+
+        // Act
+        List<String> jobIds = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            jobIds.add(importAndWait("users.csv").getId());
+        }
+
+        // Assert
+        assertTrue(importService.getJob(jobIds.get(0)).isEmpty());
+        assertTrue(importService.getJob(jobIds.get(1)).isPresent());
+        assertTrue(importService.getJob(jobIds.get(2)).isPresent());
+    }
+
+    @Test
+    void testStartImport_OutsideImportDirectory_ThrowsException() throws Exception {
+        // Arrange
+        Files.writeString(directory.getParent().resolve("outside.csv"), "Alice,alice@example.com,+1234567890\n");
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> importService.startImport("../outside.csv"));
+        assertThrows(IllegalArgumentException.class, () -> importService.startImport("missing.csv"));
+    }
+
+    @Test
+    void testStartImport_UnsupportedExtension_ThrowsException() throws Exception {
+        // Arrange
+        Files.writeString(directory.resolve("users.txt"), "Alice,alice@example.com,+1234567890\n");
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> importService.startImport("users.txt"));
+    }
+
+    @Test
+    void testSplitCsv_QuotedFields_HandlesEscapes() {
+        // Act & Assert
+        assertEquals(List.of("a \"b\"", "c,d", ""), UserImportService.splitCsv("\"a \"\"b\"\"\",\"c,d\","));
+        assertThrows(IllegalArgumentException.class, () -> UserImportService.splitCsv("\"open,field"));
+    }
+}
@@ -0,0 +1,365 @@
+package com.kreasipositif.servicea.persistence;
+
+import com.kreasipositif.servicea.model.User;
+import com.kreasipositif.servicea.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static com.kreasipositif.utility.testing.VirtualThreadPinning.assertNoPinning;
+import static org.junit.jupiter.api.Assertions.*;
+
+class UserWriteAheadLogTest {
+
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2026, 1, 6, 13, 30, 0, 123_000_000);
+
+    @TempDir
+    Path directory;
+
+    private UserPersistenceProperties properties;
+    private volatile int failingWrites;
+    private volatile boolean failingTruncate;
+    private UserWriteAheadLog journal;
+
+    @BeforeEach
+    void setUp() {
+        properties = new UserPersistenceProperties();
+        properties.setEnabled(true);
+        properties.setDirectory(directory.toString());
+        properties.setSnapshotInterval(Duration.ZERO);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        if (journal != null) {
+            journal.close();
+        }
+    }
+
+    private UserRepository open() throws IOException {
+        UserRepository repository = new UserRepository();
+        journal = new UserWriteAheadLog(properties, repository);
+        journal.start();
+        return repository;
+    }
+
+    /**
+     * Opens a journal whose segments fail the next {@link #failingWrites} gathering
+     * writes after writing half of the first record, and fail truncation while
+     * {@link #failingTruncate} is set.
+     */
+    private UserRepository openFailing() throws IOException {
+        UserRepository repository = new UserRepository();
+        journal = new UserWriteAheadLog(properties, repository) {
+            @Override
+            FileChannel openSegmentChannel(Path file) throws IOException {
+                return new FailingChannel(super.openSegmentChannel(file));
+            }
+        };
+        journal.start();
+        return repository;
+    }
+
+    private UserRepository reopen() throws Exception {
+        journal.close();
+        return open();
+    }
+
+    private User user(int seq) {
+        return new User("id-" + seq, "User " + seq, "user" + seq + "@example.com", "+1234567890",
+            BASE_TIME.plusSeconds(seq), BASE_TIME.plusSeconds(seq));
+    }
+
+    private void create(UserRepository repository, User user) {
+        repository.insert(user);
+        journal.append(user);
+    }
+
+    @Test
+    void testRecover_AfterRestart_RestoresAllUsers() throws Exception {
+        // Arrange
+        UserRepository repository = open();
+        create(repository, user(1));
+        create(repository, user(2));
+
+        // Act
+        UserRepository recovered = reopen();
+
+        // Assert
+        assertEquals(2, recovered.count());
+        User restored = recovered.findById("id-2").orElseThrow();
+        assertEquals(user(2), restored);
+        assertTrue(recovered.existsByEmail("USER1@example.com"));
+        assertEquals(List.of("id-1", "id-2"), recovered.findAll().map(User::getId).toList());
+    }
+
+    @Test
+    void testAppend_FromManyThreads_IsDurableAndComplete() throws Exception {
+        // Arrange
+        UserRepository repository = open();
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+
+        // Act
+        for (int i = 0; i < 2_000; i++) {
+            int seq = i;
+            executor.submit(() -> create(repository, user(seq)));
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+        UserRepository recovered = reopen();
+
+        // Assert
+        assertEquals(2_000, recovered.count());
+    }
+
+    @Test
+    void testAppend_FromVirtualThreads_WaitsForCommitWithoutPinning() throws Exception {
+        // Arrange
+        UserRepository repository = open();
+
+        // Act
+        assertNoPinning("UserWriteAheadLog.append", 2_000, seq -> create(repository, user(seq)));
+        UserRepository recovered = reopen();
+
+        // Assert
+        assertEquals(2_000, recovered.count());
+    }
+
+    @Test
+    void testAppendAll_LargerThanQueue_IsDurableAndComplete() throws Exception {
+        // Arrange
+        properties.setQueueCapacity(64);
+        UserRepository repository = open();
+        List<User> users = IntStream.range(0, 1_000).mapToObj(this::user).toList();
+        users.forEach(repository::insert);
+
+        // Act
+        journal.appendAll(users);
+        UserRepository recovered = reopen();
+
+        // Assert
+        assertEquals(1_000, recovered.count());
+        assertEquals(user(999), recovered.findById("id-999").orElseThrow());
+    }
+
+    @Test
+    void testSnapshot_CompactsLogAndRecoversWithLaterAppends() throws Exception {
+        // Arrange
+        UserRepository repository = open();
+        for (int i = 0; i < 10; i++) {
+            create(repository, user(i));
+        }
+
+        // Act
+        journal.snapshot();
+        create(repository, user(10));
+        UserRepository recovered = reopen();
+
+        // Assert
+        assertEquals(11, recovered.count());
+        try (Stream<Path> files = Files.list(directory)) {
+            List<String> names = files.map(path -> path.getFileName().toString()).sorted().toList();
+            assertEquals(1, names.stream().filter(name -> name.startsWith("snapshot-")).count());
+            assertTrue(names.stream().noneMatch(name -> name.equals("users-0000000000000000.log")));
+        }
+    }
+
+    @Test
+    void testRecover_WithTornTail_KeepsIntactRecordsAndTruncates() throws Exception {
+        // Arrange
+        UserRepository repository = open();
+        create(repository, user(1));
+        create(repository, user(2));
+        journal.close();
+        journal = null;
+        Path segment = directory.resolve("users-0000000000000000.log");
+        long intactSize = Files.size(segment);
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            channel.truncate(intactSize - 5);
+        }
+
+        // Act
+        UserRepository recovered = open();
+        create(recovered, user(3));
+        UserRepository afterRestart = reopen();
+
+        // Assert
+        assertEquals(2, recovered.count());
+        assertEquals(intactSize - UserRecordCodec.encode(user(2)).remaining(), Files.size(segment));
+        assertEquals(List.of("id-1", "id-3"), afterRestart.findAll().map(User::getId).toList());
+    }
+
+    @Test
+    void testAppend_AfterFailedWrite_DiscardsTornBatchAndKeepsLaterUsers() throws Exception {
+        // Arrange
+        UserRepository repository = openFailing();
+        create(repository, user(1));
+        failingWrites = 1;
+
+        // Act
+        assertThrows(UncheckedIOException.class, () -> journal.append(user(2)));
+        create(repository, user(3));
+        UserRepository recovered = reopen();
+
+        // Assert
+        assertEquals(List.of("id-1", "id-3"), recovered.findAll().map(User::getId).toList());
+        assertEquals(user(3), recovered.findById("id-3").orElseThrow());
+    }
+
+    @Test
+    void testAppend_WhenFailedWriteCannotBeDiscarded_RejectsLaterWrites() throws Exception {
+        // Arrange
+        UserRepository repository = openFailing();
+        create(repository, user(1));
+        failingWrites = 1;
+        failingTruncate = true;
+
+        // Act & Assert
+        assertThrows(UncheckedIOException.class, () -> journal.append(user(2)));
+        assertThrows(UncheckedIOException.class, () -> journal.append(user(3)));
+        assertThrows(UncheckedIOException.class, () -> journal.appendAll(List.of(user(4))));
+        assertEquals(List.of("id-1"), reopen().findAll().map(User::getId).toList());
+    }
+
+    @Test
+    void testAppend_WhenDisabled_DoesNothing() throws Exception {
+        // Arrange
+        properties.setEnabled(false);
+        UserRepository repository = open();
+
+        // Act
+        create(repository, user(1));
+
+        // Assert
+        try (Stream<Path> files = Files.list(directory)) {
+            assertEquals(0, files.count());
+        }
+    }
+
+    private final class FailingChannel extends FileChannel {
+
+        private final FileChannel delegate;
+
+        private FailingChannel(FileChannel delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public long write(ByteBuffer[] srcs, int offset, int length) throws IOException {
+            if (failingWrites > 0) {
+                failingWrites--;
+                ByteBuffer torn = srcs[offset].duplicate();
+                torn.limit(torn.position() + torn.remaining() / 2);
+                delegate.write(torn);
+                throw new IOException("Injected write failure");
+            }
+            return delegate.write(srcs, offset, length);
+        }
+
+        @Override
+        public FileChannel truncate(long size) throws IOException {
+            if (failingTruncate) {
+                throw new IOException("Injected truncate failure");
+            }
+            delegate.truncate(size);
+            return this;
+        }
+
+        @Override
+        public int read(ByteBuffer dst) throws IOException {
+            return delegate.read(dst);
+        }
+
+        @Override
+        public long read(ByteBuffer[] dsts, int offset, int length) throws IOException {
+            return delegate.read(dsts, offset, length);
+        }
+
+        @Override
+        public int write(ByteBuffer src) throws IOException {
+            return delegate.write(src);
+        }
+
+        @Override
+        public long position() throws IOException {
+            return delegate.position();
+        }
+
+        @Override
+        public FileChannel position(long newPosition) throws IOException {
+            delegate.position(newPosition);
+            return this;
+        }
+
+        @Override
+        public long size() throws IOException {
+            return delegate.size();
+        }
+
+        @Override
+        public void force(boolean metaData) throws IOException {
+            delegate.force(metaData);
+        }
+
+        @Override
+        public long transferTo(long position, long count, WritableByteChannel target) throws IOException {
+            return delegate.transferTo(position, count, target);
+        }
+
+        @Override
+        public long transferFrom(ReadableByteChannel src, long position, long count) throws IOException {
+            return delegate.transferFrom(src, position, count);
+        }
+
+        @Override
+        public int read(ByteBuffer dst, long position) throws IOException {
+            return delegate.read(dst, position);
+        }
+
+        @Override
+        public int write(ByteBuffer src, long position) throws IOException {
+            return delegate.write(src, position);
+        }
+
+        @Override
+        public MappedByteBuffer map(MapMode mode, long position, long size) throws IOException {
+            return delegate.map(mode, position, size);
+        }
+
+        @Override
+        public FileLock lock(long position, long size, boolean shared) throws IOException {
+            return delegate.lock(position, size, shared);
+        }
+
+        @Override
+        public FileLock tryLock(long position, long size, boolean shared) throws IOException {
+            return delegate.tryLock(position, size, shared);
+        }
+
+        @Override
+        protected void implCloseChannel() throws IOException {
+            delegate.close();
+        }
+    }
+}
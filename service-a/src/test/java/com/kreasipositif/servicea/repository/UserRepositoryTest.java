@@ -0,0 +1,137 @@
+package com.kreasipositif.servicea.repository;
+
+import com.kreasipositif.servicea.model.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UserRepositoryTest {
+
+    private UserRepository userRepository;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = new UserRepository();
+    }
+
+    private User user(String id, String email) {
+        LocalDateTime now = LocalDateTime.now();
+        return new User(id, "User " + id, email, "+1234567890", now, now);
+    }
+
+    @Test
+    void testInsert_ThenFindById_ReturnsUser() {
+        // Arrange
+        userRepository.insert(user("id-1", "john@example.com"));
+
+        // Act & Assert
+        assertTrue(userRepository.findById("id-1").isPresent());
+        assertFalse(userRepository.findById("id-2").isPresent());
+        assertFalse(userRepository.findById(null).isPresent());
+        assertEquals(1, userRepository.count());
+    }
+
+    @Test
+    void testFindByEmail_IsCaseInsensitive() {
+        // Arrange
+        userRepository.insert(user("id-1", "John.Doe@Example.com"));
+
+        // Act & Assert
+        assertEquals("id-1", userRepository.findByEmail("john.doe@example.COM").orElseThrow().getId());
+        assertTrue(userRepository.existsByEmail(" JOHN.DOE@EXAMPLE.COM "));
+    }
+
+    @Test
+    void testInsert_WithDuplicateEmail_ThrowsException() {
+        // Arrange
+        userRepository.insert(user("id-1", "john@example.com"));
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> userRepository.insert(user("id-2", "JOHN@example.com")));
+        assertEquals(1, userRepository.count());
+    }
+
+    @Test
+    void testInsert_WithDuplicateId_ReleasesEmail() {
+        // Arrange
+        userRepository.insert(user("id-1", "john@example.com"));
+
+        // Act
+        assertThrows(IllegalArgumentException.class, () -> userRepository.insert(user("id-1", "jane@example.com")));
+
+        // Assert
+        assertFalse(userRepository.existsByEmail("jane@example.com"));
+        userRepository.insert(user("id-2", "jane@example.com"));
+        assertEquals(2, userRepository.count());
+    }
+
+    @Test
+    void testReserve_ClaimsEmailButStaysHiddenUntilPublished() {
+        // Arrange
+        User john = user("id-1", "john@example.com");
+        User jane = user("id-2", "jane@example.com");
+
+        // Act
+        userRepository.reserve(john);
+        userRepository.reserve(jane);
+
+        // Assert
+        assertThrows(IllegalArgumentException.class, () -> userRepository.reserve(user("id-3", "JOHN@example.com")));
+        assertThrows(IllegalArgumentException.class, () -> userRepository.reserve(user("id-1", "other@example.com")));
+        assertFalse(userRepository.findById("id-1").isPresent());
+        assertEquals(0, userRepository.findAll().count());
+        assertEquals(2, userRepository.findAllWithReserved().count());
+
+        userRepository.publish(john);
+        userRepository.release(jane);
+        assertTrue(userRepository.findById("id-1").isPresent());
+        assertFalse(userRepository.existsByEmail("jane@example.com"));
+        assertEquals(List.of("id-1"), userRepository.findAllWithReserved().map(User::getId).toList());
+    }
+
+    @Test
+    void testInsert_ConcurrentSameEmail_OnlyOneSucceeds() throws Exception {
+        // Arrange
+        int threads = 16;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> results = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            String id = "id-" + i;
+            results.add(executor.submit(() -> {
+                start.await();
+                try {
+                    userRepository.insert(user(id, "Same@Example.com"));
+                    return true;
+                } catch (IllegalArgumentException e) {
+                    return false;
+                }
+            }));
+        }
+
+        // Act
+        start.countDown();
+        int succeeded = 0;
+        for (Future<Boolean> result : results) {
+            if (result.get()) {
+                succeeded++;
+            }
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+
+        // Assert
+        assertEquals(1, succeeded);
+        assertEquals(1, userRepository.count());
+    }
+}
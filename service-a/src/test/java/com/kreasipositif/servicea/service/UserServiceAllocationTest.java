@@ -0,0 +1,87 @@
+package com.kreasipositif.servicea.service;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.kreasipositif.servicea.dto.CreateUserRequest;
+import com.kreasipositif.servicea.dto.UserResponse;
+import com.kreasipositif.servicea.metrics.UserMetrics;
+import com.kreasipositif.servicea.model.User;
+import com.kreasipositif.servicea.persistence.UserPersistenceProperties;
+import com.kreasipositif.servicea.persistence.UserWriteAheadLog;
+import com.kreasipositif.servicea.repository.UserRepository;
+import com.kreasipositif.utility.cache.ResponseCache;
+import com.kreasipositif.utility.feed.ChangeFeed;
+import com.kreasipositif.utility.formatter.DateFormatter;
+import com.kreasipositif.utility.generator.IdGenerator;
+import com.kreasipositif.utility.generator.IdGeneratorProperties;
+import com.kreasipositif.utility.pagination.CursorCodec;
+import com.kreasipositif.utility.validator.StringValidator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import static com.kreasipositif.utility.testing.AllocationBudget.TOTAL_CALLS;
+import static com.kreasipositif.utility.testing.AllocationBudget.assertWithinBudget;
+
+/**
+ * Allocation budgets, in bytes per call, for the user create and read paths with the
+ * real utility beans. The write-ahead log is disabled, and service logging is raised
+ * to WARN so the budgets cover the service code rather than log formatting.
+ */
+class UserServiceAllocationTest {
+
+    private final Logger serviceLogger = (Logger) LoggerFactory.getLogger(UserService.class);
+    private Level previousLevel;
+
+    @BeforeEach
+    void setUp() {
+        previousLevel = serviceLogger.getLevel();
+        serviceLogger.setLevel(Level.WARN);
+    }
+
+    @AfterEach
+    void tearDown() {
+        serviceLogger.setLevel(previousLevel);
+    }
+
+    private static UserService userService(UserRepository userRepository, int cachedResponses) {
+        IdGeneratorProperties idProperties = new IdGeneratorProperties();
+        idProperties.setMode(IdGeneratorProperties.Mode.UUID_V7);
+        ResponseCache<User, UserResponse> responseCache = new ResponseCache<>(cachedResponses, value -> new byte[0]);
+        return new UserService(new IdGenerator(idProperties), new DateFormatter(), new StringValidator(),
+            userRepository, new CursorCodec(), new UserWriteAheadLog(new UserPersistenceProperties(), userRepository),
+            responseCache, new UserMetrics(new SimpleMeterRegistry(), userRepository), new ChangeFeed<>(1024, 0));
+    }
+
+    @Test
+    void testCreateUser_StaysWithinBudget() {
+        // Arrange
+        UserService userService = userService(new UserRepository(), TOTAL_CALLS);
+        CreateUserRequest[] requests = new CreateUserRequest[TOTAL_CALLS];
+        for (int i = 0; i < requests.length; i++) {
+            requests[i] = new CreateUserRequest("User " + i, "user" + i + "@example.com", "+62812" + (1_000_000 + i));
+        }
+
+        // Act & Assert
+        assertWithinBudget("createUser", 1_024, call -> userService.createUser(requests[call]));
+    }
+
+    @Test
+    void testGetUserById_StaysWithinBudget() {
+        // Arrange
+        UserRepository userRepository = new UserRepository();
+        UserService uncached = userService(userRepository, 0);
+        UserService cached = userService(userRepository, 1_000);
+        String[] ids = new String[1_000];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = uncached.createUser(new CreateUserRequest("User " + i, "user" + i + "@example.com",
+                "+62812" + (1_000_000 + i))).getId();
+        }
+
+        // Act & Assert
+        assertWithinBudget("getUserById (convertToResponse)", 448, call -> uncached.getUserById(ids[call % ids.length]));
+        assertWithinBudget("getUserById (cached)", 96, call -> cached.getUserById(ids[call % ids.length]));
+    }
+}
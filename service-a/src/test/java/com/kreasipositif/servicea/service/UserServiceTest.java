@@ -1,24 +1,45 @@
 package com.kreasipositif.servicea.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.kreasipositif.servicea.dto.CreateUserRequest;
 import com.kreasipositif.servicea.dto.UserResponse;
+import com.kreasipositif.servicea.metrics.UserMetrics;
+import com.kreasipositif.servicea.model.User;
+import com.kreasipositif.servicea.persistence.UserWriteAheadLog;
+import com.kreasipositif.servicea.repository.UserRepository;
+import com.kreasipositif.utility.cache.ResponseCache;
+import com.kreasipositif.utility.feed.ChangeEvent;
+import com.kreasipositif.utility.feed.ChangeFeed;
 import com.kreasipositif.utility.formatter.DateFormatter;
 import com.kreasipositif.utility.generator.IdGenerator;
+import com.kreasipositif.utility.pagination.CursorCodec;
+import com.kreasipositif.utility.pagination.CursorPage;
 import com.kreasipositif.utility.validator.StringValidator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -33,13 +54,33 @@ class UserServiceTest {
     @Mock
     private StringValidator stringValidator;
 
+    @Spy
+    private UserRepository userRepository = new UserRepository();
+
+    @Spy
+    private CursorCodec cursorCodec = new CursorCodec();
+
+    @Mock
+    private UserWriteAheadLog userWriteAheadLog;
+
+    @Spy
+    private ResponseCache<User, UserResponse> responseCache = new ResponseCache<>(100, new ObjectMapper()::writeValueAsBytes);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Spy
+    private UserMetrics userMetrics = new UserMetrics(meterRegistry, new UserRepository());
+
+    @Spy
+    private ChangeFeed<User> userChangeFeed = new ChangeFeed<>(16, 1);
+
     @InjectMocks
     private UserService userService;
 
     @BeforeEach
     void setUp() {
         // Use lenient() to avoid UnnecessaryStubbingException for tests that don't use all mocks
-        lenient().when(idGenerator.generateUUID()).thenReturn("test-uuid-123");
+        lenient().when(idGenerator.generateId()).thenReturn("test-uuid-123");
         lenient().when(dateFormatter.formatDateTime(any())).thenReturn("2026-01-06 13:30:00");
     }
 
@@ -186,4 +227,203 @@ class UserServiceTest {
         // Assert
         assertFalse(found.isPresent());
     }
+
+    @Test
+    void testCreateUser_WithDuplicateEmail_ThrowsException() {
+        // Arrange
+        when(stringValidator.isNotEmpty(anyString())).thenReturn(true);
+        when(stringValidator.isValidEmail(anyString())).thenReturn(true);
+        when(stringValidator.isValidPhone(anyString())).thenReturn(true);
+        when(idGenerator.generateId()).thenReturn("uuid-1", "uuid-2");
+
+        userService.createUser(new CreateUserRequest("John Doe", "john@example.com", "+1234567890"));
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> {
+            userService.createUser(new CreateUserRequest("Johnny", "JOHN@Example.com", "+1234567891"));
+        });
+        assertEquals(1, userService.getAllUsers().size());
+    }
+
+    @Test
+    void testGetUsers_WalksAllPagesWithCursor() {
+        // Arrange
+        when(stringValidator.isNotEmpty(anyString())).thenReturn(true);
+        when(stringValidator.isValidEmail(anyString())).thenReturn(true);
+        when(stringValidator.isValidPhone(anyString())).thenReturn(true);
+        when(idGenerator.generateId()).thenReturn("uuid-1", "uuid-2", "uuid-3", "uuid-4", "uuid-5");
+        for (int i = 1; i <= 5; i++) {
+            userService.createUser(new CreateUserRequest("User " + i, "user" + i + "@example.com", "+1234567890"));
+        }
+
+        // Act
+        CursorPage<UserResponse> first = userService.getUsers(null, 2);
+        CursorPage<UserResponse> second = userService.getUsers(first.getNext(), 2);
+        CursorPage<UserResponse> last = userService.getUsers(second.getNext(), 2);
+
+        // Assert
+        assertEquals(List.of("User 1", "User 2"), first.getItems().stream().map(UserResponse::getName).toList());
+        assertEquals(List.of("User 3", "User 4"), second.getItems().stream().map(UserResponse::getName).toList());
+        assertEquals(List.of("User 5"), last.getItems().stream().map(UserResponse::getName).toList());
+        assertNotNull(first.getNext());
+        assertNull(last.getNext());
+    }
+
+    @Test
+    void testGetUsers_WithInvalidLimitOrCursor_ThrowsException() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> userService.getUsers(null, 0));
+        assertThrows(IllegalArgumentException.class, () -> userService.getUsers(null, UserService.MAX_PAGE_SIZE + 1));
+        assertThrows(IllegalArgumentException.class, () -> userService.getUsers("garbage", 10));
+    }
+
+    @Test
+    void testCreateUser_WhenJournalFails_RollsBackUser() {
+        // Arrange
+        when(stringValidator.isNotEmpty(anyString())).thenReturn(true);
+        when(stringValidator.isValidEmail(anyString())).thenReturn(true);
+        when(stringValidator.isValidPhone(anyString())).thenReturn(true);
+        doThrow(new UncheckedIOException(new IOException("disk full"))).when(userWriteAheadLog).append(any());
+        long before = userChangeFeed.lastSequence();
+
+        // Act & Assert
+        assertThrows(UncheckedIOException.class, () -> {
+            userService.createUser(new CreateUserRequest("John Doe", "john@example.com", "+1234567890"));
+        });
+        assertTrue(userService.getAllUsers().isEmpty());
+        assertFalse(userRepository.existsByEmail("john@example.com"));
+        assertEquals(before, userChangeFeed.lastSequence());
+    }
+
+    @Test
+    void testCreateUser_IsNotVisibleUntilJournaled() {
+        // Arrange
+        when(stringValidator.isNotEmpty(anyString())).thenReturn(true);
+        when(stringValidator.isValidEmail(anyString())).thenReturn(true);
+        when(stringValidator.isValidPhone(anyString())).thenReturn(true);
+        List<Boolean> visibleWhileJournaling = new ArrayList<>();
+        doAnswer(invocation -> {
+            visibleWhileJournaling.add(userRepository.findById("test-uuid-123").isPresent());
+            return null;
+        }).when(userWriteAheadLog).append(any());
+
+        // Act
+        userService.createUser(new CreateUserRequest("John Doe", "john@example.com", "+1234567890"));
+
+        // Assert
+        assertEquals(List.of(false), visibleWhileJournaling);
+        assertTrue(userRepository.findById("test-uuid-123").isPresent());
+    }
+
+    @Test
+    void testCreateUser_PublishesCreatedEventOnceJournaled() {
+        // Arrange
+        when(stringValidator.isNotEmpty(anyString())).thenReturn(true);
+        when(stringValidator.isValidEmail(anyString())).thenReturn(true);
+        when(stringValidator.isValidPhone(anyString())).thenReturn(true);
+        long before = userChangeFeed.lastSequence();
+
+        // Act
+        userService.createUser(new CreateUserRequest("John Doe", "john@example.com", "+1234567890"));
+
+        // Assert
+        List<ChangeEvent<User>> changes = readChanges(before);
+        assertEquals(1, changes.size());
+        assertEquals(ChangeEvent.CREATED, changes.get(0).getType());
+        assertEquals("test-uuid-123", changes.get(0).getPayload().getId());
+        assertTrue(new String(userService.toJson(changes.get(0).getPayload())).contains("\"name\":\"John Doe\""));
+    }
+
+    private List<ChangeEvent<User>> readChanges(long after) {
+        List<ChangeEvent<User>> changes = new ArrayList<>();
+        assertTrue(userChangeFeed.readAfter(after, 100, changes));
+        return changes;
+    }
+
+    @Test
+    void testCreateUsers_WithInvalidAndDuplicateEntries_CreatesTheRest() {
+        // Arrange
+        when(stringValidator.isNotEmpty(anyString())).thenReturn(true);
+        when(stringValidator.isValidEmail(anyString())).thenAnswer(invocation -> invocation.<String>getArgument(0).contains("@"));
+        when(stringValidator.isValidPhone(anyString())).thenReturn(true);
+        when(idGenerator.generateIds(2)).thenReturn(List.of("uuid-1", "uuid-2"));
+        List<CreateUserRequest> requests = List.of(
+            new CreateUserRequest("Alice", "alice@example.com", "+1234567890"),
+            new CreateUserRequest("Bob", "invalid", "+1234567891"),
+            new CreateUserRequest("Alice Again", "ALICE@example.com", "+1234567892")
+        );
+
+        // Act
+        String[] errors = userService.createUsers(requests);
+
+        // Assert
+        assertArrayEquals(new String[] {null, "Invalid email format", "Email is already registered"}, errors);
+        assertEquals(1, userRepository.count());
+        verify(userWriteAheadLog).appendAll(argThat(users -> users.size() == 1));
+    }
+
+    @Test
+    void testGetUserJsonById_RepeatedReads_FormatOnceAndShareBytes() throws Exception {
+        // Arrange
+        when(stringValidator.isNotEmpty(anyString())).thenReturn(true);
+        when(stringValidator.isValidEmail(anyString())).thenReturn(true);
+        when(stringValidator.isValidPhone(anyString())).thenReturn(true);
+        UserResponse created = userService.createUser(new CreateUserRequest("John Doe", "john@example.com", "+1234567890"));
+
+        // Act
+        byte[] first = userService.getUserJsonById(created.getId()).orElseThrow();
+        byte[] second = userService.getUserJsonById(created.getId()).orElseThrow();
+        userService.getUserById(created.getId());
+
+        // Assert
+        assertSame(first, second);
+        assertEquals(created, new ObjectMapper().readValue(first, UserResponse.class));
+        verify(dateFormatter, times(2)).formatDateTime(any());
+        assertTrue(userService.getUserJsonById("non-existent-id").isEmpty());
+    }
+
+    @Test
+    void testCreateUsers_RecordsOperationTimeAndRejectionReasons() {
+        // Arrange
+        when(stringValidator.isNotEmpty(anyString())).thenReturn(true);
+        when(stringValidator.isValidEmail(anyString())).thenAnswer(invocation -> invocation.<String>getArgument(0).contains("@"));
+        when(stringValidator.isValidPhone(anyString())).thenReturn(true);
+        when(idGenerator.generateIds(2)).thenReturn(List.of("uuid-1", "uuid-2"));
+        List<CreateUserRequest> requests = List.of(
+            new CreateUserRequest("Alice", "alice@example.com", "+1234567890"),
+            new CreateUserRequest("Bob", "invalid", "+1234567891"),
+            new CreateUserRequest("Alice Again", "ALICE@example.com", "+1234567892")
+        );
+
+        // Act
+        userService.createUsers(requests);
+
+        // Assert
+        assertEquals(1, meterRegistry.get("users.operations").tag("operation", "create_batch").timer().count());
+        assertEquals(1, meterRegistry.get("users.id.generation").timer().count());
+        assertEquals(1.0, meterRegistry.get("users.validation.failures")
+            .tag("reason", "invalid_email_format").counter().count());
+        assertEquals(1.0, meterRegistry.get("users.validation.failures")
+            .tag("reason", "email_is_already_registered").counter().count());
+    }
+
+    @Test
+    void testGetUsersByIds_ReturnsKnownUsersInRequestOrder() {
+        // Arrange
+        when(stringValidator.isNotEmpty(anyString())).thenReturn(true);
+        when(stringValidator.isValidEmail(anyString())).thenReturn(true);
+        when(stringValidator.isValidPhone(anyString())).thenReturn(true);
+        when(idGenerator.generateId()).thenReturn("uuid-1", "uuid-2");
+        userService.createUser(new CreateUserRequest("Alice", "alice@example.com", "+1234567890"));
+        userService.createUser(new CreateUserRequest("Bob", "bob@example.com", "+1234567891"));
+
+        // Act
+        List<UserResponse> users = userService.getUsersByIds(List.of("uuid-2", "unknown", "uuid-1"));
+
+        // Assert
+        assertEquals(List.of("Bob", "Alice"), users.stream().map(UserResponse::getName).toList());
+        assertTrue(userService.getUsersByIds(List.of()).isEmpty());
+        assertThrows(IllegalArgumentException.class,
+            () -> userService.getUsersByIds(Collections.nCopies(UserService.MAX_LOOKUP_SIZE + 1, "uuid-1")));
+    }
 }
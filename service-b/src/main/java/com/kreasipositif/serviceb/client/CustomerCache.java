@@ -0,0 +1,74 @@
+package com.kreasipositif.serviceb.client;
+
+import com.kreasipositif.serviceb.dto.CustomerResponse;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Bounded cache of lookup results, including misses, that expire after a fixed time.
+ * When over capacity the oldest entries are evicted first, as in the response cache.
+ */
+class CustomerCache {
+
+    private final int maxEntries;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Queue<String> insertionOrder = new ConcurrentLinkedQueue<>();
+    // Expired keys stay queued until polled, so the queue is bounded separately
+    private final AtomicInteger queuedKeys = new AtomicInteger();
+
+    CustomerCache(int maxEntries) {
+        if (maxEntries < 0) {
+            throw new IllegalArgumentException("Max entries must not be negative");
+        }
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * @return the cached result, or {@code null} if there is none or it has expired
+     */
+    Optional<CustomerResponse> get(String id, long nowNanos) {
+        Entry entry = entries.get(id);
+        if (entry == null) {
+            return null;
+        }
+        if (nowNanos - entry.expiresAt >= 0) {
+            entries.remove(id, entry);
+            return null;
+        }
+        return entry.customer;
+    }
+
+    void put(String id, Optional<CustomerResponse> customer, long expiresAtNanos) {
+        if (maxEntries == 0) {
+            return;
+        }
+        if (entries.put(id, new Entry(customer, expiresAtNanos)) == null) {
+            insertionOrder.add(id);
+            queuedKeys.incrementAndGet();
+            evictOverflow();
+        }
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private void evictOverflow() {
+        while (entries.size() > maxEntries || queuedKeys.get() > 2 * maxEntries) {
+            String eldest = insertionOrder.poll();
+            if (eldest == null) {
+                return;
+            }
+            queuedKeys.decrementAndGet();
+            entries.remove(eldest);
+        }
+    }
+
+    private record Entry(Optional<CustomerResponse> customer, long expiresAt) {
+    }
+}
@@ -0,0 +1,362 @@
+package com.kreasipositif.serviceb.client;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kreasipositif.serviceb.dto.CustomerResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Looks up customers in service-a without a request per order.
+ * <ul>
+ *   <li>Results, including unknown ids, are cached for a while.</li>
+ *   <li>Concurrent lookups of the same id share one pending result.</li>
+ *   <li>Ids missing from the cache are collected for up to
+ *       {@link CustomerLookupProperties#getBatchDelay()}, or until a batch is full, and
+ *       sent together to {@code POST /api/users/lookup}.</li>
+ *   <li>Requests go over the HTTP client's pool of keep-alive connections.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class CustomerLookupClient {
+
+    private final CustomerLookupProperties properties;
+    private final ObjectMapper objectMapper;
+    private final JavaType customerListType;
+    private final HttpClient httpClient;
+    private final URI lookupUri;
+    private final CustomerCache cache;
+    private final Map<String, CompletableFuture<Optional<CustomerResponse>>> inFlight = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService flusher;
+
+    private final ReentrantLock batchLock = new ReentrantLock();
+    private List<String> pending = new ArrayList<>();
+    private ScheduledFuture<?> scheduledFlush;
+
+    private final Counter cacheHits;
+    private final Counter cacheMisses;
+    private final Counter coalesced;
+    private final Counter unresolved;
+    private final Timer lookupLatency;
+    private final Timer bulkRequests;
+    private final Timer failedBulkRequests;
+    private final DistributionSummary batchSizes;
+
+    public CustomerLookupClient(CustomerLookupProperties properties, ObjectMapper objectMapper, MeterRegistry registry) {
+        if (properties.getBatchSize() < 1) {
+            throw new IllegalArgumentException("Batch size must be at least 1");
+        }
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.customerListType = objectMapper.getTypeFactory().constructCollectionType(List.class, CustomerResponse.class);
+        this.httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(properties.getConnectTimeout())
+            .build();
+        this.lookupUri = URI.create(properties.getBaseUrl()).resolve("/api/users/lookup");
+        this.cache = new CustomerCache(properties.getCacheMaxEntries());
+        this.flusher = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("customer-lookup-batch").daemon().factory());
+
+        this.cacheHits = Counter.builder("customers.lookup.cache")
+            .description("Customer lookups answered from or missing the cache")
+            .tag("result", "hit")
+            .register(registry);
+        this.cacheMisses = Counter.builder("customers.lookup.cache")
+            .description("Customer lookups answered from or missing the cache")
+            .tag("result", "miss")
+            .register(registry);
+        this.coalesced = Counter.builder("customers.lookup.coalesced")
+            .description("Cache misses that joined a lookup already in flight")
+            .register(registry);
+        this.unresolved = Counter.builder("customers.lookup.unresolved")
+            .description("Customer ids left out of best-effort lookups because service-a failed or was too slow")
+            .register(registry);
+        this.lookupLatency = Timer.builder("customers.lookup.latency")
+            .description("Time callers wait for customer lookups, cache hits included")
+            .register(registry);
+        this.bulkRequests = bulkRequestTimer(registry, "success");
+        this.failedBulkRequests = bulkRequestTimer(registry, "failure");
+        this.batchSizes = DistributionSummary.builder("customers.lookup.batch.size")
+            .description("Customer ids per bulk lookup request")
+            .register(registry);
+        Gauge.builder("customers.lookup.cache.size", cache, CustomerCache::size)
+            .description("Customer ids cached")
+            .register(registry);
+    }
+
+    private static Timer bulkRequestTimer(MeterRegistry registry, String outcome) {
+        return Timer.builder("customers.lookup.requests")
+            .description("Bulk lookup requests to service-a")
+            .tag("outcome", outcome)
+            .register(registry);
+    }
+
+    @PreDestroy
+    public void close() {
+        flusher.shutdownNow();
+        httpClient.close();
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * @return the customer, or empty if service-a does not know the id
+     * @throws CustomerLookupException if service-a cannot be reached or does not answer in time
+     */
+    public Optional<CustomerResponse> find(String id) {
+        long started = System.nanoTime();
+        try {
+            Optional<CustomerResponse> cached = cache.get(id, started);
+            if (cached != null) {
+                cacheHits.increment();
+                return cached;
+            }
+            return await(load(id), deadline(started));
+        } finally {
+            lookupLatency.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Looks up many customers at once; ids not yet cached go out in as few bulk
+     * requests as the batch size allows, all of them in flight together.
+     *
+     * @return the customers found, by id; unknown ids are left out
+     * @throws CustomerLookupException if service-a cannot be reached or does not answer in time
+     */
+    public Map<String, CustomerResponse> findAll(Collection<String> ids) {
+        long started = System.nanoTime();
+        try {
+            return lookUp(ids, started, deadline(started), true);
+        } finally {
+            lookupLatency.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Best-effort {@link #findAll} for decorating responses. Waits at most
+     * {@link CustomerLookupProperties#getEnrichmentTimeout()}; ids that are not resolved
+     * by then, or whose lookup failed, are left out instead of failing the call.
+     *
+     * @return the customers found in time, by id
+     */
+    public Map<String, CustomerResponse> findAvailable(Collection<String> ids) {
+        long started = System.nanoTime();
+        try {
+            return lookUp(ids, started, started + properties.getEnrichmentTimeout().toNanos(), false);
+        } finally {
+            lookupLatency.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private Map<String, CustomerResponse> lookUp(Collection<String> ids, long started, long deadline, boolean strict) {
+        Map<String, CustomerResponse> found = new HashMap<>();
+        Map<String, CompletableFuture<Optional<CustomerResponse>>> loading = new LinkedHashMap<>();
+        for (String id : ids) {
+            if (found.containsKey(id) || loading.containsKey(id)) {
+                continue;
+            }
+            Optional<CustomerResponse> cached = cache.get(id, started);
+            if (cached != null) {
+                cacheHits.increment();
+                cached.ifPresent(customer -> found.put(id, customer));
+            } else {
+                loading.put(id, load(id));
+            }
+        }
+        int missed = 0;
+        for (Map.Entry<String, CompletableFuture<Optional<CustomerResponse>>> entry : loading.entrySet()) {
+            try {
+                await(entry.getValue(), deadline).ifPresent(customer -> found.put(entry.getKey(), customer));
+            } catch (CustomerLookupException e) {
+                if (strict) {
+                    throw e;
+                }
+                missed++;
+            }
+        }
+        if (missed > 0) {
+            unresolved.increment(missed);
+            log.debug("Returning without {} of {} customers", missed, loading.size());
+        }
+        return found;
+    }
+
+    private CompletableFuture<Optional<CustomerResponse>> load(String id) {
+        cacheMisses.increment();
+        CompletableFuture<Optional<CustomerResponse>> existing = inFlight.get(id);
+        if (existing == null) {
+            CompletableFuture<Optional<CustomerResponse>> created = new CompletableFuture<>();
+            existing = inFlight.putIfAbsent(id, created);
+            if (existing == null) {
+                enqueue(id);
+                return created;
+            }
+        }
+        coalesced.increment();
+        return existing;
+    }
+
+    private void enqueue(String id) {
+        List<String> full = null;
+        batchLock.lock();
+        try {
+            pending.add(id);
+            if (pending.size() >= properties.getBatchSize()) {
+                full = takePending();
+            } else if (pending.size() == 1) {
+                scheduledFlush = flusher.schedule(this::flush, properties.getBatchDelay().toNanos(), TimeUnit.NANOSECONDS);
+            }
+        } finally {
+            batchLock.unlock();
+        }
+        if (full != null) {
+            send(full);
+        }
+    }
+
+    private void flush() {
+        List<String> batch;
+        batchLock.lock();
+        try {
+            batch = takePending();
+        } finally {
+            batchLock.unlock();
+        }
+        if (!batch.isEmpty()) {
+            send(batch);
+        }
+    }
+
+    private List<String> takePending() {
+        List<String> batch = pending;
+        pending = new ArrayList<>();
+        if (scheduledFlush != null) {
+            scheduledFlush.cancel(false);
+            scheduledFlush = null;
+        }
+        return batch;
+    }
+
+    private void send(List<String> ids) {
+        batchSizes.record(ids.size());
+        long started = System.nanoTime();
+        HttpRequest request;
+        try {
+            request = HttpRequest.newBuilder(lookupUri)
+                .timeout(properties.getTimeout())
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(Map.of("ids", ids))))
+                .build();
+        } catch (IOException e) {
+            fail(ids, new CustomerLookupException("Could not write customer lookup request", e));
+            return;
+        }
+        httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray())
+            .whenComplete((response, error) -> {
+                long elapsed = System.nanoTime() - started;
+                if (error != null) {
+                    failedBulkRequests.record(elapsed, TimeUnit.NANOSECONDS);
+                    fail(ids, new CustomerLookupException("Customer lookup failed: " + error.getMessage(), error));
+                } else if (response.statusCode() != 200) {
+                    failedBulkRequests.record(elapsed, TimeUnit.NANOSECONDS);
+                    fail(ids, new CustomerLookupException("Customer lookup returned status " + response.statusCode()));
+                } else {
+                    bulkRequests.record(elapsed, TimeUnit.NANOSECONDS);
+                    complete(ids, response.body());
+                }
+            });
+    }
+
+    private void complete(List<String> ids, byte[] body) {
+        List<CustomerResponse> customers;
+        try {
+            customers = objectMapper.readValue(body, customerListType);
+        } catch (IOException e) {
+            fail(ids, new CustomerLookupException("Could not read customer lookup response", e));
+            return;
+        }
+        Map<String, CustomerResponse> byId = new HashMap<>();
+        for (CustomerResponse customer : customers) {
+            byId.put(customer.getId(), customer);
+        }
+        long now = System.nanoTime();
+        long foundExpiry = now + properties.getCacheTtl().toNanos();
+        long missingExpiry = now + properties.getNegativeCacheTtl().toNanos();
+        for (String id : ids) {
+            Optional<CustomerResponse> customer = Optional.ofNullable(byId.get(id));
+            // Cached before the pending result is dropped, so no caller falls between the two
+            cache.put(id, customer, customer.isPresent() ? foundExpiry : missingExpiry);
+            CompletableFuture<Optional<CustomerResponse>> result = inFlight.remove(id);
+            if (result != null) {
+                result.complete(customer);
+            }
+        }
+    }
+
+    private void fail(List<String> ids, CustomerLookupException error) {
+        log.warn("{} ({} ids)", error.getMessage(), ids.size());
+        for (String id : ids) {
+            CompletableFuture<Optional<CustomerResponse>> result = inFlight.remove(id);
+            if (result != null) {
+                result.completeExceptionally(error);
+            }
+        }
+    }
+
+    /**
+     * Callers give up a little after the request timeout, which covers the wait for
+     * the batch to be sent.
+     */
+    private long deadline(long startNanos) {
+        return startNanos + properties.getTimeout().toNanos() + properties.getBatchDelay().toNanos();
+    }
+
+    private Optional<CustomerResponse> await(CompletableFuture<Optional<CustomerResponse>> result, long deadline) {
+        try {
+            return result.get(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof CustomerLookupException lookupError) {
+                throw lookupError;
+            }
+            throw new CustomerLookupException("Customer lookup failed", e.getCause());
+        } catch (TimeoutException e) {
+            throw new CustomerLookupException("Customer lookup timed out", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CustomerLookupException("Interrupted while looking up a customer", e);
+        }
+    }
+}
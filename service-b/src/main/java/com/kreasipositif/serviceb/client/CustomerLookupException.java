@@ -0,0 +1,15 @@
+package com.kreasipositif.serviceb.client;
+
+/**
+ * Thrown when service-a cannot be asked whether a customer exists.
+ */
+public class CustomerLookupException extends RuntimeException {
+
+    public CustomerLookupException(String message) {
+        super(message);
+    }
+
+    public CustomerLookupException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,63 @@
+package com.kreasipositif.serviceb.client;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "customers.lookup")
+public class CustomerLookupProperties {
+
+    /**
+     * Whether orders are only accepted for customers that exist in service-a.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Base URL of service-a.
+     */
+    private String baseUrl = "http://localhost:8081";
+
+    /**
+     * How long a found customer is remembered.
+     */
+    private Duration cacheTtl = Duration.ofMinutes(5);
+
+    /**
+     * How long an unknown customer id is remembered, kept short so a customer created
+     * just after a rejected order is picked up soon.
+     */
+    private Duration negativeCacheTtl = Duration.ofSeconds(10);
+
+    /**
+     * Maximum number of customer ids cached.
+     */
+    private int cacheMaxEntries = 100_000;
+
+    /**
+     * Most ids sent in one bulk lookup; a batch is sent as soon as it is full.
+     */
+    private int batchSize = 100;
+
+    /**
+     * How long the first id of a batch waits for others to join it.
+     */
+    private Duration batchDelay = Duration.ofMillis(2);
+
+    /**
+     * Timeout of a bulk lookup request.
+     */
+    private Duration timeout = Duration.ofSeconds(2);
+
+    /**
+     * How long responses that embed customers wait for them; customers not resolved
+     * by then are left out so a slow service-a only degrades the response.
+     */
+    private Duration enrichmentTimeout = Duration.ofMillis(250);
+
+    /**
+     * Timeout for opening a connection to service-a.
+     */
+    private Duration connectTimeout = Duration.ofSeconds(1);
+}
@@ -0,0 +1,29 @@
+package com.kreasipositif.serviceb.config;
+
+import com.kreasipositif.serviceb.model.Order;
+import com.kreasipositif.serviceb.service.OrderService;
+import com.kreasipositif.utility.feed.ChangeFeed;
+import com.kreasipositif.utility.feed.ChangeFeedStream;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class ChangeFeedConfig {
+
+    @Bean
+    public ChangeFeed<Order> orderChangeFeed(OrderFeedProperties properties, MeterRegistry registry) {
+        ChangeFeed<Order> feed = new ChangeFeed<>(properties.getCapacity(), properties.getMaxSubscribers());
+        Gauge.builder("orders.feed.subscribers", feed, ChangeFeed::subscriberCount)
+            .description("Open order change streams")
+            .register(registry);
+        return feed;
+    }
+
+    @Bean
+    public ChangeFeedStream<Order> orderChangeStream(ChangeFeed<Order> orderChangeFeed, OrderService orderService,
+                                                     OrderFeedProperties properties) {
+        return new ChangeFeedStream<>(orderChangeFeed, orderService::toJson, properties.getHeartbeat());
+    }
+}
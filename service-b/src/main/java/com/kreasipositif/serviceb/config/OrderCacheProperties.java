@@ -0,0 +1,15 @@
+package com.kreasipositif.serviceb.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "orders.cache")
+public class OrderCacheProperties {
+
+    /**
+     * Maximum number of order responses kept formatted and serialized. Zero disables
+     * the cache.
+     */
+    private int maxEntries = 100_000;
+}
@@ -0,0 +1,15 @@
+package com.kreasipositif.serviceb.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "orders.storage")
+public class OrderStorageProperties {
+
+    /**
+     * Whether orders are also kept in the primitive column store, which serves
+     * summary scans without touching {@code Order} objects.
+     */
+    private boolean columnar = true;
+}
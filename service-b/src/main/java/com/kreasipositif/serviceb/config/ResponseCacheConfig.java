@@ -0,0 +1,18 @@
+package com.kreasipositif.serviceb.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kreasipositif.serviceb.dto.OrderResponse;
+import com.kreasipositif.serviceb.model.Order;
+import com.kreasipositif.utility.cache.ResponseCache;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class ResponseCacheConfig {
+
+    @Bean
+    public ResponseCache<Order, OrderResponse> orderResponseCache(OrderCacheProperties properties,
+                                                                  ObjectMapper objectMapper) {
+        return new ResponseCache<>(properties.getMaxEntries(), objectMapper::writeValueAsBytes);
+    }
+}
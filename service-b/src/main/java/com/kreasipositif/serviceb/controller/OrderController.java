@@ -1,15 +1,39 @@
 package com.kreasipositif.serviceb.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.kreasipositif.serviceb.client.CustomerLookupException;
+import com.kreasipositif.serviceb.dto.BatchOrderResponse;
+import com.kreasipositif.serviceb.dto.BatchOrderStatusChangeRequest;
 import com.kreasipositif.serviceb.dto.CreateOrderRequest;
 import com.kreasipositif.serviceb.dto.OrderResponse;
+import com.kreasipositif.serviceb.dto.OrderStatusChangeRequest;
+import com.kreasipositif.serviceb.dto.OrderStatsResponse;
+import com.kreasipositif.serviceb.dto.OrderSummaryResponse;
+import com.kreasipositif.serviceb.dto.OrderWithCustomerResponse;
+import com.kreasipositif.serviceb.model.Order;
+import com.kreasipositif.serviceb.model.OrderStatus;
+import com.kreasipositif.serviceb.repository.OrderRollupStore;
 import com.kreasipositif.serviceb.service.OrderService;
+import com.kreasipositif.utility.feed.ChangeFeed;
+import com.kreasipositif.utility.feed.ChangeFeedStream;
+import com.kreasipositif.utility.pagination.CursorPage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDateTime;
+import java.util.Iterator;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Slf4j
 @RestController
@@ -17,7 +41,12 @@ import java.util.List;
 @RequiredArgsConstructor
 public class OrderController {
 
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
     private final OrderService orderService;
+    private final ObjectMapper objectMapper;
+    private final ChangeFeed<Order> orderChangeFeed;
+    private final ChangeFeedStream<Order> orderChangeStream;
 
     @PostMapping
     public ResponseEntity<OrderResponse> createOrder(@RequestBody CreateOrderRequest request) {
@@ -27,18 +56,180 @@ public class OrderController {
         } catch (IllegalArgumentException e) {
             log.error("Validation error: {}", e.getMessage());
             return ResponseEntity.badRequest().build();
+        } catch (CustomerLookupException e) {
+            log.error("Customer check unavailable: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+    }
+
+    @PostMapping("/batch")
+    public ResponseEntity<BatchOrderResponse> createOrders(@RequestBody List<CreateOrderRequest> requests) {
+        try {
+            BatchOrderResponse response = orderService.createOrders(requests);
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            log.error("Validation error: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (CustomerLookupException e) {
+            log.error("Customer check unavailable: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+    }
+
+    @PutMapping("/{id}/status")
+    public ResponseEntity<OrderResponse> changeStatus(@PathVariable String id,
+                                                      @RequestBody OrderStatusChangeRequest request) {
+        try {
+            return orderService.changeStatus(id, request.getStatus())
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+        } catch (IllegalArgumentException e) {
+            log.error("Validation error: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (IllegalStateException e) {
+            log.warn("Rejected status change of order {}: {}", id, e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+    }
+
+    @PutMapping("/status")
+    public ResponseEntity<BatchOrderResponse> changeStatuses(@RequestBody BatchOrderStatusChangeRequest request) {
+        try {
+            return ResponseEntity.ok(orderService.changeStatuses(request.getIds(), request.getStatus()));
+        } catch (IllegalArgumentException e) {
+            log.error("Validation error: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
         }
     }
 
     @GetMapping
-    public ResponseEntity<List<OrderResponse>> getAllOrders() {
-        List<OrderResponse> orders = orderService.getAllOrders();
-        return ResponseEntity.ok(orders);
+    public ResponseEntity<CursorPage<OrderResponse>> getAllOrders(
+            @RequestParam(required = false) String customerId,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String orderNumber,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "100") int limit) {
+        try {
+            CursorPage<OrderResponse> orders = orderService.findOrders(customerId, status, orderNumber, cursor, limit);
+            return ResponseEntity.ok(orders);
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid page request: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * {@code include=customer}: the same page with each order's customer embedded.
+     */
+    @GetMapping(params = "include=customer")
+    public ResponseEntity<CursorPage<OrderWithCustomerResponse>> getAllOrdersWithCustomers(
+            @RequestParam(required = false) String customerId,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String orderNumber,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "100") int limit) {
+        try {
+            CursorPage<OrderResponse> orders = orderService.findOrders(customerId, status, orderNumber, cursor, limit);
+            return ResponseEntity.ok(orderService.withCustomers(orders));
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid page request: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @GetMapping(value = "/export", produces = "application/x-ndjson")
+    public ResponseEntity<StreamingResponseBody> exportOrders(
+            @RequestParam(required = false) String customerId,
+            @RequestParam(required = false) String status) {
+        OrderStatus statusFilter;
+        try {
+            statusFilter = status == null ? null : OrderStatus.parse(status);
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid export request: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+        ObjectWriter writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        StreamingResponseBody body = outputStream -> {
+            long written = 0;
+            try (Stream<OrderResponse> orders = orderService.streamOrders(customerId, statusFilter);
+                 JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+                generator.setRootValueSeparator(null);
+                Iterator<OrderResponse> iterator = orders.iterator();
+                while (iterator.hasNext()) {
+                    writer.writeValue(generator, iterator.next());
+                    generator.writeRaw('\n');
+                    written++;
+                }
+            }
+            log.info("Exported {} orders", written);
+        };
+        return ResponseEntity.ok().contentType(NDJSON).body(body);
+    }
+
+    /**
+     * Streams order changes as server-sent events. A reconnecting client resumes after
+     * its {@code Last-Event-ID}; {@code since} does the same for a first connection.
+     */
+    @GetMapping(value = "/changes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamChanges(
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId,
+            @RequestParam(required = false) Long since) {
+        // Only a check: the stream takes its slot when it starts, so one that never runs holds none
+        if (!orderChangeFeed.hasRoom()) {
+            log.warn("Rejecting order change subscriber, {} already open", orderChangeFeed.subscriberCount());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+        Long after = lastEventId != null ? lastEventId : since;
+        return ResponseEntity.ok()
+            .contentType(MediaType.TEXT_EVENT_STREAM)
+            .cacheControl(CacheControl.noStore())
+            .body(out -> orderChangeStream.writeTo(out, after));
+    }
+
+    @GetMapping("/summary")
+    public ResponseEntity<OrderSummaryResponse> getOrderSummary(
+            @RequestParam(required = false) String customerId,
+            @RequestParam(required = false) String productName,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        return ResponseEntity.ok(orderService.summarizeOrders(customerId, productName, from, to));
+    }
+
+    @GetMapping("/summary/by-customer")
+    public ResponseEntity<List<OrderSummaryResponse>> getOrderSummaryByCustomer() {
+        return ResponseEntity.ok(orderService.summarizeOrdersByCustomer());
+    }
+
+    @GetMapping("/summary/by-product")
+    public ResponseEntity<List<OrderSummaryResponse>> getOrderSummaryByProduct() {
+        return ResponseEntity.ok(orderService.summarizeOrdersByProduct());
+    }
+
+    @GetMapping("/stats")
+    public ResponseEntity<List<OrderStatsResponse>> getOrderStats(
+            @RequestParam(defaultValue = "HOUR") OrderRollupStore.Granularity granularity,
+            @RequestParam(required = false) String productName,
+            @RequestParam(required = false) String customerId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        try {
+            return ResponseEntity.ok(orderService.getOrderStats(granularity, productName, customerId, from, to));
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid stats request: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<OrderResponse> getOrderById(@PathVariable String id) {
-        return orderService.getOrderById(id)
+    public ResponseEntity<byte[]> getOrderById(@PathVariable String id) {
+        return orderService.getOrderJsonById(id)
+            .map(json -> ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(json))
+            .orElse(ResponseEntity.notFound().build());
+    }
+
+    @GetMapping(value = "/{id}", params = "include=customer")
+    public ResponseEntity<OrderWithCustomerResponse> getOrderWithCustomerById(@PathVariable String id) {
+        return orderService.getOrderWithCustomerById(id)
             .map(ResponseEntity::ok)
             .orElse(ResponseEntity.notFound().build());
     }
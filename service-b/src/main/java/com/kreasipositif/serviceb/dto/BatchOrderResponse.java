@@ -0,0 +1,23 @@
+package com.kreasipositif.serviceb.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchOrderResponse {
+    private List<OrderResponse> accepted;
+    private List<RejectedItem> rejected;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RejectedItem {
+        private int index;
+        private String reason;
+    }
+}
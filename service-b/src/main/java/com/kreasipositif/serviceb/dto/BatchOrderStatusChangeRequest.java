@@ -0,0 +1,15 @@
+package com.kreasipositif.serviceb.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchOrderStatusChangeRequest {
+    private List<String> ids;
+    private String status;
+}
@@ -0,0 +1,20 @@
+package com.kreasipositif.serviceb.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A customer as returned by service-a's user API.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class CustomerResponse {
+    private String id;
+    private String name;
+    private String email;
+    private String phone;
+}
@@ -0,0 +1,15 @@
+package com.kreasipositif.serviceb.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderStatsResponse {
+    private String bucketStart;
+    private long orderCount;
+    private long unitsSold;
+    private double revenue;
+}
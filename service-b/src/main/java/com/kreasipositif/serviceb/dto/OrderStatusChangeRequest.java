@@ -0,0 +1,12 @@
+package com.kreasipositif.serviceb.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderStatusChangeRequest {
+    private String status;
+}
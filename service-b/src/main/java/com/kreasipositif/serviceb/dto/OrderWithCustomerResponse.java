@@ -0,0 +1,19 @@
+package com.kreasipositif.serviceb.dto;
+
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * An order with its customer embedded; {@code customer} is {@code null} when
+ * service-a does not know the customer or did not answer in time.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderWithCustomerResponse {
+    @JsonUnwrapped
+    private OrderResponse order;
+    private CustomerResponse customer;
+}
@@ -0,0 +1,124 @@
+package com.kreasipositif.serviceb.metrics;
+
+import com.kreasipositif.serviceb.repository.OrderColumnStore;
+import com.kreasipositif.serviceb.repository.OrderRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Meters for the order service. Meters are registered once up front and recorded with
+ * start times from {@link System#nanoTime()}, so recording allocates nothing on the
+ * request path. Histogram buckets for {@code orders.operations} are configured through
+ * {@code management.metrics.distribution.*}.
+ */
+@Component
+public class OrderMetrics {
+
+    public enum Operation {
+        CREATE, CREATE_BATCH, GET, LIST, CHANGE_STATUS, CHANGE_STATUS_BATCH;
+
+        private final String tag = name().toLowerCase(Locale.ROOT);
+
+        String tag() {
+            return tag;
+        }
+    }
+
+    // Rejection reasons are fixed messages today; the cap keeps a future dynamic one from exploding the series
+    static final int MAX_REJECTION_REASONS = 32;
+    static final String OTHER_REASON = "other";
+
+    private final MeterRegistry registry;
+    private final Map<Operation, Timer> operationTimers = new EnumMap<>(Operation.class);
+    private final Map<String, Counter> rejections = new ConcurrentHashMap<>();
+    private final Timer idGeneration;
+    private final Timer orderNumberAllocation;
+    private final Timer responseConversion;
+
+    public OrderMetrics(MeterRegistry registry, OrderRepository orderRepository, OrderColumnStore orderColumnStore) {
+        this.registry = registry;
+        for (Operation operation : Operation.values()) {
+            operationTimers.put(operation, Timer.builder("orders.operations")
+                .description("Time spent in order service operations")
+                .tag("operation", operation.tag())
+                .register(registry));
+        }
+        this.idGeneration = Timer.builder("orders.id.generation")
+            .description("Time spent generating order ids")
+            .register(registry);
+        this.orderNumberAllocation = Timer.builder("orders.number.allocation")
+            .description("Time spent allocating order numbers")
+            .register(registry);
+        this.responseConversion = Timer.builder("orders.response.conversion")
+            .description("Time spent formatting orders into responses")
+            .register(registry);
+
+        Gauge.builder("orders.store.size", orderRepository, OrderRepository::count)
+            .description("Orders held in memory")
+            .register(registry);
+        indexGauge(orderRepository, "order_number", OrderRepository::orderNumberIndexSize);
+        indexGauge(orderRepository, "customer", OrderRepository::customerIndexSize);
+        indexGauge(orderRepository, "status", OrderRepository::statusIndexSize);
+        Gauge.builder("orders.columns.size", orderColumnStore, OrderColumnStore::size)
+            .description("Orders copied into the columnar store")
+            .register(registry);
+    }
+
+    private void indexGauge(OrderRepository orderRepository, String index, ToDoubleFunction<OrderRepository> size) {
+        Gauge.builder("orders.index.size", orderRepository, size)
+            .description("Keys in the secondary order indexes")
+            .tag("index", index)
+            .register(registry);
+    }
+
+    public void recordOperation(Operation operation, long startNanos) {
+        operationTimers.get(operation).record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordIdGeneration(long startNanos) {
+        idGeneration.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordOrderNumberAllocation(long startNanos) {
+        orderNumberAllocation.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordResponseConversion(long startNanos) {
+        responseConversion.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Counts an order rejected for {@code reason}, under {@code orders.validation.failures}.
+     */
+    public void recordRejection(String reason) {
+        String tag = reasonTag(reason);
+        Counter counter = rejections.get(tag);
+        if (counter == null) {
+            if (rejections.size() >= MAX_REJECTION_REASONS) {
+                tag = OTHER_REASON;
+            }
+            counter = rejections.computeIfAbsent(tag, key -> Counter.builder("orders.validation.failures")
+                .description("Orders rejected, by reason")
+                .tag("reason", key)
+                .register(registry));
+        }
+        counter.increment();
+    }
+
+    static String reasonTag(String reason) {
+        if (reason == null || reason.isBlank()) {
+            return OTHER_REASON;
+        }
+        return reason.trim().toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9]+", "_").replaceAll("^_|_$", "");
+    }
+}
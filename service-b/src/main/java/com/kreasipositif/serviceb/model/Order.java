@@ -1,22 +1,27 @@
 package com.kreasipositif.serviceb.model;
 
-import lombok.AllArgsConstructor;
-import lombok.Data;
-import lombok.NoArgsConstructor;
+import lombok.Value;
 
 import java.time.LocalDateTime;
 
-@Data
-@NoArgsConstructor
-@AllArgsConstructor
+@Value
 public class Order {
-    private String id;
-    private String orderNumber;
-    private String customerId;
-    private String productName;
-    private int quantity;
-    private double unitPrice;
-    private double totalAmount;
-    private LocalDateTime createdAt;
-    private String status;
+    String id;
+    String orderNumber;
+    String customerId;
+    String productName;
+    int quantity;
+    double unitPrice;
+    double totalAmount;
+    LocalDateTime createdAt;
+    OrderStatus status;
+
+    /**
+     * A copy of this order in another status, and the only way to change one. Stored
+     * orders are replaced rather than changed in place, so readers never see a
+     * half-applied change.
+     */
+    public Order withStatus(OrderStatus status) {
+        return new Order(id, orderNumber, customerId, productName, quantity, unitPrice, totalAmount, createdAt, status);
+    }
 }
@@ -0,0 +1,235 @@
+package com.kreasipositif.serviceb.repository;
+
+import com.kreasipositif.serviceb.model.Order;
+import lombok.Value;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Append-only, column-oriented copy of the numeric order fields for analytics.
+ * <p>
+ * Rows live in fixed-size chunks of primitive arrays, one array per column, and the
+ * customer id and product name are dictionary-encoded to {@code int} codes. A scan
+ * walks contiguous arrays instead of chasing {@code Order} references. Appends are
+ * serialized by a lock and publish the new row count through a volatile write, so
+ * readers never lock and see every row below the count they read.
+ */
+@Repository
+public class OrderColumnStore {
+
+    private static final int CHUNK_SHIFT = 16;
+    private static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+
+    private final ReentrantLock appendLock = new ReentrantLock();
+    private final Dictionary customers = new Dictionary();
+    private final Dictionary products = new Dictionary();
+
+    private volatile Chunk[] chunks = new Chunk[0];
+    private volatile int size;
+
+    public void append(Order order) {
+        appendAll(List.of(order));
+    }
+
+    /**
+     * Appends a batch of orders under a single acquisition of the append lock.
+     */
+    public void appendAll(List<Order> orders) {
+        int count = orders.size();
+        int[] customerCodes = new int[count];
+        int[] productCodes = new int[count];
+        long[] createdAt = new long[count];
+        for (int i = 0; i < count; i++) {
+            Order order = orders.get(i);
+            customerCodes[i] = customers.encode(order.getCustomerId());
+            productCodes[i] = products.encode(order.getProductName());
+            createdAt[i] = toEpochMillis(order.getCreatedAt());
+        }
+
+        appendLock.lock();
+        try {
+            int row = size;
+            Chunk[] current = chunks;
+            for (int i = 0; i < count; i++, row++) {
+                int chunkIndex = row >>> CHUNK_SHIFT;
+                if (chunkIndex == current.length) {
+                    current = Arrays.copyOf(current, current.length + 1);
+                    current[chunkIndex] = new Chunk();
+                    chunks = current;
+                }
+                Chunk chunk = current[chunkIndex];
+                int offset = row & CHUNK_MASK;
+                Order order = orders.get(i);
+                chunk.quantity[offset] = order.getQuantity();
+                chunk.totalAmount[offset] = order.getTotalAmount();
+                chunk.createdAtEpochMillis[offset] = createdAt[i];
+                chunk.customerCode[offset] = customerCodes[i];
+                chunk.productCode[offset] = productCodes[i];
+            }
+            size = row;
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Totals the rows matching every non-null filter; {@code from} is inclusive and
+     * {@code to} exclusive.
+     */
+    public Summary summarize(String customerId, String productName, LocalDateTime from, LocalDateTime to) {
+        int customerCode = customerId == null ? -1 : customers.lookup(customerId);
+        int productCode = productName == null ? -1 : products.lookup(productName);
+        if ((customerId != null && customerCode < 0) || (productName != null && productCode < 0)) {
+            return new Summary(0, 0, 0.0);
+        }
+        long fromMillis = from == null ? Long.MIN_VALUE : toEpochMillis(from);
+        long toMillis = to == null ? Long.MAX_VALUE : toEpochMillis(to);
+
+        int rows = size;
+        Chunk[] current = chunks;
+        long count = 0;
+        long units = 0;
+        double revenue = 0.0;
+        for (int chunkIndex = 0; chunkIndex * CHUNK_SIZE < rows; chunkIndex++) {
+            Chunk chunk = current[chunkIndex];
+            int limit = Math.min(CHUNK_SIZE, rows - chunkIndex * CHUNK_SIZE);
+            for (int i = 0; i < limit; i++) {
+                long createdAt = chunk.createdAtEpochMillis[i];
+                if ((customerCode >= 0 && chunk.customerCode[i] != customerCode)
+                        || (productCode >= 0 && chunk.productCode[i] != productCode)
+                        || createdAt < fromMillis || createdAt >= toMillis) {
+                    continue;
+                }
+                count++;
+                units += chunk.quantity[i];
+                revenue += chunk.totalAmount[i];
+            }
+        }
+        return new Summary(count, units, revenue);
+    }
+
+    /**
+     * Totals every row per customer, keyed by customer id in first-seen order.
+     */
+    public Map<String, Summary> summarizeByCustomer() {
+        return summarizeBy(customers, true);
+    }
+
+    /**
+     * Totals every row per product, keyed by product name in first-seen order.
+     */
+    public Map<String, Summary> summarizeByProduct() {
+        return summarizeBy(products, false);
+    }
+
+    private Map<String, Summary> summarizeBy(Dictionary dictionary, boolean byCustomer) {
+        int rows = size;
+        Chunk[] current = chunks;
+        int keys = dictionary.size();
+        long[] counts = new long[keys];
+        long[] units = new long[keys];
+        double[] revenue = new double[keys];
+        for (int chunkIndex = 0; chunkIndex * CHUNK_SIZE < rows; chunkIndex++) {
+            Chunk chunk = current[chunkIndex];
+            int[] codes = byCustomer ? chunk.customerCode : chunk.productCode;
+            int limit = Math.min(CHUNK_SIZE, rows - chunkIndex * CHUNK_SIZE);
+            for (int i = 0; i < limit; i++) {
+                int code = codes[i];
+                counts[code]++;
+                units[code] += chunk.quantity[i];
+                revenue[code] += chunk.totalAmount[i];
+            }
+        }
+        Map<String, Summary> result = new LinkedHashMap<>();
+        for (int code = 0; code < keys; code++) {
+            if (counts[code] > 0) {
+                result.put(dictionary.decode(code), new Summary(counts[code], units[code], revenue[code]));
+            }
+        }
+        return result;
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    @Value
+    public static class Summary {
+        long orderCount;
+        long unitsSold;
+        double revenue;
+    }
+
+    private static final class Chunk {
+        private final int[] quantity = new int[CHUNK_SIZE];
+        private final double[] totalAmount = new double[CHUNK_SIZE];
+        private final long[] createdAtEpochMillis = new long[CHUNK_SIZE];
+        private final int[] customerCode = new int[CHUNK_SIZE];
+        private final int[] productCode = new int[CHUNK_SIZE];
+    }
+
+    /**
+     * Maps each distinct string to a dense {@code int} code. Known values are resolved
+     * without locking; only the first sighting of a value takes the lock. A code is
+     * published to the lookup map after its value is in the list, so any code a reader
+     * can obtain decodes.
+     */
+    private static final class Dictionary {
+        private final Map<String, Integer> codes = new ConcurrentHashMap<>();
+        private final List<String> values = new ArrayList<>();
+        private final ReentrantLock lock = new ReentrantLock();
+        private volatile int size;
+
+        int encode(String value) {
+            Integer code = codes.get(value);
+            if (code != null) {
+                return code;
+            }
+            lock.lock();
+            try {
+                code = codes.get(value);
+                if (code == null) {
+                    code = values.size();
+                    values.add(value);
+                    size = values.size();
+                    codes.put(value, code);
+                }
+                return code;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        int lookup(String value) {
+            Integer code = codes.get(value);
+            return code == null ? -1 : code;
+        }
+
+        String decode(int code) {
+            lock.lock();
+            try {
+                return values.get(code);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        int size() {
+            return size;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.kreasipositif.serviceb.repository;
+
+import com.kreasipositif.serviceb.model.Order;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+
+/**
+ * Sort key of an order: creation time, then id to break ties.
+ */
+@Value
+public class OrderKey implements Comparable<OrderKey> {
+
+    private static final Comparator<OrderKey> ORDER =
+        Comparator.comparing(OrderKey::getCreatedAt).thenComparing(OrderKey::getId);
+
+    LocalDateTime createdAt;
+    String id;
+
+    public static OrderKey of(Order order) {
+        return new OrderKey(order.getCreatedAt(), order.getId());
+    }
+
+    @Override
+    public int compareTo(OrderKey other) {
+        return ORDER.compare(this, other);
+    }
+}
@@ -0,0 +1,192 @@
+package com.kreasipositif.serviceb.repository;
+
+import com.kreasipositif.serviceb.model.Order;
+import com.kreasipositif.serviceb.model.OrderStatus;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.stream.Stream;
+
+/**
+ * In-memory order store. Orders are held in a primary id index, with secondary
+ * indexes on order number, customer id and status. The customer and status indexes
+ * keep {@link OrderKey}s in creation order, so a filtered query walks only the
+ * orders that belong to the requested customer or status.
+ * <p>
+ * Stored orders are never modified. A status change swaps in a new instance with a
+ * compare-and-set on the primary entry, so concurrent changes to the same order are
+ * applied one after the other and none is lost, without a lock across orders.
+ */
+@Repository
+public class OrderRepository {
+
+    private final Map<String, Order> ordersById = new ConcurrentHashMap<>();
+    private final Map<String, String> orderIdsByNumber = new ConcurrentHashMap<>();
+    private final Map<String, NavigableSet<OrderKey>> keysByCustomer = new ConcurrentHashMap<>();
+    private final Map<OrderStatus, NavigableSet<OrderKey>> keysByStatus = newStatusIndex();
+    private final NavigableSet<OrderKey> allKeys = new ConcurrentSkipListSet<>();
+
+    /**
+     * Stores a new order. The primary entry is written before any secondary index,
+     * so every key reachable through an index always resolves to an order. Once the
+     * primary entry is visible a concurrent status change can move the order on, so
+     * the status entry is checked again after it is added.
+     *
+     * @throws IllegalArgumentException if the id or order number is already taken
+     */
+    public Order insert(Order order) {
+        if (ordersById.putIfAbsent(order.getId(), order) != null) {
+            throw new IllegalArgumentException("Order ID is already in use");
+        }
+        if (orderIdsByNumber.putIfAbsent(order.getOrderNumber(), order.getId()) != null) {
+            ordersById.remove(order.getId(), order);
+            throw new IllegalArgumentException("Order number is already in use");
+        }
+        OrderKey key = OrderKey.of(order);
+        keysByCustomer.computeIfAbsent(order.getCustomerId(), k -> new ConcurrentSkipListSet<>()).add(key);
+        keysByStatus.get(order.getStatus()).add(key);
+        // A change that ran before the add above found no entry to remove; orders never
+        // return to a status, so if the order has moved on the entry can only be stale
+        if (ordersById.get(order.getId()).getStatus() != order.getStatus()) {
+            keysByStatus.get(order.getStatus()).remove(key);
+        }
+        allKeys.add(key);
+        return order;
+    }
+
+    /**
+     * Moves an order to another status, retrying the compare-and-set until it applies
+     * to the order's current state. The status index gains the new entry before losing
+     * the old one, so the order is always reachable under its current status.
+     *
+     * @return the order as stored after the change, or empty if there is no such order
+     * @throws IllegalStateException if the order's current status cannot change to {@code target}
+     */
+    public Optional<Order> changeStatus(String id, OrderStatus target) {
+        while (true) {
+            Order current = id == null ? null : ordersById.get(id);
+            if (current == null) {
+                return Optional.empty();
+            }
+            OrderStatus from = current.getStatus();
+            if (!from.canChangeTo(target)) {
+                throw new IllegalStateException(from == target
+                    ? "Order is already " + target
+                    : "Cannot change order status from " + from + " to " + target);
+            }
+            Order changed = current.withStatus(target);
+            if (ordersById.replace(id, current, changed)) {
+                OrderKey key = OrderKey.of(changed);
+                keysByStatus.get(target).add(key);
+                keysByStatus.get(from).remove(key);
+                // A later change may have moved the order on, and removed it from target, before
+                // the add above; orders never return to a status, so the entry can only be stale
+                if (ordersById.get(id).getStatus() != target) {
+                    keysByStatus.get(target).remove(key);
+                }
+                return Optional.of(changed);
+            }
+        }
+    }
+
+    public Optional<Order> findById(String id) {
+        if (id == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(ordersById.get(id));
+    }
+
+    public Optional<Order> findByOrderNumber(String orderNumber) {
+        if (orderNumber == null) {
+            return Optional.empty();
+        }
+        String orderId = orderIdsByNumber.get(orderNumber);
+        return orderId == null ? Optional.empty() : findById(orderId);
+    }
+
+    public Stream<Order> findBy(String customerId, OrderStatus status, String orderNumber) {
+        return findBy(customerId, status, orderNumber, null);
+    }
+
+    /**
+     * Returns the orders matching every non-null criterion, oldest first, starting
+     * strictly after {@code after} when it is given. The most selective available
+     * index drives the scan: order number, then customer, then status; remaining
+     * criteria are checked on the candidates only. Index sets seek to {@code after}
+     * in O(log n), so a deep page costs the same as the first one. Candidates are
+     * checked against their current status, which hides an index entry a concurrent
+     * status change has not removed yet.
+     */
+    public Stream<Order> findBy(String customerId, OrderStatus status, String orderNumber, OrderKey after) {
+        Stream<Order> candidates;
+        if (orderNumber != null) {
+            candidates = findByOrderNumber(orderNumber).stream()
+                .filter(order -> after == null || OrderKey.of(order).compareTo(after) > 0);
+        } else if (customerId != null) {
+            candidates = resolve(keysByCustomer.getOrDefault(customerId, Collections.emptyNavigableSet()), after);
+        } else if (status != null) {
+            candidates = resolve(keysByStatus.get(status), after);
+        } else {
+            candidates = resolve(allKeys, after);
+        }
+        return candidates
+            .filter(order -> customerId == null || customerId.equals(order.getCustomerId()))
+            .filter(order -> status == null || status == order.getStatus());
+    }
+
+    public Stream<Order> findAll() {
+        return resolve(allKeys, null);
+    }
+
+    public int count() {
+        return ordersById.size();
+    }
+
+    public int orderNumberIndexSize() {
+        return orderIdsByNumber.size();
+    }
+
+    /**
+     * @return the number of distinct customers in the customer index
+     */
+    public int customerIndexSize() {
+        return keysByCustomer.size();
+    }
+
+    /**
+     * @return the number of distinct statuses in the status index
+     */
+    public int statusIndexSize() {
+        return (int) keysByStatus.values().stream().filter(keys -> !keys.isEmpty()).count();
+    }
+
+    /**
+     * @return the number of entries under {@code status} in the status index; walks
+     *         the whole entry set, so it is meant for checks rather than requests
+     */
+    int statusIndexEntries(OrderStatus status) {
+        return keysByStatus.get(status).size();
+    }
+
+    private Stream<Order> resolve(NavigableSet<OrderKey> keys, OrderKey after) {
+        NavigableSet<OrderKey> tail = after == null ? keys : keys.tailSet(after, false);
+        return tail.stream()
+            .map(key -> ordersById.get(key.getId()))
+            .filter(Objects::nonNull);
+    }
+
+    private static Map<OrderStatus, NavigableSet<OrderKey>> newStatusIndex() {
+        Map<OrderStatus, NavigableSet<OrderKey>> index = new EnumMap<>(OrderStatus.class);
+        for (OrderStatus status : OrderStatus.values()) {
+            index.put(status, new ConcurrentSkipListSet<>());
+        }
+        return Collections.unmodifiableMap(index);
+    }
+}
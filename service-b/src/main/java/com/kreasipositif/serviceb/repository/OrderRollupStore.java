@@ -0,0 +1,185 @@
+package com.kreasipositif.serviceb.repository;
+
+import com.kreasipositif.serviceb.model.Order;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Time-bucketed revenue, order count and units sold, maintained incrementally as
+ * orders are created. Every order updates one bucket per granularity for the overall
+ * series, its product and its customer. Counters are {@link LongAdder}s and
+ * {@link DoubleAdder}s, so concurrent writers to the same bucket do not serialize.
+ * Each series is a skip list keyed by bucket start, so a range query reads only the
+ * buckets it returns. Buckets older than the granularity's retention are dropped
+ * whenever a series opens a new bucket, and a periodic sweep drops them from series
+ * that no longer receive orders, along with series left empty.
+ */
+@Slf4j
+@Repository
+public class OrderRollupStore {
+
+    public enum Granularity {
+        MINUTE(ChronoUnit.MINUTES, Duration.ofDays(1)),
+        HOUR(ChronoUnit.HOURS, Duration.ofDays(31)),
+        DAY(ChronoUnit.DAYS, Duration.ofDays(731));
+
+        private final ChronoUnit unit;
+        private final Duration retention;
+
+        Granularity(ChronoUnit unit, Duration retention) {
+            this.unit = unit;
+            this.retention = retention;
+        }
+
+        public LocalDateTime truncate(LocalDateTime dateTime) {
+            return dateTime.truncatedTo(unit);
+        }
+    }
+
+    public enum Dimension {
+        ALL, PRODUCT, CUSTOMER
+    }
+
+    private static final String ALL_KEY = "";
+    private static final Duration SWEEP_INTERVAL = Duration.ofMinutes(1);
+
+    private final Map<SeriesKey, ConcurrentSkipListMap<LocalDateTime, Bucket>> series = new ConcurrentHashMap<>();
+    private ScheduledExecutorService sweeper;
+
+    @PostConstruct
+    public void start() {
+        sweeper = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("order-rollup-sweep").daemon().factory());
+        sweeper.scheduleWithFixedDelay(this::scheduledSweep,
+            SWEEP_INTERVAL.toMillis(), SWEEP_INTERVAL.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void close() {
+        if (sweeper != null) {
+            sweeper.shutdownNow();
+        }
+    }
+
+    public void record(Order order) {
+        for (Granularity granularity : Granularity.values()) {
+            LocalDateTime bucketStart = granularity.truncate(order.getCreatedAt());
+            add(new SeriesKey(granularity, Dimension.ALL, ALL_KEY), bucketStart, order);
+            add(new SeriesKey(granularity, Dimension.PRODUCT, order.getProductName()), bucketStart, order);
+            add(new SeriesKey(granularity, Dimension.CUSTOMER, order.getCustomerId()), bucketStart, order);
+        }
+    }
+
+    /**
+     * Returns the buckets of one series whose start lies in {@code [from, to)}, oldest
+     * first. Either bound may be {@code null} for an open range.
+     */
+    public List<BucketTotals> query(Granularity granularity, Dimension dimension, String key,
+                                    LocalDateTime from, LocalDateTime to) {
+        NavigableMap<LocalDateTime, Bucket> buckets =
+            series.get(new SeriesKey(granularity, dimension, dimension == Dimension.ALL ? ALL_KEY : key));
+        if (buckets == null) {
+            return List.of();
+        }
+        if (from != null && to != null) {
+            buckets = buckets.subMap(granularity.truncate(from), true, to, false);
+        } else if (from != null) {
+            buckets = buckets.tailMap(granularity.truncate(from), true);
+        } else if (to != null) {
+            buckets = buckets.headMap(to, false);
+        }
+        return buckets.entrySet().stream()
+            .map(entry -> entry.getValue().totals(entry.getKey()))
+            .toList();
+    }
+
+    /**
+     * Drops the buckets that are older than their granularity's retention at
+     * {@code now}, and the series left without buckets.
+     */
+    public void sweep(LocalDateTime now) {
+        for (Map.Entry<SeriesKey, ConcurrentSkipListMap<LocalDateTime, Bucket>> entry : series.entrySet()) {
+            entry.getValue().headMap(now.minus(entry.getKey().getGranularity().retention)).clear();
+            series.computeIfPresent(entry.getKey(), (key, buckets) -> buckets.isEmpty() ? null : buckets);
+        }
+    }
+
+    int seriesCount() {
+        return series.size();
+    }
+
+    private void scheduledSweep() {
+        try {
+            sweep(LocalDateTime.now());
+        } catch (RuntimeException e) {
+            log.error("Failed to sweep order rollups", e);
+        }
+    }
+
+    private void add(SeriesKey key, LocalDateTime bucketStart, Order order) {
+        Bucket bucket;
+        while (true) {
+            ConcurrentSkipListMap<LocalDateTime, Bucket> buckets =
+                series.computeIfAbsent(key, k -> new ConcurrentSkipListMap<>());
+            bucket = buckets.get(bucketStart);
+            if (bucket == null) {
+                Bucket created = new Bucket();
+                bucket = buckets.putIfAbsent(bucketStart, created);
+                if (bucket == null) {
+                    bucket = created;
+                    buckets.headMap(bucketStart.minus(key.getGranularity().retention)).clear();
+                }
+            }
+            // The sweep only removes a series it found empty; if it removed this one before the
+            // bucket went in, the bucket is orphaned and the order goes into a fresh series
+            if (series.get(key) == buckets) {
+                break;
+            }
+        }
+        bucket.orders.increment();
+        bucket.units.add(order.getQuantity());
+        bucket.revenue.add(order.getTotalAmount());
+    }
+
+    @Value
+    private static class SeriesKey {
+        Granularity granularity;
+        Dimension dimension;
+        String key;
+    }
+
+    private static final class Bucket {
+        private final LongAdder orders = new LongAdder();
+        private final LongAdder units = new LongAdder();
+        private final DoubleAdder revenue = new DoubleAdder();
+
+        private BucketTotals totals(LocalDateTime start) {
+            return new BucketTotals(start, orders.sum(), units.sum(), revenue.sum());
+        }
+    }
+
+    @Value
+    public static class BucketTotals {
+        LocalDateTime bucketStart;
+        long orderCount;
+        long unitsSold;
+        double revenue;
+    }
+}
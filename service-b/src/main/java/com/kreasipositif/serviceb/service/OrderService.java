@@ -1,11 +1,31 @@
 package com.kreasipositif.serviceb.service;
 
+import com.kreasipositif.serviceb.client.CustomerLookupClient;
+import com.kreasipositif.serviceb.config.OrderStorageProperties;
+import com.kreasipositif.serviceb.dto.BatchOrderResponse;
 import com.kreasipositif.serviceb.dto.CreateOrderRequest;
+import com.kreasipositif.serviceb.dto.CustomerResponse;
 import com.kreasipositif.serviceb.dto.OrderResponse;
+import com.kreasipositif.serviceb.dto.OrderStatsResponse;
+import com.kreasipositif.serviceb.dto.OrderSummaryResponse;
+import com.kreasipositif.serviceb.dto.OrderWithCustomerResponse;
+import com.kreasipositif.serviceb.metrics.OrderMetrics;
+import com.kreasipositif.serviceb.metrics.OrderOperationEvent;
 import com.kreasipositif.serviceb.model.Order;
+import com.kreasipositif.serviceb.model.OrderStatus;
+import com.kreasipositif.serviceb.repository.OrderColumnStore;
+import com.kreasipositif.serviceb.repository.OrderKey;
+import com.kreasipositif.serviceb.repository.OrderRepository;
+import com.kreasipositif.serviceb.repository.OrderRollupStore;
+import com.kreasipositif.utility.cache.ResponseCache;
+import com.kreasipositif.utility.feed.ChangeEvent;
+import com.kreasipositif.utility.feed.ChangeFeed;
 import com.kreasipositif.utility.formatter.DateFormatter;
 import com.kreasipositif.utility.formatter.NumberFormatter;
 import com.kreasipositif.utility.generator.IdGenerator;
+import com.kreasipositif.utility.generator.OrderNumberAllocator;
+import com.kreasipositif.utility.pagination.CursorCodec;
+import com.kreasipositif.utility.pagination.CursorPage;
 import com.kreasipositif.utility.validator.StringValidator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -13,81 +33,541 @@ import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class OrderService {
 
+    public static final int MAX_PAGE_SIZE = 500;
+    public static final int MAX_BATCH_SIZE = 10_000;
+
+    private static final String UNKNOWN_CUSTOMER = "Customer not found";
+
     private final IdGenerator idGenerator;
+    private final OrderNumberAllocator orderNumberAllocator;
     private final DateFormatter dateFormatter;
     private final NumberFormatter numberFormatter;
     private final StringValidator stringValidator;
-
-    private final List<Order> orders = new ArrayList<>();
+    private final OrderRepository orderRepository;
+    private final CursorCodec cursorCodec;
+    private final OrderColumnStore orderColumnStore;
+    private final OrderStorageProperties storageProperties;
+    private final OrderRollupStore orderRollupStore;
+    private final ResponseCache<Order, OrderResponse> responseCache;
+    private final OrderMetrics orderMetrics;
+    private final CustomerLookupClient customerLookupClient;
+    private final ChangeFeed<Order> orderChangeFeed;
 
     public OrderResponse createOrder(CreateOrderRequest request) {
-        log.info("Creating order for customer: {}", request.getCustomerId());
+        long started = System.nanoTime();
+        OrderOperationEvent event = OrderOperationEvent.start(OrderMetrics.Operation.CREATE, started);
+        event.orders(1);
+        try {
+            log.info("Creating order for customer: {}", request.getCustomerId());
 
-        if (!stringValidator.isNotEmpty(request.getCustomerId())) {
-            throw new IllegalArgumentException("Customer ID is required");
+            String error = validate(request);
+            event.validated();
+            if (error != null) {
+                event.rejected(1);
+                orderMetrics.recordRejection(error);
+                throw new IllegalArgumentException(error);
+            }
+            if (customerLookupClient.isEnabled() && customerLookupClient.find(request.getCustomerId()).isEmpty()) {
+                event.rejected(1);
+                orderMetrics.recordRejection(UNKNOWN_CUSTOMER);
+                throw new IllegalArgumentException(UNKNOWN_CUSTOMER);
+            }
+            event.customersLookedUp();
+
+            long idStarted = System.nanoTime();
+            String orderId = idGenerator.generateId();
+            orderMetrics.recordIdGeneration(idStarted);
+            long numberStarted = System.nanoTime();
+            String orderNumber = "ORD-" + orderNumberAllocator.next();
+            orderMetrics.recordOrderNumberAllocation(numberStarted);
+            event.idsGenerated();
+            Order order = newOrder(orderId, orderNumber, request, LocalDateTime.now());
+
+            try {
+                orderRepository.insert(order);
+            } catch (IllegalArgumentException e) {
+                event.rejected(1);
+                orderMetrics.recordRejection(e.getMessage());
+                throw e;
+            }
+            if (storageProperties.isColumnar()) {
+                orderColumnStore.append(order);
+            }
+            orderRollupStore.record(order);
+            event.stored();
+            orderChangeFeed.publish(ChangeEvent.CREATED, order);
+            log.info("Order created successfully: {}", orderNumber);
+
+            OrderResponse response = cachedResponse(order);
+            event.formatted();
+            return response;
+        } finally {
+            orderMetrics.recordOperation(OrderMetrics.Operation.CREATE, started);
+            event.finish();
         }
+    }
 
-        if (!stringValidator.isNotEmpty(request.getProductName())) {
-            throw new IllegalArgumentException("Product name is required");
+    /**
+     * Creates many orders in one call. Requests are validated in parallel, ids and
+     * order numbers for every valid request are reserved with one bulk draw each, and
+     * the orders are then inserted in a single pass. Invalid requests are reported by
+     * their index in the batch and do not stop the rest.
+     */
+    public BatchOrderResponse createOrders(List<CreateOrderRequest> requests) {
+        long started = System.nanoTime();
+        OrderOperationEvent event = OrderOperationEvent.start(OrderMetrics.Operation.CREATE_BATCH, started);
+        try {
+            if (requests == null || requests.isEmpty()) {
+                throw new IllegalArgumentException("At least one order is required");
+            }
+            if (requests.size() > MAX_BATCH_SIZE) {
+                throw new IllegalArgumentException("Batch must not contain more than " + MAX_BATCH_SIZE + " orders");
+            }
+            log.info("Creating batch of {} orders", requests.size());
+            event.orders(requests.size());
+
+            String[] errors = new String[requests.size()];
+            IntStream.range(0, requests.size()).parallel()
+                .forEach(i -> errors[i] = validate(requests.get(i)));
+            event.validated();
+            if (customerLookupClient.isEnabled()) {
+                rejectUnknownCustomers(requests, errors);
+            }
+            event.customersLookedUp();
+            int validCount = (int) Arrays.stream(errors).filter(Objects::isNull).count();
+
+            long idStarted = System.nanoTime();
+            List<String> orderIds = idGenerator.generateIds(validCount);
+            orderMetrics.recordIdGeneration(idStarted);
+            long numberStarted = System.nanoTime();
+            List<String> orderNumbers = orderNumberAllocator.next(validCount);
+            orderMetrics.recordOrderNumberAllocation(numberStarted);
+            event.idsGenerated();
+            LocalDateTime now = LocalDateTime.now();
+
+            List<Order> inserted = new ArrayList<>(validCount);
+            List<BatchOrderResponse.RejectedItem> rejected = new ArrayList<>();
+            int next = 0;
+            for (int i = 0; i < requests.size(); i++) {
+                if (errors[i] != null) {
+                    orderMetrics.recordRejection(errors[i]);
+                    rejected.add(new BatchOrderResponse.RejectedItem(i, errors[i]));
+                    continue;
+                }
+                Order order = newOrder(orderIds.get(next), "ORD-" + orderNumbers.get(next), requests.get(i), now);
+                next++;
+                try {
+                    orderRepository.insert(order);
+                    inserted.add(order);
+                } catch (IllegalArgumentException e) {
+                    orderMetrics.recordRejection(e.getMessage());
+                    rejected.add(new BatchOrderResponse.RejectedItem(i, e.getMessage()));
+                }
+            }
+            if (storageProperties.isColumnar()) {
+                orderColumnStore.appendAll(inserted);
+            }
+            inserted.forEach(orderRollupStore::record);
+            event.stored();
+            for (Order order : inserted) {
+                orderChangeFeed.publish(ChangeEvent.CREATED, order);
+            }
+            event.rejected(rejected.size());
+            log.info("Batch created {} orders, rejected {}", inserted.size(), rejected.size());
+
+            List<OrderResponse> accepted = inserted.stream()
+                .map(this::cachedResponse)
+                .collect(Collectors.toList());
+            event.formatted();
+            return new BatchOrderResponse(accepted, rejected);
+        } finally {
+            orderMetrics.recordOperation(OrderMetrics.Operation.CREATE_BATCH, started);
+            event.finish();
         }
+    }
 
-        if (request.getQuantity() <= 0) {
-            throw new IllegalArgumentException("Quantity must be greater than 0");
+    /**
+     * Marks the otherwise valid requests whose customer service-a does not know, with
+     * one lookup for all of them.
+     */
+    private void rejectUnknownCustomers(List<CreateOrderRequest> requests, String[] errors) {
+        List<String> customerIds = new ArrayList<>();
+        for (int i = 0; i < errors.length; i++) {
+            if (errors[i] == null) {
+                customerIds.add(requests.get(i).getCustomerId());
+            }
         }
+        Map<String, CustomerResponse> customers = customerLookupClient.findAll(customerIds);
+        for (int i = 0; i < errors.length; i++) {
+            if (errors[i] == null && !customers.containsKey(requests.get(i).getCustomerId())) {
+                errors[i] = UNKNOWN_CUSTOMER;
+            }
+        }
+    }
 
+    /**
+     * @return the reason the request is invalid, or {@code null} if it is valid
+     */
+    private String validate(CreateOrderRequest request) {
+        if (request == null) {
+            return "Order is required";
+        }
+        if (!stringValidator.isNotEmpty(request.getCustomerId())) {
+            return "Customer ID is required";
+        }
+        if (!stringValidator.isNotEmpty(request.getProductName())) {
+            return "Product name is required";
+        }
+        if (request.getQuantity() <= 0) {
+            return "Quantity must be greater than 0";
+        }
         if (request.getUnitPrice() <= 0) {
-            throw new IllegalArgumentException("Unit price must be greater than 0");
+            return "Unit price must be greater than 0";
         }
+        return null;
+    }
 
-        String orderId = idGenerator.generateUUID();
-        String orderNumber = "ORD-" + idGenerator.generateAlphanumeric(8);
-        
-        double totalAmount = request.getQuantity() * request.getUnitPrice();
-        
-        Order order = new Order(
+    private static Order newOrder(String orderId, String orderNumber, CreateOrderRequest request, LocalDateTime createdAt) {
+        return new Order(
             orderId,
             orderNumber,
             request.getCustomerId(),
             request.getProductName(),
             request.getQuantity(),
             request.getUnitPrice(),
-            totalAmount,
-            LocalDateTime.now(),
-            "PENDING"
+            request.getQuantity() * request.getUnitPrice(),
+            createdAt,
+            OrderStatus.PENDING
         );
+    }
+
+    public List<OrderResponse> getAllOrders() {
+        long started = System.nanoTime();
+        OrderOperationEvent event = OrderOperationEvent.start(OrderMetrics.Operation.LIST, started);
+        try {
+            log.info("Fetching all orders. Total count: {}", orderRepository.count());
+            // Records are formatted as they are read, so both phases count as formatting
+            List<OrderResponse> orders = orderRepository.findAll()
+                .map(this::cachedResponse)
+                .collect(Collectors.toList());
+            event.formatted();
+            event.orders(orders.size());
+            return orders;
+        } finally {
+            orderMetrics.recordOperation(OrderMetrics.Operation.LIST, started);
+            event.finish();
+        }
+    }
 
-        orders.add(order);
-        log.info("Order created successfully: {}", orderNumber);
+    public CursorPage<OrderResponse> findOrders(String customerId, String status, String orderNumber,
+                                                String cursor, int limit) {
+        long started = System.nanoTime();
+        OrderOperationEvent event = OrderOperationEvent.start(OrderMetrics.Operation.LIST, started);
+        try {
+            if (limit < 1 || limit > MAX_PAGE_SIZE) {
+                throw new IllegalArgumentException("Limit must be between 1 and " + MAX_PAGE_SIZE);
+            }
+            OrderKey after = null;
+            if (cursor != null) {
+                CursorCodec.Position position = cursorCodec.decode(cursor);
+                after = new OrderKey(position.getCreatedAt(), position.getId());
+            }
+            log.info("Fetching orders with customerId: {}, status: {}, orderNumber: {}, limit: {}",
+                customerId, status, orderNumber, limit);
 
-        return convertToResponse(order);
+            OrderStatus statusFilter = status == null ? null : OrderStatus.parse(status);
+            List<Order> page = orderRepository.findBy(customerId, statusFilter, orderNumber, after)
+                .limit(limit + 1L)
+                .collect(Collectors.toList());
+            String next = null;
+            if (page.size() > limit) {
+                page = page.subList(0, limit);
+                Order last = page.get(limit - 1);
+                next = cursorCodec.encode(last.getCreatedAt(), last.getId());
+            }
+            event.stored();
+            event.orders(page.size());
+            CursorPage<OrderResponse> result =
+                new CursorPage<>(page.stream().map(this::cachedResponse).collect(Collectors.toList()), next);
+            event.formatted();
+            return result;
+        } finally {
+            orderMetrics.recordOperation(OrderMetrics.Operation.LIST, started);
+            event.finish();
+        }
     }
 
-    public List<OrderResponse> getAllOrders() {
-        log.info("Fetching all orders. Total count: {}", orders.size());
-        return orders.stream()
-            .map(this::convertToResponse)
+    /**
+     * Lazily streams matching orders in creation order. Each response is built only
+     * when the consumer pulls it, so callers can write orders out one at a time.
+     * Exports bypass the response cache so a full scan does not evict hot entries.
+     */
+    public Stream<OrderResponse> streamOrders(String customerId, OrderStatus status) {
+        log.info("Streaming orders with customerId: {}, status: {}", customerId, status);
+        return orderRepository.findBy(customerId, status, null)
+            .map(this::convertToResponse);
+    }
+
+    public OrderSummaryResponse summarizeOrders(String customerId, String productName,
+                                                LocalDateTime from, LocalDateTime to) {
+        if (storageProperties.isColumnar()) {
+            OrderColumnStore.Summary summary = orderColumnStore.summarize(customerId, productName, from, to);
+            return new OrderSummaryResponse(null, summary.getOrderCount(), summary.getUnitsSold(), summary.getRevenue());
+        }
+        OrderSummaryResponse summary = new OrderSummaryResponse(null, 0, 0, 0.0);
+        orderRepository.findBy(customerId, null, null)
+            .filter(order -> productName == null || productName.equals(order.getProductName()))
+            .filter(order -> from == null || !order.getCreatedAt().isBefore(from))
+            .filter(order -> to == null || order.getCreatedAt().isBefore(to))
+            .forEach(order -> accumulate(summary, order));
+        return summary;
+    }
+
+    public List<OrderSummaryResponse> summarizeOrdersByCustomer() {
+        if (storageProperties.isColumnar()) {
+            return toSummaryResponses(orderColumnStore.summarizeByCustomer());
+        }
+        return summarizeRowsBy(Order::getCustomerId);
+    }
+
+    public List<OrderSummaryResponse> summarizeOrdersByProduct() {
+        if (storageProperties.isColumnar()) {
+            return toSummaryResponses(orderColumnStore.summarizeByProduct());
+        }
+        return summarizeRowsBy(Order::getProductName);
+    }
+
+    private List<OrderSummaryResponse> toSummaryResponses(Map<String, OrderColumnStore.Summary> summaries) {
+        return summaries.entrySet().stream()
+            .map(entry -> new OrderSummaryResponse(entry.getKey(), entry.getValue().getOrderCount(),
+                entry.getValue().getUnitsSold(), entry.getValue().getRevenue()))
+            .collect(Collectors.toList());
+    }
+
+    private List<OrderSummaryResponse> summarizeRowsBy(Function<Order, String> key) {
+        Map<String, OrderSummaryResponse> summaries = new LinkedHashMap<>();
+        orderRepository.findAll().forEach(order -> accumulate(
+            summaries.computeIfAbsent(key.apply(order), k -> new OrderSummaryResponse(k, 0, 0, 0.0)), order));
+        return List.copyOf(summaries.values());
+    }
+
+    private static void accumulate(OrderSummaryResponse summary, Order order) {
+        summary.setOrderCount(summary.getOrderCount() + 1);
+        summary.setUnitsSold(summary.getUnitsSold() + order.getQuantity());
+        summary.setRevenue(summary.getRevenue() + order.getTotalAmount());
+    }
+
+    /**
+     * Reads pre-aggregated buckets for the whole shop, one product or one customer.
+     * The cost depends on the number of buckets in range, not on the number of orders.
+     */
+    public List<OrderStatsResponse> getOrderStats(OrderRollupStore.Granularity granularity, String productName,
+                                                  String customerId, LocalDateTime from, LocalDateTime to) {
+        if (productName != null && customerId != null) {
+            throw new IllegalArgumentException("Filter by either product name or customer ID, not both");
+        }
+        OrderRollupStore.Dimension dimension = OrderRollupStore.Dimension.ALL;
+        String key = null;
+        if (productName != null) {
+            dimension = OrderRollupStore.Dimension.PRODUCT;
+            key = productName;
+        } else if (customerId != null) {
+            dimension = OrderRollupStore.Dimension.CUSTOMER;
+            key = customerId;
+        }
+        return orderRollupStore.query(granularity, dimension, key, from, to).stream()
+            .map(bucket -> new OrderStatsResponse(
+                dateFormatter.formatDateTime(bucket.getBucketStart()),
+                bucket.getOrderCount(),
+                bucket.getUnitsSold(),
+                bucket.getRevenue()))
             .collect(Collectors.toList());
     }
 
     public Optional<OrderResponse> getOrderById(String id) {
-        log.info("Fetching order with ID: {}", id);
-        return orders.stream()
-            .filter(order -> order.getId().equals(id))
-            .findFirst()
-            .map(this::convertToResponse);
+        long started = System.nanoTime();
+        OrderOperationEvent event = OrderOperationEvent.start(OrderMetrics.Operation.GET, started);
+        try {
+            log.info("Fetching order with ID: {}", id);
+            Optional<Order> order = orderRepository.findById(id);
+            event.stored();
+            Optional<OrderResponse> response = order.map(this::cachedResponse);
+            event.formatted();
+            event.orders(order.isPresent() ? 1 : 0);
+            return response;
+        } finally {
+            orderMetrics.recordOperation(OrderMetrics.Operation.GET, started);
+            event.finish();
+        }
+    }
+
+    /**
+     * Same as {@link #getOrderById} but returns the response already serialized to JSON.
+     */
+    public Optional<byte[]> getOrderJsonById(String id) {
+        long started = System.nanoTime();
+        OrderOperationEvent event = OrderOperationEvent.start(OrderMetrics.Operation.GET, started);
+        try {
+            Optional<Order> order = orderRepository.findById(id);
+            event.stored();
+            Optional<byte[]> json = order.map(this::toJson);
+            event.formatted();
+            if (json.isPresent()) {
+                event.orders(1);
+                event.responseSize(json.get().length);
+            }
+            return json;
+        } finally {
+            orderMetrics.recordOperation(OrderMetrics.Operation.GET, started);
+            event.finish();
+        }
+    }
+
+    /**
+     * Moves an order to {@code status} if its lifecycle allows it from the current one.
+     *
+     * @return the changed order, or empty if there is no such order
+     * @throws IllegalArgumentException if {@code status} is not a known status
+     * @throws IllegalStateException if the order cannot change to {@code status}
+     */
+    public Optional<OrderResponse> changeStatus(String id, String status) {
+        long started = System.nanoTime();
+        OrderOperationEvent event = OrderOperationEvent.start(OrderMetrics.Operation.CHANGE_STATUS, started);
+        event.orders(1);
+        try {
+            OrderStatus target = OrderStatus.parse(status);
+            log.info("Changing status of order {} to {}", id, target);
+            event.validated();
+            Optional<Order> changed;
+            try {
+                changed = orderRepository.changeStatus(id, target);
+            } catch (IllegalStateException e) {
+                event.rejected(1);
+                throw e;
+            }
+            event.stored();
+            changed.ifPresent(order -> orderChangeFeed.publish(ChangeEvent.UPDATED, order));
+            Optional<OrderResponse> response = changed.map(this::cachedResponse);
+            event.formatted();
+            return response;
+        } finally {
+            orderMetrics.recordOperation(OrderMetrics.Operation.CHANGE_STATUS, started);
+            event.finish();
+        }
+    }
+
+    /**
+     * Moves every listed order to {@code status}. Each order changes on its own, so
+     * orders that are missing or cannot make the transition are reported by their
+     * index and do not stop the rest.
+     *
+     * @throws IllegalArgumentException if the batch is empty or too large, or {@code status} is unknown
+     */
+    public BatchOrderResponse changeStatuses(List<String> ids, String status) {
+        long started = System.nanoTime();
+        OrderOperationEvent event = OrderOperationEvent.start(OrderMetrics.Operation.CHANGE_STATUS_BATCH, started);
+        try {
+            if (ids == null || ids.isEmpty()) {
+                throw new IllegalArgumentException("At least one order ID is required");
+            }
+            if (ids.size() > MAX_BATCH_SIZE) {
+                throw new IllegalArgumentException("Batch must not contain more than " + MAX_BATCH_SIZE + " orders");
+            }
+            OrderStatus target = OrderStatus.parse(status);
+            event.orders(ids.size());
+            event.validated();
+
+            List<Order> changed = new ArrayList<>(ids.size());
+            List<BatchOrderResponse.RejectedItem> rejected = new ArrayList<>();
+            for (int i = 0; i < ids.size(); i++) {
+                try {
+                    Optional<Order> order = orderRepository.changeStatus(ids.get(i), target);
+                    if (order.isPresent()) {
+                        changed.add(order.get());
+                    } else {
+                        rejected.add(new BatchOrderResponse.RejectedItem(i, "Order not found"));
+                    }
+                } catch (IllegalStateException e) {
+                    rejected.add(new BatchOrderResponse.RejectedItem(i, e.getMessage()));
+                }
+            }
+            event.stored();
+            for (Order order : changed) {
+                orderChangeFeed.publish(ChangeEvent.UPDATED, order);
+            }
+            event.rejected(rejected.size());
+            log.info("Batch changed {} orders to {}, rejected {}", changed.size(), target, rejected.size());
+
+            List<OrderResponse> accepted = new ArrayList<>(changed.size());
+            for (Order order : changed) {
+                accepted.add(cachedResponse(order));
+            }
+            event.formatted();
+            return new BatchOrderResponse(accepted, rejected);
+        } finally {
+            orderMetrics.recordOperation(OrderMetrics.Operation.CHANGE_STATUS_BATCH, started);
+            event.finish();
+        }
+    }
+
+    public Optional<OrderWithCustomerResponse> getOrderWithCustomerById(String id) {
+        return getOrderById(id).map(order -> withCustomers(List.of(order)).get(0));
+    }
+
+    public CursorPage<OrderWithCustomerResponse> withCustomers(CursorPage<OrderResponse> page) {
+        return new CursorPage<>(withCustomers(page.getItems()), page.getNext());
+    }
+
+    /**
+     * Embeds each order's customer. The distinct customer ids are resolved together,
+     * cached ones locally and the rest with bulk lookups sent in parallel; customers
+     * service-a does not return in time are left {@code null}.
+     */
+    public List<OrderWithCustomerResponse> withCustomers(List<OrderResponse> orders) {
+        Set<String> customerIds = new LinkedHashSet<>();
+        for (OrderResponse order : orders) {
+            customerIds.add(order.getCustomerId());
+        }
+        Map<String, CustomerResponse> customers = customerLookupClient.findAvailable(customerIds);
+        List<OrderWithCustomerResponse> enriched = new ArrayList<>(orders.size());
+        for (OrderResponse order : orders) {
+            enriched.add(new OrderWithCustomerResponse(order, customers.get(order.getCustomerId())));
+        }
+        return enriched;
+    }
+
+    /**
+     * The order's response serialized to JSON. The array is shared and must not be modified.
+     */
+    public byte[] toJson(Order order) {
+        return responseCache.getBytes(order.getId(), order, this::convertToResponse);
+    }
+
+    private OrderResponse cachedResponse(Order order) {
+        return responseCache.get(order.getId(), order, this::convertToResponse);
     }
 
     private OrderResponse convertToResponse(Order order) {
-        return new OrderResponse(
+        long started = System.nanoTime();
+        OrderResponse response = new OrderResponse(
             order.getId(),
             order.getOrderNumber(),
             order.getCustomerId(),
@@ -96,7 +576,9 @@ public class OrderService {
             numberFormatter.formatCurrency(order.getUnitPrice()),
             numberFormatter.formatCurrency(order.getTotalAmount()),
             dateFormatter.formatDateTime(order.getCreatedAt()),
-            order.getStatus()
+            order.getStatus().name()
         );
+        orderMetrics.recordResponseConversion(started);
+        return response;
     }
 }
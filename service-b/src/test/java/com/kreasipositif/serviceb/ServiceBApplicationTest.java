@@ -3,7 +3,7 @@ package com.kreasipositif.serviceb;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 
-@SpringBootTest
+@SpringBootTest(properties = "utility.order-number.state-file=target/test-data/order-number.state")
 class ServiceBApplicationTest {
 
     @Test
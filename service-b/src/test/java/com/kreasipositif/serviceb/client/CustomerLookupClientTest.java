@@ -0,0 +1,214 @@
+package com.kreasipositif.serviceb.client;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kreasipositif.serviceb.dto.CustomerResponse;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static com.kreasipositif.utility.testing.VirtualThreadPinning.assertNoPinning;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the client against a stub of service-a's bulk lookup endpoint that knows
+ * the users {@code user-0} to {@code user-999}.
+ */
+class CustomerLookupClientTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<List<String>> lookups = new CopyOnWriteArrayList<>();
+    private volatile int status = 200;
+    private volatile long delayMillis;
+
+    private HttpServer server;
+    private CustomerLookupProperties properties;
+    private CustomerLookupClient client;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/api/users/lookup", exchange -> {
+            List<String> ids = new ArrayList<>();
+            for (JsonNode id : objectMapper.readTree(exchange.getRequestBody()).path("ids")) {
+                ids.add(id.asText());
+            }
+            lookups.add(ids);
+            try {
+                Thread.sleep(delayMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            List<CustomerResponse> found = ids.stream()
+                .filter(id -> id.matches("user-\\d{1,3}"))
+                .map(id -> new CustomerResponse(id, "Name of " + id, id + "@example.com", "+6281234567"))
+                .toList();
+            byte[] body = objectMapper.writeValueAsBytes(found);
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(status, status == 200 ? body.length : -1);
+            if (status == 200) {
+                exchange.getResponseBody().write(body);
+            }
+            exchange.close();
+        });
+        server.setExecutor(Executors.newFixedThreadPool(4));
+        server.start();
+
+        properties = new CustomerLookupProperties();
+        properties.setBaseUrl("http://127.0.0.1:" + server.getAddress().getPort());
+        properties.setBatchSize(10);
+        properties.setBatchDelay(Duration.ofMillis(50));
+        client = new CustomerLookupClient(properties, objectMapper, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        client.close();
+        server.stop(0);
+    }
+
+    private double cacheCount(String result) {
+        return meterRegistry.get("customers.lookup.cache").tag("result", result).counter().count();
+    }
+
+    @Test
+    void testFind_CachesFoundAndUnknownCustomers() {
+        // Act
+        Optional<CustomerResponse> first = client.find("user-1");
+        Optional<CustomerResponse> second = client.find("user-1");
+        Optional<CustomerResponse> unknown = client.find("nobody");
+        Optional<CustomerResponse> unknownAgain = client.find("nobody");
+
+        // Assert
+        assertEquals("Name of user-1", first.orElseThrow().getName());
+        assertEquals(first, second);
+        assertTrue(unknown.isEmpty());
+        assertTrue(unknownAgain.isEmpty());
+        assertEquals(List.of(List.of("user-1"), List.of("nobody")), lookups);
+        assertEquals(2.0, cacheCount("hit"));
+        assertEquals(2.0, cacheCount("miss"));
+        assertEquals(4, meterRegistry.get("customers.lookup.latency").timer().count());
+    }
+
+    @Test
+    void testFind_ConcurrentLookupsAreCoalescedAndBatched() throws Exception {
+        // Arrange
+        ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor();
+
+        // Act
+        List<Future<Optional<CustomerResponse>>> results = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            String id = "user-" + (i % 8);
+            results.add(callers.submit(() -> client.find(id)));
+        }
+        for (int i = 0; i < results.size(); i++) {
+            assertEquals("user-" + (i % 8), results.get(i).get().orElseThrow().getId());
+        }
+        callers.shutdown();
+
+        // Assert
+        assertEquals(1, lookups.size());
+        assertEquals(8, Set.copyOf(lookups.get(0)).size());
+        assertEquals(8, lookups.get(0).size());
+        assertEquals(40.0, cacheCount("miss") + cacheCount("hit"));
+    }
+
+    @Test
+    void testFind_FromVirtualThreads_WaitsForBatchesWithoutPinning() throws Exception {
+        // Act
+        assertNoPinning("CustomerLookupClient.find", 1_000,
+            i -> assertEquals("user-" + i % 300, client.find("user-" + i % 300).orElseThrow().getId()));
+
+        // Assert
+        assertEquals(300, lookups.stream().flatMap(List::stream).distinct().count());
+        assertTrue(lookups.size() < 300);
+    }
+
+    @Test
+    void testFindAll_SplitsIntoFullBatchesAndLeavesOutUnknownIds() {
+        // Arrange
+        List<String> ids = new ArrayList<>(IntStream.range(0, 25).mapToObj(i -> "user-" + i).toList());
+        ids.add("nobody");
+        ids.add("user-3");
+
+        // Act
+        Map<String, CustomerResponse> found = client.findAll(ids);
+
+        // Assert
+        assertEquals(25, found.size());
+        assertFalse(found.containsKey("nobody"));
+        assertEquals(List.of(6, 10, 10), lookups.stream().map(List::size).sorted().toList());
+        assertEquals(3, meterRegistry.get("customers.lookup.batch.size").summary().count());
+        assertEquals(3, meterRegistry.get("customers.lookup.requests").tag("outcome", "success").timer().count());
+    }
+
+    @Test
+    void testFind_WhenServiceFails_ThrowsAndDoesNotCacheTheFailure() {
+        // Arrange
+        status = 500;
+
+        // Act & Assert
+        assertThrows(CustomerLookupException.class, () -> client.find("user-1"));
+        status = 200;
+        assertTrue(client.find("user-1").isPresent());
+        assertEquals(2, lookups.size());
+        assertEquals(1, meterRegistry.get("customers.lookup.requests").tag("outcome", "failure").timer().count());
+    }
+
+    @Test
+    void testFindAvailable_WhenServiceIsSlowOrFailing_ReturnsWhatIsKnownInTime() {
+        // Arrange
+        properties.setEnrichmentTimeout(Duration.ofMillis(100));
+        client.find("user-1");
+        delayMillis = 1_000;
+
+        // Act
+        long started = System.nanoTime();
+        Map<String, CustomerResponse> slow = client.findAvailable(List.of("user-1", "user-2", "user-3"));
+        long waitedMillis = (System.nanoTime() - started) / 1_000_000;
+        delayMillis = 0;
+        status = 500;
+        Map<String, CustomerResponse> failing = client.findAvailable(List.of("user-1", "user-4"));
+
+        // Assert
+        assertEquals(Set.of("user-1"), slow.keySet());
+        assertTrue(waitedMillis < 1_000, "waited " + waitedMillis + "ms");
+        assertEquals(Set.of("user-1"), failing.keySet());
+        assertEquals(3.0, meterRegistry.get("customers.lookup.unresolved").counter().count());
+    }
+
+    @Test
+    void testFind_AfterTtl_LooksUpAgain() throws Exception {
+        // Arrange
+        client.close();
+        properties.setCacheTtl(Duration.ofMillis(100));
+        properties.setBatchDelay(Duration.ofMillis(1));
+        client = new CustomerLookupClient(properties, objectMapper, new SimpleMeterRegistry());
+
+        // Act
+        client.find("user-1");
+        client.find("user-1");
+        Thread.sleep(150);
+        client.find("user-1");
+
+        // Assert
+        assertEquals(2, lookups.size());
+    }
+}
@@ -0,0 +1,105 @@
+package com.kreasipositif.serviceb.repository;
+
+import com.kreasipositif.serviceb.model.Order;
+import com.kreasipositif.serviceb.model.OrderStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderColumnStoreTest {
+
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2026, 1, 6, 13, 0, 0);
+
+    private OrderColumnStore columnStore;
+
+    @BeforeEach
+    void setUp() {
+        columnStore = new OrderColumnStore();
+    }
+
+    private Order order(int seq, String customerId, String productName, int quantity, double unitPrice) {
+        return new Order("id-" + seq, "ORD-" + seq, customerId, productName, quantity, unitPrice,
+            quantity * unitPrice, BASE_TIME.plusMinutes(seq), OrderStatus.PENDING);
+    }
+
+    @Test
+    void testSummarize_WithFilters_TotalsMatchingRows() {
+        // Arrange
+        columnStore.append(order(0, "CUST-1", "Laptop", 2, 100.0));
+        columnStore.append(order(1, "CUST-2", "Mouse", 3, 10.0));
+        columnStore.append(order(2, "CUST-1", "Mouse", 1, 10.0));
+
+        // Act & Assert
+        assertEquals(new OrderColumnStore.Summary(3, 6, 240.0), columnStore.summarize(null, null, null, null));
+        assertEquals(new OrderColumnStore.Summary(2, 3, 210.0), columnStore.summarize("CUST-1", null, null, null));
+        assertEquals(new OrderColumnStore.Summary(2, 4, 40.0), columnStore.summarize(null, "Mouse", null, null));
+        assertEquals(new OrderColumnStore.Summary(1, 1, 10.0), columnStore.summarize("CUST-1", "Mouse", null, null));
+        assertEquals(new OrderColumnStore.Summary(0, 0, 0.0), columnStore.summarize("CUST-9", null, null, null));
+    }
+
+    @Test
+    void testSummarize_WithTimeRange_IncludesFromExcludesTo() {
+        // Arrange
+        for (int i = 0; i < 5; i++) {
+            columnStore.append(order(i, "CUST-1", "Laptop", 1, 1.0));
+        }
+
+        // Act
+        OrderColumnStore.Summary summary = columnStore.summarize(null, null, BASE_TIME.plusMinutes(1), BASE_TIME.plusMinutes(4));
+
+        // Assert
+        assertEquals(3, summary.getOrderCount());
+    }
+
+    @Test
+    void testSummarizeByCustomerAndProduct_GroupsRows() {
+        // Arrange
+        columnStore.append(order(0, "CUST-1", "Laptop", 2, 100.0));
+        columnStore.append(order(1, "CUST-2", "Mouse", 3, 10.0));
+        columnStore.append(order(2, "CUST-1", "Mouse", 1, 10.0));
+
+        // Act
+        Map<String, OrderColumnStore.Summary> byCustomer = columnStore.summarizeByCustomer();
+        Map<String, OrderColumnStore.Summary> byProduct = columnStore.summarizeByProduct();
+
+        // Assert
+        assertEquals(new OrderColumnStore.Summary(2, 3, 210.0), byCustomer.get("CUST-1"));
+        assertEquals(new OrderColumnStore.Summary(1, 3, 30.0), byCustomer.get("CUST-2"));
+        assertEquals(new OrderColumnStore.Summary(2, 4, 40.0), byProduct.get("Mouse"));
+    }
+
+    @Test
+    void testAppend_ConcurrentlyAcrossChunks_KeepsEveryRow() throws Exception {
+        // Arrange
+        int threads = 8;
+        int perThread = 20_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        // Act
+        for (int t = 0; t < threads; t++) {
+            String customerId = "CUST-" + t;
+            executor.submit(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    columnStore.append(order(i, customerId, "Product " + (i % 7), 1, 2.0));
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+
+        // Assert
+        assertEquals(threads * perThread, columnStore.size());
+        OrderColumnStore.Summary total = columnStore.summarize(null, null, null, null);
+        assertEquals(threads * perThread, total.getOrderCount());
+        assertEquals(2.0 * threads * perThread, total.getRevenue(), 1e-6);
+        assertEquals(perThread, columnStore.summarize("CUST-3", null, null, null).getOrderCount());
+        assertEquals(threads, columnStore.summarizeByCustomer().size());
+    }
+}
@@ -0,0 +1,207 @@
+package com.kreasipositif.serviceb.repository;
+
+import com.kreasipositif.serviceb.model.Order;
+import com.kreasipositif.serviceb.model.OrderStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderRepositoryTest {
+
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2026, 1, 6, 13, 30, 0);
+
+    private OrderRepository orderRepository;
+
+    @BeforeEach
+    void setUp() {
+        orderRepository = new OrderRepository();
+    }
+
+    private Order order(int seq, String customerId, OrderStatus status) {
+        return new Order("id-" + seq, "ORD-" + seq, customerId, "Product " + seq,
+            1, 10.0, 10.0, BASE_TIME.plusSeconds(seq), status);
+    }
+
+    @Test
+    void testInsert_ThenFindByIdAndNumber_ReturnsOrder() {
+        // Arrange
+        orderRepository.insert(order(1, "CUST-1", OrderStatus.PENDING));
+
+        // Act & Assert
+        assertEquals("id-1", orderRepository.findById("id-1").orElseThrow().getId());
+        assertEquals("id-1", orderRepository.findByOrderNumber("ORD-1").orElseThrow().getId());
+        assertFalse(orderRepository.findById("missing").isPresent());
+        assertFalse(orderRepository.findByOrderNumber(null).isPresent());
+    }
+
+    @Test
+    void testInsert_WithDuplicateOrderNumber_ThrowsAndLeavesNoTrace() {
+        // Arrange
+        orderRepository.insert(order(1, "CUST-1", OrderStatus.PENDING));
+        Order duplicate = new Order("id-2", "ORD-1", "CUST-2", "Other", 1, 1.0, 1.0, BASE_TIME, OrderStatus.PENDING);
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> orderRepository.insert(duplicate));
+        assertFalse(orderRepository.findById("id-2").isPresent());
+        assertEquals(0, orderRepository.findBy("CUST-2", null, null).count());
+        assertEquals(1, orderRepository.count());
+    }
+
+    @Test
+    void testFindBy_UsesIndexesAndKeepsCreationOrder() {
+        // Arrange
+        orderRepository.insert(order(3, "CUST-1", OrderStatus.SHIPPED));
+        orderRepository.insert(order(1, "CUST-1", OrderStatus.PENDING));
+        orderRepository.insert(order(2, "CUST-2", OrderStatus.PENDING));
+
+        // Act
+        List<String> byCustomer = orderRepository.findBy("CUST-1", null, null).map(Order::getId).toList();
+        List<String> byStatus = orderRepository.findBy(null, OrderStatus.PENDING, null).map(Order::getId).toList();
+        List<String> byBoth = orderRepository.findBy("CUST-1", OrderStatus.SHIPPED, null).map(Order::getId).toList();
+        List<String> all = orderRepository.findAll().map(Order::getId).toList();
+
+        // Assert
+        assertEquals(List.of("id-1", "id-3"), byCustomer);
+        assertEquals(List.of("id-1", "id-2"), byStatus);
+        assertEquals(List.of("id-3"), byBoth);
+        assertEquals(List.of("id-1", "id-2", "id-3"), all);
+        assertEquals(0, orderRepository.findBy("CUST-2", null, "ORD-1").count());
+    }
+
+    @Test
+    void testInsert_Concurrently_KeepsIndexesConsistent() throws Exception {
+        // Arrange
+        int threads = 8;
+        int perThread = 500;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        // Act
+        for (int t = 0; t < threads; t++) {
+            int offset = t * perThread;
+            executor.submit(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    int seq = offset + i;
+                    orderRepository.insert(order(seq, "CUST-" + (seq % 10), seq % 2 == 0 ? OrderStatus.PENDING : OrderStatus.SHIPPED));
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        // Assert
+        int total = threads * perThread;
+        assertEquals(total, orderRepository.count());
+        assertEquals(total, orderRepository.findAll().count());
+        assertEquals(total / 10, orderRepository.findBy("CUST-3", null, null).count());
+        assertEquals(total / 2, orderRepository.findBy(null, OrderStatus.PENDING, null).count());
+        assertEquals(total / 10, orderRepository.findBy("CUST-4", OrderStatus.PENDING, null).count());
+        assertEquals(0, orderRepository.findBy("CUST-4", OrderStatus.SHIPPED, null).count());
+    }
+
+    @Test
+    void testChangeStatus_FollowsLifecycleAndMovesIndexEntry() {
+        // Arrange
+        Order original = orderRepository.insert(order(1, "CUST-1", OrderStatus.PENDING));
+
+        // Act
+        Order confirmed = orderRepository.changeStatus("id-1", OrderStatus.CONFIRMED).orElseThrow();
+
+        // Assert
+        assertEquals(OrderStatus.CONFIRMED, confirmed.getStatus());
+        assertEquals(OrderStatus.PENDING, original.getStatus());
+        assertSame(confirmed, orderRepository.findById("id-1").orElseThrow());
+        assertEquals(List.of("id-1"), orderRepository.findBy("CUST-1", OrderStatus.CONFIRMED, null).map(Order::getId).toList());
+        assertEquals(0, orderRepository.findBy(null, OrderStatus.PENDING, null).count());
+        assertEquals(0, orderRepository.statusIndexEntries(OrderStatus.PENDING));
+        assertThrows(IllegalStateException.class, () -> orderRepository.changeStatus("id-1", OrderStatus.CONFIRMED));
+        assertThrows(IllegalStateException.class, () -> orderRepository.changeStatus("id-1", OrderStatus.DELIVERED));
+        assertFalse(orderRepository.changeStatus("missing", OrderStatus.CANCELLED).isPresent());
+    }
+
+    @Test
+    void testChangeStatus_WithConflictingConcurrentChanges_AppliesEachOnceAndKeepsIndexConsistent() throws Exception {
+        // Arrange
+        int total = 2_000;
+        for (int seq = 0; seq < total; seq++) {
+            orderRepository.insert(order(seq, "CUST-" + (seq % 10), OrderStatus.PENDING));
+        }
+        AtomicInteger cancelled = new AtomicInteger();
+        AtomicInteger delivered = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // Act: half the threads ship every order through to delivery, the other half cancel them
+        for (int t = 0; t < 8; t++) {
+            boolean cancelling = t % 2 == 0;
+            executor.submit(() -> {
+                for (int seq = 0; seq < total; seq++) {
+                    String id = "id-" + seq;
+                    if (cancelling) {
+                        tryChange(id, OrderStatus.CANCELLED, cancelled);
+                    } else {
+                        tryChange(id, OrderStatus.CONFIRMED, new AtomicInteger());
+                        tryChange(id, OrderStatus.SHIPPED, new AtomicInteger());
+                        tryChange(id, OrderStatus.DELIVERED, delivered);
+                    }
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+
+        // Assert
+        assertEquals(total, cancelled.get() + delivered.get());
+        assertEquals(cancelled.get(), orderRepository.findBy(null, OrderStatus.CANCELLED, null).count());
+        assertEquals(delivered.get(), orderRepository.findBy(null, OrderStatus.DELIVERED, null).count());
+        assertEquals(cancelled.get(), orderRepository.statusIndexEntries(OrderStatus.CANCELLED));
+        assertEquals(delivered.get(), orderRepository.statusIndexEntries(OrderStatus.DELIVERED));
+        for (OrderStatus status : List.of(OrderStatus.PENDING, OrderStatus.CONFIRMED, OrderStatus.SHIPPED)) {
+            assertEquals(0, orderRepository.statusIndexEntries(status), status.name());
+        }
+        assertEquals(total, orderRepository.findAll().filter(order -> order.getStatus().isFinal()).count());
+    }
+
+    @Test
+    void testChangeStatus_WhileOrdersAreInserted_LeavesNoStaleStatusEntry() throws Exception {
+        // Arrange
+        int total = 5_000;
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        // Act: cancel every order as soon as it becomes visible, racing the insert's index writes
+        executor.submit(() -> {
+            for (int seq = 0; seq < total; seq++) {
+                orderRepository.insert(order(seq, "CUST-" + (seq % 10), OrderStatus.PENDING));
+            }
+        });
+        executor.submit(() -> {
+            for (int seq = 0; seq < total; seq++) {
+                while (orderRepository.changeStatus("id-" + seq, OrderStatus.CANCELLED).isEmpty()) {
+                    Thread.onSpinWait();
+                }
+            }
+        });
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+
+        // Assert
+        assertEquals(0, orderRepository.statusIndexEntries(OrderStatus.PENDING));
+        assertEquals(total, orderRepository.statusIndexEntries(OrderStatus.CANCELLED));
+        assertEquals(total, orderRepository.findBy(null, OrderStatus.CANCELLED, null).count());
+    }
+
+    private void tryChange(String id, OrderStatus target, AtomicInteger applied) {
+        try {
+            orderRepository.changeStatus(id, target);
+            applied.incrementAndGet();
+        } catch (IllegalStateException e) {
+            // Another thread moved the order somewhere this change cannot follow
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.kreasipositif.serviceb.repository;
+
+import com.kreasipositif.serviceb.model.Order;
+import com.kreasipositif.serviceb.model.OrderStatus;
+import com.kreasipositif.serviceb.repository.OrderRollupStore.BucketTotals;
+import com.kreasipositif.serviceb.repository.OrderRollupStore.Dimension;
+import com.kreasipositif.serviceb.repository.OrderRollupStore.Granularity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderRollupStoreTest {
+
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2026, 1, 6, 13, 0, 0);
+
+    private OrderRollupStore rollupStore;
+
+    @BeforeEach
+    void setUp() {
+        rollupStore = new OrderRollupStore();
+    }
+
+    private Order order(String customerId, String productName, int quantity, double unitPrice, LocalDateTime createdAt) {
+        return new Order("id", "ORD", customerId, productName, quantity, unitPrice,
+            quantity * unitPrice, createdAt, OrderStatus.PENDING);
+    }
+
+    @Test
+    void testRecord_AggregatesPerGranularityAndDimension() {
+        // Arrange
+        rollupStore.record(order("CUST-1", "Laptop", 2, 100.0, BASE_TIME.plusSeconds(10)));
+        rollupStore.record(order("CUST-2", "Laptop", 1, 100.0, BASE_TIME.plusSeconds(50)));
+        rollupStore.record(order("CUST-1", "Mouse", 3, 10.0, BASE_TIME.plusMinutes(90)));
+
+        // Act
+        List<BucketTotals> minutes = rollupStore.query(Granularity.MINUTE, Dimension.ALL, null, null, null);
+        List<BucketTotals> hours = rollupStore.query(Granularity.HOUR, Dimension.ALL, null, null, null);
+        List<BucketTotals> laptopDays = rollupStore.query(Granularity.DAY, Dimension.PRODUCT, "Laptop", null, null);
+        List<BucketTotals> customerHours = rollupStore.query(Granularity.HOUR, Dimension.CUSTOMER, "CUST-1", null, null);
+
+        // Assert
+        assertEquals(List.of(
+            new BucketTotals(BASE_TIME, 2, 3, 300.0),
+            new BucketTotals(BASE_TIME.plusMinutes(90), 1, 3, 30.0)), minutes);
+        assertEquals(List.of(
+            new BucketTotals(BASE_TIME, 2, 3, 300.0),
+            new BucketTotals(BASE_TIME.plusHours(1), 1, 3, 30.0)), hours);
+        assertEquals(List.of(new BucketTotals(BASE_TIME.toLocalDate().atStartOfDay(), 2, 3, 300.0)), laptopDays);
+        assertEquals(2, customerHours.size());
+        assertTrue(rollupStore.query(Granularity.HOUR, Dimension.PRODUCT, "Unknown", null, null).isEmpty());
+    }
+
+    @Test
+    void testQuery_WithRange_ReturnsOnlyBucketsInRange() {
+        // Arrange
+        for (int i = 0; i < 10; i++) {
+            rollupStore.record(order("CUST-1", "Laptop", 1, 1.0, BASE_TIME.plusMinutes(i)));
+        }
+
+        // Act
+        List<BucketTotals> range = rollupStore.query(Granularity.MINUTE, Dimension.ALL, null,
+            BASE_TIME.plusMinutes(2).plusSeconds(30), BASE_TIME.plusMinutes(5));
+
+        // Assert
+        assertEquals(List.of(BASE_TIME.plusMinutes(2), BASE_TIME.plusMinutes(3), BASE_TIME.plusMinutes(4)),
+            range.stream().map(BucketTotals::getBucketStart).toList());
+    }
+
+    @Test
+    void testRecord_DropsBucketsOlderThanRetention() {
+        // Arrange
+        rollupStore.record(order("CUST-1", "Laptop", 1, 1.0, BASE_TIME));
+
+        // Act
+        rollupStore.record(order("CUST-1", "Laptop", 1, 1.0, BASE_TIME.plusDays(2)));
+
+        // Assert
+        assertEquals(1, rollupStore.query(Granularity.MINUTE, Dimension.ALL, null, null, null).size());
+        assertEquals(2, rollupStore.query(Granularity.HOUR, Dimension.ALL, null, null, null).size());
+    }
+
+    @Test
+    void testSweep_DropsExpiredBucketsAndEmptySeries() {
+        // Arrange
+        rollupStore.record(order("CUST-1", "Laptop", 1, 1.0, BASE_TIME));
+        rollupStore.record(order("CUST-2", "Mouse", 1, 1.0, BASE_TIME.plusDays(20)));
+
+        // Act
+        rollupStore.sweep(BASE_TIME.plusDays(40));
+
+        // Assert
+        assertTrue(rollupStore.query(Granularity.HOUR, Dimension.CUSTOMER, "CUST-1", null, null).isEmpty());
+        assertEquals(1, rollupStore.query(Granularity.HOUR, Dimension.CUSTOMER, "CUST-2", null, null).size());
+        assertEquals(1, rollupStore.query(Granularity.DAY, Dimension.CUSTOMER, "CUST-1", null, null).size());
+        // Minute series are all gone; hour series remain for ALL, CUST-2 and Mouse; day series for all five keys
+        assertEquals(3 + 5, rollupStore.seriesCount());
+    }
+
+    @Test
+    void testRecord_ConcurrentWritersToSameBucket_LoseNothing() throws Exception {
+        // Arrange
+        int threads = 8;
+        int perThread = 5_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        // Act
+        for (int t = 0; t < threads; t++) {
+            executor.submit(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    rollupStore.record(order("CUST-1", "Laptop", 2, 1.5, BASE_TIME));
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+
+        // Assert
+        BucketTotals bucket = rollupStore.query(Granularity.DAY, Dimension.CUSTOMER, "CUST-1", null, null).get(0);
+        assertEquals(threads * perThread, bucket.getOrderCount());
+        assertEquals(2L * threads * perThread, bucket.getUnitsSold());
+        assertEquals(3.0 * threads * perThread, bucket.getRevenue(), 1e-6);
+    }
+}
@@ -0,0 +1,107 @@
+package com.kreasipositif.serviceb.service;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kreasipositif.serviceb.client.CustomerLookupClient;
+import com.kreasipositif.serviceb.client.CustomerLookupProperties;
+import com.kreasipositif.serviceb.config.OrderStorageProperties;
+import com.kreasipositif.serviceb.dto.CreateOrderRequest;
+import com.kreasipositif.serviceb.dto.OrderResponse;
+import com.kreasipositif.serviceb.metrics.OrderMetrics;
+import com.kreasipositif.serviceb.model.Order;
+import com.kreasipositif.serviceb.repository.OrderColumnStore;
+import com.kreasipositif.serviceb.repository.OrderRepository;
+import com.kreasipositif.serviceb.repository.OrderRollupStore;
+import com.kreasipositif.utility.cache.ResponseCache;
+import com.kreasipositif.utility.feed.ChangeFeed;
+import com.kreasipositif.utility.formatter.DateFormatter;
+import com.kreasipositif.utility.formatter.NumberFormatter;
+import com.kreasipositif.utility.generator.IdGenerator;
+import com.kreasipositif.utility.generator.IdGeneratorProperties;
+import com.kreasipositif.utility.generator.OrderNumberAllocator;
+import com.kreasipositif.utility.pagination.CursorCodec;
+import com.kreasipositif.utility.validator.StringValidator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import static com.kreasipositif.utility.testing.AllocationBudget.TOTAL_CALLS;
+import static com.kreasipositif.utility.testing.AllocationBudget.assertWithinBudget;
+
+/**
+ * Allocation budgets, in bytes per call, for the order create and read paths with the
+ * real utility beans and stores. Service logging is raised to WARN so the budgets cover
+ * the service code rather than log formatting.
+ */
+class OrderServiceAllocationTest {
+
+    private final Logger serviceLogger = (Logger) LoggerFactory.getLogger(OrderService.class);
+    private Level previousLevel;
+
+    @BeforeEach
+    void setUp() {
+        previousLevel = serviceLogger.getLevel();
+        serviceLogger.setLevel(Level.WARN);
+    }
+
+    @AfterEach
+    void tearDown() {
+        serviceLogger.setLevel(previousLevel);
+    }
+
+    private static OrderService orderService(OrderRepository orderRepository, int cachedResponses) {
+        IdGeneratorProperties idProperties = new IdGeneratorProperties();
+        idProperties.setMode(IdGeneratorProperties.Mode.SNOWFLAKE);
+        ResponseCache<Order, OrderResponse> responseCache = new ResponseCache<>(cachedResponses, value -> new byte[0]);
+        return new OrderService(new IdGenerator(idProperties), new OrderNumberAllocator(), new DateFormatter(),
+            new NumberFormatter(), new StringValidator(), orderRepository, new CursorCodec(), new OrderColumnStore(),
+            new OrderStorageProperties(), new OrderRollupStore(), responseCache,
+            new OrderMetrics(new SimpleMeterRegistry(), orderRepository, new OrderColumnStore()),
+            disabledCustomerLookup(), new ChangeFeed<>(1024, 0));
+    }
+
+    /**
+     * Budgets cover this service's own work, not the round trip to service-a.
+     */
+    private static CustomerLookupClient disabledCustomerLookup() {
+        CustomerLookupProperties properties = new CustomerLookupProperties();
+        properties.setEnabled(false);
+        return new CustomerLookupClient(properties, new ObjectMapper(), new SimpleMeterRegistry());
+    }
+
+    private static CreateOrderRequest request(int i) {
+        return new CreateOrderRequest("CUST-" + (i % 500), "Product " + (i % 50), 1 + i % 5, 10 + (i % 1_000) / 100.0);
+    }
+
+    @Test
+    void testCreateOrder_StaysWithinBudget() {
+        // Arrange
+        OrderService orderService = orderService(new OrderRepository(), TOTAL_CALLS);
+        CreateOrderRequest[] requests = new CreateOrderRequest[TOTAL_CALLS];
+        for (int i = 0; i < requests.length; i++) {
+            requests[i] = request(i);
+        }
+
+        // Act & Assert
+        assertWithinBudget("createOrder", 2_048, call -> orderService.createOrder(requests[call]));
+    }
+
+    @Test
+    void testGetOrderById_StaysWithinBudget() {
+        // Arrange
+        OrderRepository orderRepository = new OrderRepository();
+        OrderService uncached = orderService(orderRepository, 0);
+        OrderService cached = orderService(orderRepository, 1_000);
+        String[] ids = new String[1_000];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = uncached.createOrder(request(i)).getId();
+        }
+
+        // Act & Assert
+        assertWithinBudget("getOrderById (convertToResponse)", 768, call -> uncached.getOrderById(ids[call % ids.length]));
+        assertWithinBudget("getOrderById (cached)", 96, call -> cached.getOrderById(ids[call % ids.length]));
+    }
+}
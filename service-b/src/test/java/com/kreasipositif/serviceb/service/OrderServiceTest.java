@@ -1,25 +1,58 @@
 package com.kreasipositif.serviceb.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kreasipositif.serviceb.client.CustomerLookupClient;
+import com.kreasipositif.serviceb.config.OrderStorageProperties;
+import com.kreasipositif.serviceb.dto.BatchOrderResponse;
 import com.kreasipositif.serviceb.dto.CreateOrderRequest;
+import com.kreasipositif.serviceb.dto.CustomerResponse;
 import com.kreasipositif.serviceb.dto.OrderResponse;
+import com.kreasipositif.serviceb.dto.OrderStatsResponse;
+import com.kreasipositif.serviceb.dto.OrderSummaryResponse;
+import com.kreasipositif.serviceb.dto.OrderWithCustomerResponse;
+import com.kreasipositif.serviceb.metrics.OrderMetrics;
+import com.kreasipositif.serviceb.metrics.OrderOperationEvent;
+import com.kreasipositif.serviceb.model.Order;
+import com.kreasipositif.serviceb.model.OrderStatus;
+import com.kreasipositif.serviceb.repository.OrderColumnStore;
+import com.kreasipositif.serviceb.repository.OrderRepository;
+import com.kreasipositif.serviceb.repository.OrderRollupStore;
+import com.kreasipositif.utility.cache.ResponseCache;
+import com.kreasipositif.utility.feed.ChangeEvent;
+import com.kreasipositif.utility.feed.ChangeFeed;
 import com.kreasipositif.utility.formatter.DateFormatter;
 import com.kreasipositif.utility.formatter.NumberFormatter;
 import com.kreasipositif.utility.generator.IdGenerator;
+import com.kreasipositif.utility.generator.OrderNumberAllocator;
+import com.kreasipositif.utility.pagination.CursorCodec;
+import com.kreasipositif.utility.pagination.CursorPage;
 import com.kreasipositif.utility.validator.StringValidator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
-import static org.mockito.Mockito.lenient;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class OrderServiceTest {
@@ -27,6 +60,9 @@ class OrderServiceTest {
     @Mock
     private IdGenerator idGenerator;
 
+    @Mock
+    private OrderNumberAllocator orderNumberAllocator;
+
     @Mock
     private DateFormatter dateFormatter;
 
@@ -36,14 +72,43 @@ class OrderServiceTest {
     @Mock
     private StringValidator stringValidator;
 
+    @Spy
+    private OrderRepository orderRepository = new OrderRepository();
+
+    @Spy
+    private CursorCodec cursorCodec = new CursorCodec();
+
+    @Spy
+    private OrderColumnStore orderColumnStore = new OrderColumnStore();
+
+    @Spy
+    private OrderStorageProperties storageProperties = new OrderStorageProperties();
+
+    @Spy
+    private OrderRollupStore orderRollupStore = new OrderRollupStore();
+
+    @Spy
+    private ResponseCache<Order, OrderResponse> responseCache = new ResponseCache<>(100, new ObjectMapper()::writeValueAsBytes);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Spy
+    private OrderMetrics orderMetrics = new OrderMetrics(meterRegistry, new OrderRepository(), new OrderColumnStore());
+
+    @Mock
+    private CustomerLookupClient customerLookupClient;
+
+    @Spy
+    private ChangeFeed<Order> orderChangeFeed = new ChangeFeed<>(16, 1);
+
     @InjectMocks
     private OrderService orderService;
 
     @BeforeEach
     void setUp() {
         // Use lenient() to avoid UnnecessaryStubbingException for tests that don't use all mocks
-        lenient().when(idGenerator.generateUUID()).thenReturn("test-order-uuid");
-        lenient().when(idGenerator.generateAlphanumeric(8)).thenReturn("ABC12345");
+        lenient().when(idGenerator.generateId()).thenReturn("test-order-uuid");
+        lenient().when(orderNumberAllocator.next()).thenReturn("ABC12345");
         lenient().when(dateFormatter.formatDateTime(any())).thenReturn("2026-01-06 13:30:00");
         lenient().when(numberFormatter.formatNumber(anyLong())).thenAnswer(i -> String.valueOf(i.getArgument(0, Long.class)));
         lenient().when(numberFormatter.formatCurrency(anyDouble())).thenAnswer(i -> "$" + i.getArgument(0, Double.class));
@@ -219,6 +284,24 @@ class OrderServiceTest {
         assertEquals("Laptop", found.get().getProductName());
     }
 
+    @Test
+    void testGetOrderJsonById_RepeatedReads_FormatOnceAndShareBytes() throws Exception {
+        // Arrange
+        when(stringValidator.isNotEmpty(anyString())).thenReturn(true);
+        OrderResponse created = orderService.createOrder(new CreateOrderRequest("CUST-123", "Laptop", 2, 999.99));
+
+        // Act
+        byte[] first = orderService.getOrderJsonById(created.getId()).orElseThrow();
+        byte[] second = orderService.getOrderJsonById(created.getId()).orElseThrow();
+        orderService.getOrderById(created.getId());
+
+        // Assert
+        assertSame(first, second);
+        assertEquals(created, new ObjectMapper().readValue(first, OrderResponse.class));
+        verify(numberFormatter, times(2)).formatCurrency(anyDouble());
+        assertTrue(orderService.getOrderJsonById("non-existent-id").isEmpty());
+    }
+
     @Test
     void testGetOrderById_WhenOrderDoesNotExist_ReturnsEmpty() {
         // Act
@@ -248,4 +331,353 @@ class OrderServiceTest {
         // Total should be 3 * 100.0 = 300.0
         assertTrue(response.getTotalAmount().contains("300"));
     }
+
+    @Test
+    void testFindOrders_ByCustomerAndStatus_ReturnsMatchingOrders() {
+        // Arrange
+        when(stringValidator.isNotEmpty(anyString())).thenReturn(true);
+        when(idGenerator.generateId()).thenReturn("order-1", "order-2", "order-3");
+        when(orderNumberAllocator.next()).thenReturn("AAAA0001", "AAAA0002", "AAAA0003");
+
+        orderService.createOrder(new CreateOrderRequest("CUST-1", "Laptop", 1, 10.0));
+        orderService.createOrder(new CreateOrderRequest("CUST-2", "Mouse", 1, 10.0));
+        orderService.createOrder(new CreateOrderRequest("CUST-1", "Keyboard", 1, 10.0));
+
+        // Act
+        List<OrderResponse> byCustomer = orderService.findOrders("CUST-1", null, null, null, 10).getItems();
+        List<OrderResponse> byCustomerAndStatus = orderService.findOrders("CUST-1", "pending", null, null, 10).getItems();
+        List<OrderResponse> byNumber = orderService.findOrders(null, null, "ORD-AAAA0002", null, 10).getItems();
+        List<OrderResponse> byOtherStatus = orderService.findOrders(null, "SHIPPED", null, null, 10).getItems();
+
+        // Assert
+        assertEquals(List.of("Laptop", "Keyboard"), byCustomer.stream().map(OrderResponse::getProductName).toList());
+        assertEquals(2, byCustomerAndStatus.size());
+        assertEquals(1, byNumber.size());
+        assertEquals("Mouse", byNumber.get(0).getProductName());
+        assertTrue(byOtherStatus.isEmpty());
+    }
+
+    @Test
+    void testFindOrders_PagesThroughCustomerOrdersWithCursor() {
+        // Arrange
+        when(stringValidator.isNotEmpty(anyString())).thenReturn(true);
+        when(idGenerator.generateId()).thenReturn("order-1", "order-2", "order-3", "order-4");
+        when(orderNumberAllocator.next()).thenReturn("AAAA0001", "AAAA0002", "AAAA0003", "AAAA0004");
+
+        orderService.createOrder(new CreateOrderRequest("CUST-1", "Laptop", 1, 10.0));
+        orderService.createOrder(new CreateOrderRequest("CUST-2", "Mouse", 1, 10.0));
+        orderService.createOrder(new CreateOrderRequest("CUST-1", "Keyboard", 1, 10.0));
+        orderService.createOrder(new CreateOrderRequest("CUST-1", "Monitor", 1, 10.0));
+
+        // Act
+        CursorPage<OrderResponse> first = orderService.findOrders("CUST-1", null, null, null, 2);
+        CursorPage<OrderResponse> second = orderService.findOrders("CUST-1", null, null, first.getNext(), 2);
+
+        // Assert
+        assertEquals(List.of("Laptop", "Keyboard"), first.getItems().stream().map(OrderResponse::getProductName).toList());
+        assertEquals(List.of("Monitor"), second.getItems().stream().map(OrderResponse::getProductName).toList());
+        assertNull(second.getNext());
+        assertThrows(IllegalArgumentException.class, () -> orderService.findOrders(null, null, null, null, 0));
+        assertThrows(IllegalArgumentException.class, () -> orderService.findOrders(null, "LOST", null, null, 10));
+    }
+
+    @Test
+    void testStreamOrders_FormatsOrdersOnlyWhenConsumed() {
+        // Arrange
+        when(stringValidator.isNotEmpty(anyString())).thenReturn(true);
+        when(idGenerator.generateId()).thenReturn("order-1", "order-2");
+        when(orderNumberAllocator.next()).thenReturn("AAAA0001", "AAAA0002");
+        orderService.createOrder(new CreateOrderRequest("CUST-1", "Laptop", 1, 10.0));
+        orderService.createOrder(new CreateOrderRequest("CUST-2", "Mouse", 1, 10.0));
+        clearInvocations(dateFormatter);
+
+        // Act
+        Stream<OrderResponse> stream = orderService.streamOrders(null, null);
+        verifyNoInteractions(dateFormatter);
+        List<String> products = stream.map(OrderResponse::getProductName).toList();
+
+        // Assert
+        assertEquals(List.of("Laptop", "Mouse"), products);
+        verify(dateFormatter, times(2)).formatDateTime(any());
+    }
+
+    @Test
+    void testSummarizeOrders_ColumnarAndRowModesAgree() {
+        // Arrange
+        when(stringValidator.isNotEmpty(anyString())).thenReturn(true);
+        when(idGenerator.generateId()).thenReturn("order-1", "order-2", "order-3");
+        when(orderNumberAllocator.next()).thenReturn("AAAA0001", "AAAA0002", "AAAA0003");
+        orderService.createOrder(new CreateOrderRequest("CUST-1", "Laptop", 2, 100.0));
+        orderService.createOrder(new CreateOrderRequest("CUST-2", "Mouse", 3, 10.0));
+        orderService.createOrder(new CreateOrderRequest("CUST-1", "Mouse", 1, 10.0));
+
+        // Act
+        OrderSummaryResponse columnarTotal = orderService.summarizeOrders(null, null, null, null);
+        OrderSummaryResponse columnarCustomer = orderService.summarizeOrders("CUST-1", null, null, null);
+        List<OrderSummaryResponse> columnarByProduct = orderService.summarizeOrdersByProduct();
+        storageProperties.setColumnar(false);
+        OrderSummaryResponse rowTotal = orderService.summarizeOrders(null, null, null, null);
+        OrderSummaryResponse rowCustomer = orderService.summarizeOrders("CUST-1", null, null, null);
+        List<OrderSummaryResponse> rowByProduct = orderService.summarizeOrdersByProduct();
+
+        // Assert
+        assertEquals(new OrderSummaryResponse(null, 3, 6, 240.0), columnarTotal);
+        assertEquals(new OrderSummaryResponse(null, 2, 3, 210.0), columnarCustomer);
+        assertEquals(columnarTotal, rowTotal);
+        assertEquals(columnarCustomer, rowCustomer);
+        assertEquals(List.of(
+            new OrderSummaryResponse("Laptop", 1, 2, 200.0),
+            new OrderSummaryResponse("Mouse", 2, 4, 40.0)), columnarByProduct);
+        assertEquals(columnarByProduct, rowByProduct);
+    }
+
+    @Test
+    void testGetOrderStats_ReturnsRollupsForRequestedDimension() {
+        // Arrange
+        when(stringValidator.isNotEmpty(anyString())).thenReturn(true);
+        when(idGenerator.generateId()).thenReturn("order-1", "order-2");
+        when(orderNumberAllocator.next()).thenReturn("AAAA0001", "AAAA0002");
+        orderService.createOrder(new CreateOrderRequest("CUST-1", "Laptop", 2, 100.0));
+        orderService.createOrder(new CreateOrderRequest("CUST-2", "Mouse", 3, 10.0));
+
+        // Act
+        List<OrderStatsResponse> all = orderService.getOrderStats(OrderRollupStore.Granularity.DAY, null, null, null, null);
+        List<OrderStatsResponse> mouse = orderService.getOrderStats(OrderRollupStore.Granularity.DAY, "Mouse", null, null, null);
+
+        // Assert
+        assertEquals(2, all.stream().mapToLong(OrderStatsResponse::getOrderCount).sum());
+        assertEquals(230.0, all.stream().mapToDouble(OrderStatsResponse::getRevenue).sum(), 1e-9);
+        assertEquals(3, mouse.stream().mapToLong(OrderStatsResponse::getUnitsSold).sum());
+        assertThrows(IllegalArgumentException.class, () ->
+            orderService.getOrderStats(OrderRollupStore.Granularity.DAY, "Mouse", "CUST-1", null, null));
+    }
+
+    @Test
+    void testCreateOrders_AcceptsValidItemsAndReportsRejectedOnes() {
+        // Arrange
+        lenient().when(stringValidator.isNotEmpty(anyString())).thenReturn(true);
+        lenient().when(stringValidator.isNotEmpty("")).thenReturn(false);
+        when(idGenerator.generateIds(3)).thenReturn(List.of("order-1", "order-2", "order-3"));
+        when(orderNumberAllocator.next(3)).thenReturn(List.of("AAAA0001", "AAAA0002", "AAAA0003"));
+        List<CreateOrderRequest> requests = Arrays.asList(
+            new CreateOrderRequest("CUST-1", "Laptop", 1, 100.0),
+            new CreateOrderRequest("", "Laptop", 1, 100.0),
+            new CreateOrderRequest("CUST-2", "Mouse", 2, 10.0),
+            null,
+            new CreateOrderRequest("CUST-3", "Keyboard", 0, 10.0),
+            new CreateOrderRequest("CUST-1", "Monitor", 1, 200.0)
+        );
+
+        // Act
+        BatchOrderResponse response = orderService.createOrders(requests);
+
+        // Assert
+        assertEquals(List.of("order-1", "order-2", "order-3"),
+            response.getAccepted().stream().map(OrderResponse::getId).toList());
+        assertEquals(List.of("ORD-AAAA0001", "ORD-AAAA0002", "ORD-AAAA0003"),
+            response.getAccepted().stream().map(OrderResponse::getOrderNumber).toList());
+        assertEquals(List.of(1, 3, 4),
+            response.getRejected().stream().map(BatchOrderResponse.RejectedItem::getIndex).toList());
+        assertEquals("Customer ID is required", response.getRejected().get(0).getReason());
+        assertEquals(3, orderService.getAllOrders().size());
+        assertEquals(3, orderService.summarizeOrders(null, null, null, null).getOrderCount());
+        verify(idGenerator, never()).generateId();
+    }
+
+    @Test
+    void testCreateOrders_PublishesCreatedEventPerAcceptedOrder() {
+        // Arrange
+        lenient().when(stringValidator.isNotEmpty(anyString())).thenReturn(true);
+        lenient().when(stringValidator.isNotEmpty("")).thenReturn(false);
+        when(idGenerator.generateIds(2)).thenReturn(List.of("order-1", "order-2"));
+        when(orderNumberAllocator.next(2)).thenReturn(List.of("AAAA0001", "AAAA0002"));
+        long before = orderChangeFeed.lastSequence();
+
+        // Act
+        orderService.createOrders(Arrays.asList(
+            new CreateOrderRequest("CUST-1", "Laptop", 1, 100.0),
+            new CreateOrderRequest("", "Laptop", 1, 100.0),
+            new CreateOrderRequest("CUST-2", "Mouse", 2, 10.0)
+        ));
+
+        // Assert
+        List<ChangeEvent<Order>> changes = new ArrayList<>();
+        assertTrue(orderChangeFeed.readAfter(before, 100, changes));
+        assertEquals(List.of("order-1", "order-2"), changes.stream().map(change -> change.getPayload().getId()).toList());
+        assertTrue(changes.stream().allMatch(change -> change.getType().equals(ChangeEvent.CREATED)));
+        assertTrue(new String(orderService.toJson(changes.get(1).getPayload())).contains("\"orderNumber\":\"ORD-AAAA0002\""));
+    }
+
+    @Test
+    void testChangeStatus_UpdatesOrderIndexAndFeed() {
+        // Arrange
+        when(stringValidator.isNotEmpty(anyString())).thenReturn(true);
+        OrderResponse created = orderService.createOrder(new CreateOrderRequest("CUST-1", "Laptop", 1, 100.0));
+        long before = orderChangeFeed.lastSequence();
+
+        // Act
+        OrderResponse confirmed = orderService.changeStatus(created.getId(), "confirmed").orElseThrow();
+
+        // Assert
+        assertEquals("CONFIRMED", confirmed.getStatus());
+        assertEquals("CONFIRMED", orderService.getOrderById(created.getId()).orElseThrow().getStatus());
+        assertEquals(List.of(created.getId()),
+            orderService.findOrders(null, "CONFIRMED", null, null, 10).getItems().stream().map(OrderResponse::getId).toList());
+        assertTrue(orderService.findOrders(null, "PENDING", null, null, 10).getItems().isEmpty());
+        List<ChangeEvent<Order>> changes = new ArrayList<>();
+        assertTrue(orderChangeFeed.readAfter(before, 100, changes));
+        assertEquals(1, changes.size());
+        assertEquals(ChangeEvent.UPDATED, changes.get(0).getType());
+        assertEquals(OrderStatus.CONFIRMED, changes.get(0).getPayload().getStatus());
+    }
+
+    @Test
+    void testChangeStatus_WithDisallowedOrUnknownStatus_ThrowsAndLeavesOrderUnchanged() {
+        // Arrange
+        when(stringValidator.isNotEmpty(anyString())).thenReturn(true);
+        OrderResponse created = orderService.createOrder(new CreateOrderRequest("CUST-1", "Laptop", 1, 100.0));
+        long before = orderChangeFeed.lastSequence();
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> orderService.changeStatus(created.getId(), "SHIPPED"));
+        assertThrows(IllegalArgumentException.class, () -> orderService.changeStatus(created.getId(), "LOST"));
+        assertFalse(orderService.changeStatus("missing", "CANCELLED").isPresent());
+        assertEquals("PENDING", orderService.getOrderById(created.getId()).orElseThrow().getStatus());
+        assertEquals(before, orderChangeFeed.lastSequence());
+    }
+
+    @Test
+    void testChangeStatuses_ChangesAllowedOrdersAndReportsTheRest() {
+        // Arrange
+        lenient().when(stringValidator.isNotEmpty(anyString())).thenReturn(true);
+        when(idGenerator.generateIds(3)).thenReturn(List.of("order-1", "order-2", "order-3"));
+        when(orderNumberAllocator.next(3)).thenReturn(List.of("AAAA0001", "AAAA0002", "AAAA0003"));
+        orderService.createOrders(List.of(
+            new CreateOrderRequest("CUST-1", "Laptop", 1, 100.0),
+            new CreateOrderRequest("CUST-1", "Mouse", 1, 10.0),
+            new CreateOrderRequest("CUST-2", "Keyboard", 1, 20.0)
+        ));
+        orderService.changeStatus("order-2", "CANCELLED");
+
+        // Act
+        BatchOrderResponse response = orderService.changeStatuses(
+            List.of("order-1", "order-2", "missing", "order-3"), "CONFIRMED");
+
+        // Assert
+        assertEquals(List.of("order-1", "order-3"), response.getAccepted().stream().map(OrderResponse::getId).toList());
+        assertEquals(List.of(1, 2), response.getRejected().stream().map(BatchOrderResponse.RejectedItem::getIndex).toList());
+        assertEquals("Cannot change order status from CANCELLED to CONFIRMED", response.getRejected().get(0).getReason());
+        assertEquals("Order not found", response.getRejected().get(1).getReason());
+        assertEquals(2, orderService.findOrders(null, "CONFIRMED", null, null, 10).getItems().size());
+        assertThrows(IllegalArgumentException.class, () -> orderService.changeStatuses(List.of(), "CONFIRMED"));
+        assertThrows(IllegalArgumentException.class, () -> orderService.changeStatuses(List.of("order-1"), null));
+    }
+
+    @Test
+    void testCreateOrders_WithEmptyOrOversizedBatch_ThrowsException() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> orderService.createOrders(List.of()));
+        List<CreateOrderRequest> oversized = Collections.nCopies(OrderService.MAX_BATCH_SIZE + 1,
+            new CreateOrderRequest("CUST-1", "Laptop", 1, 1.0));
+        assertThrows(IllegalArgumentException.class, () -> orderService.createOrders(oversized));
+    }
+
+    @Test
+    void testCreateOrders_WithCustomerLookup_RejectsUnknownCustomers() {
+        // Arrange
+        when(stringValidator.isNotEmpty(anyString())).thenReturn(true);
+        when(customerLookupClient.isEnabled()).thenReturn(true);
+        when(customerLookupClient.findAll(List.of("CUST-1", "CUST-404", "CUST-1")))
+            .thenReturn(Map.of("CUST-1", new CustomerResponse("CUST-1", "John Doe", "john@example.com", "+6281234567")));
+        when(customerLookupClient.find("CUST-404")).thenReturn(Optional.empty());
+        when(idGenerator.generateIds(2)).thenReturn(List.of("order-1", "order-2"));
+        when(orderNumberAllocator.next(2)).thenReturn(List.of("AAAA0001", "AAAA0002"));
+        List<CreateOrderRequest> requests = List.of(
+            new CreateOrderRequest("CUST-1", "Laptop", 1, 100.0),
+            new CreateOrderRequest("CUST-404", "Mouse", 2, 10.0),
+            new CreateOrderRequest("CUST-1", "Monitor", 1, 200.0)
+        );
+
+        // Act
+        BatchOrderResponse response = orderService.createOrders(requests);
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+            () -> orderService.createOrder(new CreateOrderRequest("CUST-404", "Laptop", 1, 100.0)));
+
+        // Assert
+        assertEquals(2, response.getAccepted().size());
+        assertEquals(1, response.getRejected().get(0).getIndex());
+        assertEquals("Customer not found", response.getRejected().get(0).getReason());
+        assertEquals("Customer not found", exception.getMessage());
+        verify(customerLookupClient, times(1)).findAll(anyCollection());
+    }
+
+    @Test
+    void testWithCustomers_LooksUpEachCustomerOnceAndLeavesUnresolvedOnesEmpty() {
+        // Arrange
+        when(stringValidator.isNotEmpty(anyString())).thenReturn(true);
+        when(idGenerator.generateId()).thenReturn("order-1", "order-2", "order-3");
+        when(orderNumberAllocator.next()).thenReturn("AAAA0001", "AAAA0002", "AAAA0003");
+        orderService.createOrder(new CreateOrderRequest("CUST-1", "Laptop", 1, 100.0));
+        orderService.createOrder(new CreateOrderRequest("CUST-2", "Mouse", 2, 10.0));
+        orderService.createOrder(new CreateOrderRequest("CUST-1", "Monitor", 1, 200.0));
+        CustomerResponse customer = new CustomerResponse("CUST-1", "John Doe", "john@example.com", "+6281234567");
+        when(customerLookupClient.findAvailable(Set.of("CUST-1", "CUST-2"))).thenReturn(Map.of("CUST-1", customer));
+
+        // Act
+        CursorPage<OrderWithCustomerResponse> page =
+            orderService.withCustomers(orderService.findOrders(null, null, null, null, 10));
+
+        // Assert
+        assertEquals(3, page.getItems().size());
+        for (OrderWithCustomerResponse order : page.getItems()) {
+            assertEquals("CUST-1".equals(order.getOrder().getCustomerId()) ? customer : null, order.getCustomer());
+        }
+        verify(customerLookupClient, times(1)).findAvailable(anyCollection());
+    }
+
+    @Test
+    void testCreateOrder_RecordsOperationTimeAndRejectionReason() {
+        // Arrange
+        when(stringValidator.isNotEmpty(anyString())).thenAnswer(invocation -> !invocation.<String>getArgument(0).isEmpty());
+        orderService.createOrder(new CreateOrderRequest("CUST-123", "Laptop", 2, 999.99));
+
+        // Act
+        assertThrows(IllegalArgumentException.class,
+            () -> orderService.createOrder(new CreateOrderRequest("", "Laptop", 2, 999.99)));
+
+        // Assert
+        assertEquals(2, meterRegistry.get("orders.operations").tag("operation", "create").timer().count());
+        assertEquals(1, meterRegistry.get("orders.number.allocation").timer().count());
+        assertEquals(1, meterRegistry.get("orders.response.conversion").timer().count());
+        assertEquals(1.0, meterRegistry.get("orders.validation.failures")
+            .tag("reason", "customer_id_is_required").counter().count());
+    }
+
+    @Test
+    void testCreateOrder_WhileRecording_EmitsPhaseBreakdownEvent() throws Exception {
+        // Arrange
+        when(stringValidator.isNotEmpty(anyString())).thenReturn(true);
+        Path file = Files.createTempFile("orders", ".jfr");
+
+        // Act
+        try (Recording recording = new Recording()) {
+            recording.enable(OrderOperationEvent.class).withoutThreshold();
+            recording.start();
+            orderService.createOrder(new CreateOrderRequest("CUST-123", "Laptop", 2, 999.99));
+            recording.stop();
+            recording.dump(file);
+        }
+
+        // Assert
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        Files.delete(file);
+        assertEquals(1, events.size());
+        RecordedEvent event = events.get(0);
+        assertEquals("create", event.getString("operation"));
+        assertEquals(1, event.getInt("orders"));
+        assertEquals(0, event.getInt("rejected"));
+        assertTrue(event.getDuration("storage").toNanos() > 0);
+        assertTrue(event.getDuration("formatting").toNanos() > 0);
+        assertTrue(event.getDuration().compareTo(event.getDuration("validation").plus(event.getDuration("storage"))) >= 0);
+    }
 }
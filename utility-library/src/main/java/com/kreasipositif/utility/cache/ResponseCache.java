@@ -0,0 +1,127 @@
+package com.kreasipositif.utility.cache;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Bounded cache of the response built for a record, and of that response serialized.
+ * <p>
+ * An entry remembers the record instance it was built from and is only served for that
+ * same instance, so replacing a record in its repository makes the old entry stale
+ * without any coordination; {@link #invalidate} merely frees the memory early. When the
+ * cache is over capacity the oldest entries are evicted first.
+ *
+ * @param <S> the stored record type
+ * @param <T> the response type built from it
+ */
+public class ResponseCache<S, T> {
+
+    @FunctionalInterface
+    public interface Serializer<T> {
+        byte[] serialize(T value) throws IOException;
+    }
+
+    private final int maxEntries;
+    private final Serializer<T> serializer;
+    private final Map<String, Entry<S, T>> entries = new ConcurrentHashMap<>();
+    private final Queue<String> insertionOrder = new ConcurrentLinkedQueue<>();
+    // Invalidated keys stay queued until polled, so the queue is bounded separately
+    private final AtomicInteger queuedKeys = new AtomicInteger();
+
+    public ResponseCache(int maxEntries, Serializer<T> serializer) {
+        if (maxEntries < 0) {
+            throw new IllegalArgumentException("Max entries must not be negative");
+        }
+        this.maxEntries = maxEntries;
+        this.serializer = serializer;
+    }
+
+    /**
+     * Returns the response for a record, building it with {@code converter} unless one
+     * built from the same record instance is cached.
+     */
+    public T get(String key, S source, Function<S, T> converter) {
+        return entry(key, source, converter).value;
+    }
+
+    /**
+     * Returns the serialized response for a record. The returned array is shared and
+     * must not be modified.
+     *
+     * @throws UncheckedIOException if the response cannot be serialized
+     */
+    public byte[] getBytes(String key, S source, Function<S, T> converter) {
+        Entry<S, T> entry = entry(key, source, converter);
+        byte[] bytes = entry.bytes;
+        if (bytes == null) {
+            ResponseSerializationEvent event = new ResponseSerializationEvent();
+            event.begin();
+            try {
+                bytes = serializer.serialize(entry.value);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to serialize response", e);
+            }
+            entry.bytes = bytes;
+            if (event.shouldCommit()) {
+                event.key = key;
+                event.size = bytes.length;
+                event.commit();
+            }
+        }
+        return bytes;
+    }
+
+    public void invalidate(String key) {
+        entries.remove(key);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private Entry<S, T> entry(String key, S source, Function<S, T> converter) {
+        Entry<S, T> entry = entries.get(key);
+        if (entry != null && entry.source == source) {
+            return entry;
+        }
+        Entry<S, T> created = new Entry<>(source, converter.apply(source));
+        if (maxEntries == 0) {
+            return created;
+        }
+        if (entries.put(key, created) == null) {
+            insertionOrder.add(key);
+            queuedKeys.incrementAndGet();
+            evictOverflow();
+        }
+        return created;
+    }
+
+    private void evictOverflow() {
+        while (entries.size() > maxEntries || queuedKeys.get() > 2 * maxEntries) {
+            String eldest = insertionOrder.poll();
+            if (eldest == null) {
+                return;
+            }
+            queuedKeys.decrementAndGet();
+            entries.remove(eldest);
+        }
+    }
+
+    private static final class Entry<S, T> {
+        private final S source;
+        private final T value;
+        // Filled lazily; a race only means the response is serialized twice
+        private volatile byte[] bytes;
+
+        private Entry(S source, T value) {
+            this.source = source;
+            this.value = value;
+        }
+    }
+}
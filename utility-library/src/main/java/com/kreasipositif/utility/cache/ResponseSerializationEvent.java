@@ -0,0 +1,23 @@
+package com.kreasipositif.utility.cache;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.kreasipositif.utility.ResponseSerialization")
+@Label("Response Serialization")
+@Category({"Kreasipositif", "Utility"})
+@Description("A cached response serialized to bytes on first use")
+@StackTrace(false)
+class ResponseSerializationEvent extends jdk.jfr.Event {
+
+    @Label("Key")
+    String key;
+
+    @Label("Size")
+    @DataAmount
+    int size;
+}
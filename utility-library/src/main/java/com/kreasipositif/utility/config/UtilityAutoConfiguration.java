@@ -1,9 +1,14 @@
 package com.kreasipositif.utility.config;
 
+import com.kreasipositif.utility.generator.IdGeneratorProperties;
+import com.kreasipositif.utility.generator.OrderNumberProperties;
+import com.kreasipositif.utility.jfr.FlightRecorderProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
 
 @Configuration
 @ComponentScan(basePackages = "com.kreasipositif.utility")
+@EnableConfigurationProperties({IdGeneratorProperties.class, OrderNumberProperties.class, FlightRecorderProperties.class})
 public class UtilityAutoConfiguration {
 }
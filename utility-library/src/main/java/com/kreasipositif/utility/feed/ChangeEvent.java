@@ -0,0 +1,21 @@
+package com.kreasipositif.utility.feed;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * One change published to a {@link ChangeFeed}.
+ *
+ * @param <T> the changed record type
+ */
+@Getter
+@AllArgsConstructor
+public final class ChangeEvent<T> {
+
+    public static final String CREATED = "created";
+    public static final String UPDATED = "updated";
+
+    private final long sequence;
+    private final String type;
+    private final T payload;
+}
@@ -0,0 +1,203 @@
+package com.kreasipositif.utility.feed;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * In-memory feed of the most recent changes, for streaming them to subscribers.
+ * <p>
+ * Events go into a ring of the last {@code capacity} changes, numbered by an increasing
+ * sequence. Publishing claims a sequence number and fills its slot without waiting for
+ * anybody; readers keep their own position and copy events from the ring, so the ring
+ * is every subscriber's buffer and an idle subscriber costs nothing but its position.
+ * A reader that falls more than {@code capacity} events behind finds its next event
+ * overwritten and has to start over from current state.
+ * <p>
+ * Readers with nothing left to read wait on one shared future that the next publish
+ * completes and replaces. A publish therefore wakes every idle reader, but without a
+ * lock they all have to take again, and a woken reader drains everything published
+ * meanwhile before it waits again, so bursts wake each reader once per batch rather
+ * than once per event.
+ * <p>
+ * Sequence numbers start at the creation time in milliseconds times 1000, so that after
+ * a restart they continue above the previous run's instead of repeating them.
+ *
+ * @param <T> the changed record type
+ */
+public class ChangeFeed<T> {
+
+    private final AtomicReferenceArray<ChangeEvent<T>> ring;
+    private final int mask;
+    private final long firstSequence;
+    private final AtomicLong lastSequence;
+    private final int maxSubscribers;
+    private final AtomicInteger subscribers = new AtomicInteger();
+
+    // Completed and replaced by the next publish; only readers with nothing left to read wait on it
+    private final AtomicReference<CompletableFuture<Void>> nextPublish =
+        new AtomicReference<>(new CompletableFuture<>());
+    private final AtomicInteger waiting = new AtomicInteger();
+
+    /**
+     * @param capacity number of events kept, rounded up to a power of two
+     */
+    public ChangeFeed(int capacity, int maxSubscribers) {
+        if (capacity < 1 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("Capacity must be between 1 and " + (1 << 30));
+        }
+        if (maxSubscribers < 0) {
+            throw new IllegalArgumentException("Max subscribers must not be negative");
+        }
+        int size = Integer.highestOneBit(capacity) == capacity ? capacity : Integer.highestOneBit(capacity) << 1;
+        this.ring = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+        this.firstSequence = System.currentTimeMillis() * 1_000;
+        this.lastSequence = new AtomicLong(firstSequence);
+        this.maxSubscribers = maxSubscribers;
+    }
+
+    /**
+     * Adds an event to the feed. Never waits for readers.
+     *
+     * @return the sequence number of the event
+     */
+    public long publish(String type, T payload) {
+        long sequence = lastSequence.incrementAndGet();
+        ChangeEvent<T> event = new ChangeEvent<>(sequence, type, payload);
+        int slot = slot(sequence);
+        // A publisher that stalled for a whole lap of the ring must not overwrite a newer event
+        ChangeEvent<T> current = ring.get(slot);
+        while ((current == null || current.getSequence() < sequence) && !ring.compareAndSet(slot, current, event)) {
+            current = ring.get(slot);
+        }
+        if (waiting.get() > 0) {
+            nextPublish.getAndSet(new CompletableFuture<>()).complete(null);
+        }
+        return sequence;
+    }
+
+    /**
+     * Sequence number of the last event published, or of the feed's start if there is
+     * none yet; reading after it yields only new events.
+     */
+    public long lastSequence() {
+        return lastSequence.get();
+    }
+
+    /**
+     * Whether the events after {@code sequence} can still be read: it is not ahead of
+     * the feed and no later event has been overwritten.
+     */
+    public boolean canResumeAfter(long sequence) {
+        long last = lastSequence.get();
+        return sequence <= last && sequence >= Math.max(firstSequence, last - ring.length());
+    }
+
+    /**
+     * Adds up to {@code max} events published after {@code sequence} to {@code into},
+     * oldest first. Stops early at an event that has been claimed but not filled yet.
+     *
+     * @return {@code false} if the next event has already been overwritten, meaning the
+     *         reader fell too far behind and missed events
+     */
+    public boolean readAfter(long sequence, int max, List<ChangeEvent<T>> into) {
+        long last = lastSequence.get();
+        for (long next = sequence + 1; next <= last && max > 0; next++, max--) {
+            ChangeEvent<T> event = ring.get(slot(next));
+            if (event == null || event.getSequence() < next) {
+                return true;
+            }
+            if (event.getSequence() > next) {
+                return false;
+            }
+            into.add(event);
+        }
+        return true;
+    }
+
+    /**
+     * Waits until the event after {@code sequence} can be read.
+     *
+     * @return {@code false} if the timeout passed first
+     */
+    public boolean awaitAfter(long sequence, Duration timeout) throws InterruptedException {
+        if (isFilled(sequence + 1)) {
+            return true;
+        }
+        long deadline = System.nanoTime() + timeout.toNanos();
+        // Registered before checking again, so a publisher either sees the waiter or the check sees its event
+        waiting.incrementAndGet();
+        try {
+            while (true) {
+                // Taken before the check: a publish after it completes this very future
+                CompletableFuture<Void> published = nextPublish.get();
+                if (isFilled(sequence + 1)) {
+                    return true;
+                }
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    return false;
+                }
+                try {
+                    published.get(remaining, TimeUnit.NANOSECONDS);
+                } catch (TimeoutException e) {
+                    return isFilled(sequence + 1);
+                } catch (ExecutionException e) {
+                    throw new IllegalStateException("Publish signal failed", e);
+                }
+            }
+        } finally {
+            waiting.decrementAndGet();
+        }
+    }
+
+    /**
+     * Registers a subscriber unless the feed already has as many as allowed.
+     */
+    public boolean subscribe() {
+        int current;
+        do {
+            current = subscribers.get();
+            if (current >= maxSubscribers) {
+                return false;
+            }
+        } while (!subscribers.compareAndSet(current, current + 1));
+        return true;
+    }
+
+    /**
+     * Whether another subscriber would currently be accepted.
+     */
+    public boolean hasRoom() {
+        return subscribers.get() < maxSubscribers;
+    }
+
+    public void unsubscribe() {
+        subscribers.decrementAndGet();
+    }
+
+    public int subscriberCount() {
+        return subscribers.get();
+    }
+
+    public int capacity() {
+        return ring.length();
+    }
+
+    private boolean isFilled(long sequence) {
+        ChangeEvent<T> event = ring.get(slot(sequence));
+        return event != null && event.getSequence() >= sequence;
+    }
+
+    private int slot(long sequence) {
+        return (int) (sequence & mask);
+    }
+}
@@ -0,0 +1,117 @@
+package com.kreasipositif.utility.feed;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Writes a {@link ChangeFeed} to one subscriber as server-sent events, for example from
+ * a {@code StreamingResponseBody}:
+ * <pre>
+ * id: 1767700000000042
+ * event: created
+ * data: {"id":"...",...}
+ * </pre>
+ * When nothing happens for a heartbeat interval a comment line is sent, which keeps
+ * proxies from closing the connection and finds disconnected clients. A subscriber that
+ * cannot be resumed, or that reads so slowly it falls out of the feed, gets a final
+ * {@code reset} event and is disconnected; it should reload current state and subscribe
+ * again from there. The same happens when the feed has no room for another subscriber.
+ *
+ * @param <T> the changed record type
+ */
+@Slf4j
+public class ChangeFeedStream<T> {
+
+    public static final String RESET = "reset";
+
+    static final int MAX_EVENTS_PER_WRITE = 256;
+
+    private static final byte[] HEARTBEAT = ":\n\n".getBytes(StandardCharsets.US_ASCII);
+
+    private final ChangeFeed<T> feed;
+    private final Function<T, byte[]> serializer;
+    private final Duration heartbeat;
+
+    /**
+     * @param serializer writes a payload as JSON on a single line
+     */
+    public ChangeFeedStream(ChangeFeed<T> feed, Function<T, byte[]> serializer, Duration heartbeat) {
+        this.feed = feed;
+        this.serializer = serializer;
+        this.heartbeat = heartbeat;
+    }
+
+    /**
+     * Streams events published after {@code after}, or only new ones if it is
+     * {@code null}, until the client goes away or falls behind. The subscriber is
+     * registered with {@link ChangeFeed#subscribe()} only while this runs, so a stream
+     * that never starts holds no slot.
+     */
+    public void writeTo(OutputStream out, Long after) {
+        if (!feed.subscribe()) {
+            try {
+                writeReset(out, "No room for another subscriber");
+            } catch (IOException e) {
+                log.debug("Change feed subscriber disconnected: {}", e.getMessage());
+            }
+            return;
+        }
+        try {
+            long position = after == null ? feed.lastSequence() : after;
+            if (!feed.canResumeAfter(position)) {
+                writeReset(out, "Cannot resume after " + position);
+                return;
+            }
+            // Tells the client the stream is open before the first change arrives
+            out.write(HEARTBEAT);
+            out.flush();
+            List<ChangeEvent<T>> events = new ArrayList<>();
+            while (true) {
+                events.clear();
+                if (!feed.readAfter(position, MAX_EVENTS_PER_WRITE, events)) {
+                    writeReset(out, "Fell behind the feed after " + position);
+                    return;
+                }
+                if (events.isEmpty()) {
+                    if (!feed.awaitAfter(position, heartbeat)) {
+                        out.write(HEARTBEAT);
+                        out.flush();
+                    }
+                    continue;
+                }
+                for (ChangeEvent<T> event : events) {
+                    writeEvent(out, event.getSequence(), event.getType(), serializer.apply(event.getPayload()));
+                    position = event.getSequence();
+                }
+                out.flush();
+            }
+        } catch (IOException e) {
+            log.debug("Change feed subscriber disconnected: {}", e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            feed.unsubscribe();
+        }
+    }
+
+    private void writeReset(OutputStream out, String reason) throws IOException {
+        log.debug("Resetting change feed subscriber: {}", reason);
+        String data = "{\"lastSequence\":" + feed.lastSequence() + "}";
+        writeEvent(out, feed.lastSequence(), RESET, data.getBytes(StandardCharsets.US_ASCII));
+        out.flush();
+    }
+
+    private static void writeEvent(OutputStream out, long sequence, String type, byte[] data) throws IOException {
+        out.write(("id: " + sequence + "\nevent: " + type + "\ndata: ").getBytes(StandardCharsets.US_ASCII));
+        out.write(data);
+        out.write('\n');
+        out.write('\n');
+    }
+}
@@ -2,27 +2,113 @@ package com.kreasipositif.utility.formatter;
 
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Component
 public class DateFormatter {
 
-    private static final DateTimeFormatter DEFAULT_FORMATTER = 
+    private static final DateTimeFormatter DEFAULT_FORMATTER =
         DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
 
+    private static final String NOT_AVAILABLE = "N/A";
+    private static final int DEFAULT_LENGTH = 19;
+
+    /**
+     * Upper bound on cached custom patterns; patterns beyond it are compiled per call
+     * so arbitrary caller input cannot grow the cache without limit.
+     */
+    static final int MAX_CACHED_PATTERNS = 256;
+
+    private final Map<String, DateTimeFormatter> patterns = new ConcurrentHashMap<>();
+
     public String formatDateTime(LocalDateTime dateTime) {
         if (dateTime == null) {
-            return "N/A";
+            return NOT_AVAILABLE;
         }
-        return dateTime.format(DEFAULT_FORMATTER);
+        if (!hasFastLayout(dateTime)) {
+            return dateTime.format(DEFAULT_FORMATTER);
+        }
+        byte[] text = new byte[DEFAULT_LENGTH];
+        writeDefault(dateTime, text);
+        return new String(text, StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * Appends the same text as {@link #formatDateTime(LocalDateTime)} to {@code out}.
+     */
+    public StringBuilder appendDateTime(StringBuilder out, LocalDateTime dateTime) {
+        if (dateTime == null) {
+            return out.append(NOT_AVAILABLE);
+        }
+        if (!hasFastLayout(dateTime)) {
+            DEFAULT_FORMATTER.formatTo(dateTime, out);
+            return out;
+        }
+        int year = dateTime.getYear();
+        out.append((char) ('0' + year / 1000)).append((char) ('0' + year / 100 % 10));
+        appendTwoDigits(out, year % 100).append('-');
+        appendTwoDigits(out, dateTime.getMonthValue()).append('-');
+        appendTwoDigits(out, dateTime.getDayOfMonth()).append(' ');
+        appendTwoDigits(out, dateTime.getHour()).append(':');
+        appendTwoDigits(out, dateTime.getMinute()).append(':');
+        return appendTwoDigits(out, dateTime.getSecond());
     }
 
     public String formatDateTime(LocalDateTime dateTime, String pattern) {
         if (dateTime == null) {
-            return "N/A";
+            return NOT_AVAILABLE;
         }
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern(pattern);
-        return dateTime.format(formatter);
+        return dateTime.format(formatterFor(pattern));
+    }
+
+    private DateTimeFormatter formatterFor(String pattern) {
+        DateTimeFormatter formatter = patterns.get(pattern);
+        if (formatter != null) {
+            return formatter;
+        }
+        formatter = DateTimeFormatter.ofPattern(pattern);
+        if (patterns.size() < MAX_CACHED_PATTERNS) {
+            patterns.putIfAbsent(pattern, formatter);
+        }
+        return formatter;
+    }
+
+    /**
+     * The fixed layout only covers four-digit years; {@code yyyy} renders the rest
+     * with a sign or as a year of era, so those go through the formatter.
+     */
+    private static boolean hasFastLayout(LocalDateTime dateTime) {
+        int year = dateTime.getYear();
+        return year >= 1 && year <= 9999;
+    }
+
+    private static void writeDefault(LocalDateTime dateTime, byte[] text) {
+        int year = dateTime.getYear();
+        text[0] = (byte) ('0' + year / 1000);
+        text[1] = (byte) ('0' + year / 100 % 10);
+        writeTwoDigits(text, 2, year % 100);
+        text[4] = '-';
+        writeTwoDigits(text, 5, dateTime.getMonthValue());
+        text[7] = '-';
+        writeTwoDigits(text, 8, dateTime.getDayOfMonth());
+        text[10] = ' ';
+        writeTwoDigits(text, 11, dateTime.getHour());
+        text[13] = ':';
+        writeTwoDigits(text, 14, dateTime.getMinute());
+        text[16] = ':';
+        writeTwoDigits(text, 17, dateTime.getSecond());
+    }
+
+    private static void writeTwoDigits(byte[] text, int offset, int value) {
+        text[offset] = (byte) ('0' + value / 10);
+        text[offset + 1] = (byte) ('0' + value % 10);
+    }
+
+    private static StringBuilder appendTwoDigits(StringBuilder out, int value) {
+        return out.append((char) ('0' + value / 10)).append((char) ('0' + value % 10));
     }
 }
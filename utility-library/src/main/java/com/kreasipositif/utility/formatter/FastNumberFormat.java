@@ -0,0 +1,280 @@
+package com.kreasipositif.utility.formatter;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.text.NumberFormat;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Thread-safe number, currency and percent formatting for one locale, producing the
+ * same text as {@link NumberFormat#getNumberInstance}, {@link NumberFormat#getCurrencyInstance}
+ * and {@link NumberFormat#getPercentInstance}.
+ * <p>
+ * The JDK formatters are not thread-safe, so they would otherwise be created (and
+ * their symbol tables cloned) on every call. Instances of this class read the
+ * locale's prefixes, suffixes, separators and digit counts once and write digits
+ * straight into the caller's buffer. Doubles are rounded half-even on their exact
+ * binary value like {@link DecimalFormat}; the rare values too close to a rounding
+ * tie to decide in floating point are rounded through {@link BigDecimal}. Patterns
+ * this class does not model, such as very large values, NaN and infinities, are
+ * handed to a copy of the JDK formatter.
+ */
+public final class FastNumberFormat {
+
+    private static final Map<Locale, FastNumberFormat> INSTANCES = new ConcurrentHashMap<>();
+    private static final ThreadLocal<StringBuilder> BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(32));
+
+    // Above 2^50 the fractional part of a scaled double is no longer precise to a quarter
+    private static final double MAX_FAST_SCALED = 0x1p50;
+    private static final int MAX_FAST_FRACTION_DIGITS = 9;
+    private static final long[] POWERS_OF_TEN = new long[19];
+
+    static {
+        POWERS_OF_TEN[0] = 1;
+        for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+            POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+        }
+    }
+
+    private final Locale locale;
+    private final Style number;
+    private final Style currency;
+    private final Style percent;
+
+    private FastNumberFormat(Locale locale) {
+        this.locale = locale;
+        this.number = new Style(NumberFormat.getNumberInstance(locale));
+        this.currency = new Style(NumberFormat.getCurrencyInstance(locale));
+        this.percent = new Style(NumberFormat.getPercentInstance(locale));
+    }
+
+    public static FastNumberFormat forLocale(Locale locale) {
+        return INSTANCES.computeIfAbsent(locale, FastNumberFormat::new);
+    }
+
+    public Locale getLocale() {
+        return locale;
+    }
+
+    public String formatNumber(long value) {
+        return appendNumber(new StringBuilder(16), value).toString();
+    }
+
+    public String formatCurrency(double amount) {
+        return appendCurrency(new StringBuilder(16), amount).toString();
+    }
+
+    public String formatPercent(double value) {
+        return appendPercent(new StringBuilder(8), value).toString();
+    }
+
+    public StringBuilder appendNumber(StringBuilder out, long value) {
+        number.appendLong(out, value);
+        return out;
+    }
+
+    public StringBuilder appendCurrency(StringBuilder out, double amount) {
+        currency.appendDouble(out, amount);
+        return out;
+    }
+
+    public StringBuilder appendPercent(StringBuilder out, double value) {
+        percent.appendDouble(out, value);
+        return out;
+    }
+
+    public <A extends Appendable> A appendNumber(A out, long value) throws IOException {
+        if (out instanceof StringBuilder builder) {
+            appendNumber(builder, value);
+            return out;
+        }
+        out.append(appendNumber(buffer(), value));
+        return out;
+    }
+
+    public <A extends Appendable> A appendCurrency(A out, double amount) throws IOException {
+        if (out instanceof StringBuilder builder) {
+            appendCurrency(builder, amount);
+            return out;
+        }
+        out.append(appendCurrency(buffer(), amount));
+        return out;
+    }
+
+    public <A extends Appendable> A appendPercent(A out, double value) throws IOException {
+        if (out instanceof StringBuilder builder) {
+            appendPercent(builder, value);
+            return out;
+        }
+        out.append(appendPercent(buffer(), value));
+        return out;
+    }
+
+    /**
+     * A virtual thread usually formats a handful of values before it ends, so a
+     * thread-local buffer would cost it more than a fresh one.
+     */
+    private static StringBuilder buffer() {
+        if (Thread.currentThread().isVirtual()) {
+            return new StringBuilder(32);
+        }
+        StringBuilder buffer = BUFFER.get();
+        buffer.setLength(0);
+        return buffer;
+    }
+
+    /**
+     * The pre-computed parts of one {@link DecimalFormat} pattern.
+     */
+    private static final class Style {
+
+        private final NumberFormat prototype;
+        private final boolean fast;
+        private final String positivePrefix;
+        private final String positiveSuffix;
+        private final String negativePrefix;
+        private final String negativeSuffix;
+        private final int multiplier;
+        private final int minimumIntegerDigits;
+        private final int minimumFractionDigits;
+        private final int maximumFractionDigits;
+        private final int groupingSize;
+        private final char groupingSeparator;
+        private final char decimalSeparator;
+        private final boolean decimalSeparatorAlwaysShown;
+        private final char zeroDigit;
+
+        private Style(NumberFormat format) {
+            this.prototype = format;
+            if (format instanceof DecimalFormat decimal) {
+                DecimalFormatSymbols symbols = decimal.getDecimalFormatSymbols();
+                positivePrefix = decimal.getPositivePrefix();
+                positiveSuffix = decimal.getPositiveSuffix();
+                negativePrefix = decimal.getNegativePrefix();
+                negativeSuffix = decimal.getNegativeSuffix();
+                multiplier = decimal.getMultiplier();
+                minimumIntegerDigits = decimal.getMinimumIntegerDigits();
+                minimumFractionDigits = decimal.getMinimumFractionDigits();
+                maximumFractionDigits = decimal.getMaximumFractionDigits();
+                groupingSize = decimal.isGroupingUsed() ? decimal.getGroupingSize() : 0;
+                groupingSeparator = currencyOrPlain(decimal, symbols.getMonetaryGroupingSeparator(),
+                    symbols.getGroupingSeparator());
+                decimalSeparator = currencyOrPlain(decimal, symbols.getMonetaryDecimalSeparator(),
+                    symbols.getDecimalSeparator());
+                decimalSeparatorAlwaysShown = decimal.isDecimalSeparatorAlwaysShown();
+                zeroDigit = symbols.getZeroDigit();
+                fast = decimal.getRoundingMode() == RoundingMode.HALF_EVEN
+                    && multiplier > 0
+                    && decimal.getMaximumIntegerDigits() >= 20
+                    && minimumIntegerDigits <= 20
+                    && maximumFractionDigits <= MAX_FAST_FRACTION_DIGITS;
+            } else {
+                positivePrefix = positiveSuffix = negativePrefix = negativeSuffix = "";
+                multiplier = 1;
+                minimumIntegerDigits = minimumFractionDigits = maximumFractionDigits = groupingSize = 0;
+                groupingSeparator = decimalSeparator = zeroDigit = '0';
+                decimalSeparatorAlwaysShown = false;
+                fast = false;
+            }
+        }
+
+        private static char currencyOrPlain(DecimalFormat format, char monetary, char plain) {
+            return format.toPattern().indexOf('\u00A4') >= 0 ? monetary : plain;
+        }
+
+        private void appendLong(StringBuilder out, long value) {
+            if (!fast || multiplier != 1) {
+                out.append(((NumberFormat) prototype.clone()).format(value));
+                return;
+            }
+            boolean negative = value < 0;
+            out.append(negative ? negativePrefix : positivePrefix);
+            // Digits are taken from the negated value so Long.MIN_VALUE needs no special case
+            appendInteger(out, negative ? value : -value);
+            if (decimalSeparatorAlwaysShown || minimumFractionDigits > 0) {
+                out.append(decimalSeparator);
+                for (int i = 0; i < minimumFractionDigits; i++) {
+                    out.append(zeroDigit);
+                }
+            }
+            out.append(negative ? negativeSuffix : positiveSuffix);
+        }
+
+        private void appendDouble(StringBuilder out, double value) {
+            if (!fast || Double.isNaN(value) || Double.isInfinite(value)) {
+                out.append(((NumberFormat) prototype.clone()).format(value));
+                return;
+            }
+            double scaledValue = multiplier == 1 ? value : value * multiplier;
+            double magnitude = Math.abs(scaledValue);
+            long scale = POWERS_OF_TEN[maximumFractionDigits];
+            double scaled = magnitude * scale;
+            if (!(scaled < MAX_FAST_SCALED)) {
+                out.append(((NumberFormat) prototype.clone()).format(value));
+                return;
+            }
+
+            long units = round(magnitude, scaled);
+            boolean negative = scaledValue < 0 || (scaledValue == 0 && Double.doubleToRawLongBits(scaledValue) != 0);
+            out.append(negative ? negativePrefix : positivePrefix);
+            appendInteger(out, -(units / scale));
+
+            long fraction = units % scale;
+            int fractionDigits = maximumFractionDigits;
+            while (fractionDigits > minimumFractionDigits && fraction % 10 == 0) {
+                fraction /= 10;
+                fractionDigits--;
+            }
+            if (fractionDigits > 0 || decimalSeparatorAlwaysShown) {
+                out.append(decimalSeparator);
+                for (int i = fractionDigits - 1; i >= 0; i--) {
+                    out.append((char) (zeroDigit + (fraction / POWERS_OF_TEN[i]) % 10));
+                }
+            }
+            out.append(negative ? negativeSuffix : positiveSuffix);
+        }
+
+        /**
+         * Rounds {@code magnitude * 10^maximumFractionDigits} half-even, where
+         * {@code scaled} is that product computed in floating point.
+         */
+        private long round(double magnitude, double scaled) {
+            if (maximumFractionDigits == 0) {
+                return (long) Math.rint(magnitude);
+            }
+            double floor = Math.floor(scaled);
+            double remainder = scaled - floor;
+            // The product is off by at most half an ulp, so only values this close to a tie are ambiguous
+            if (Math.abs(remainder - 0.5) > Math.ulp(scaled)) {
+                return (long) floor + (remainder > 0.5 ? 1 : 0);
+            }
+            return new BigDecimal(magnitude)
+                .setScale(maximumFractionDigits, RoundingMode.HALF_EVEN)
+                .unscaledValue()
+                .longValueExact();
+        }
+
+        /**
+         * Appends the digits of a non-positive integer with grouping separators.
+         */
+        private void appendInteger(StringBuilder out, long negated) {
+            int count = 0;
+            for (long remaining = negated; remaining != 0; remaining /= 10) {
+                count++;
+            }
+            count = Math.max(count, minimumIntegerDigits);
+            for (int i = count - 1; i >= 0; i--) {
+                long digit = i < POWERS_OF_TEN.length ? -((negated / POWERS_OF_TEN[i]) % 10) : 0;
+                out.append((char) (zeroDigit + digit));
+                if (groupingSize > 0 && i > 0 && i % groupingSize == 0) {
+                    out.append(groupingSeparator);
+                }
+            }
+        }
+    }
+}
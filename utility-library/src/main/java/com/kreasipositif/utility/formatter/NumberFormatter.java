@@ -2,21 +2,34 @@ package com.kreasipositif.utility.formatter;
 
 import org.springframework.stereotype.Component;
 
-import java.text.NumberFormat;
 import java.util.Locale;
 
 @Component
 public class NumberFormatter {
 
+    private static final FastNumberFormat US = FastNumberFormat.forLocale(Locale.US);
+
     public String formatNumber(long number) {
-        return NumberFormat.getNumberInstance(Locale.US).format(number);
+        return US.formatNumber(number);
     }
 
     public String formatCurrency(double amount) {
-        return NumberFormat.getCurrencyInstance(Locale.US).format(amount);
+        return US.formatCurrency(amount);
     }
 
     public String formatPercentage(double value) {
-        return NumberFormat.getPercentInstance(Locale.US).format(value);
+        return US.formatPercent(value);
+    }
+
+    public String formatNumber(long number, Locale locale) {
+        return FastNumberFormat.forLocale(locale).formatNumber(number);
+    }
+
+    public String formatCurrency(double amount, Locale locale) {
+        return FastNumberFormat.forLocale(locale).formatCurrency(amount);
+    }
+
+    public String formatPercentage(double value, Locale locale) {
+        return FastNumberFormat.forLocale(locale).formatPercent(value);
     }
 }
@@ -1,9 +1,14 @@
 package com.kreasipositif.utility.generator;
 
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLongArray;
 
 @Component
 public class IdGenerator {
@@ -11,10 +16,226 @@ public class IdGenerator {
     private static final String ALPHANUMERIC = "ABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789";
     private static final SecureRandom RANDOM = new SecureRandom();
 
+    // Threads are spread over independent generator states by thread id, so concurrent
+    // callers rarely share one; a thread always lands on the same stripe
+    private static final int STRIPE_BITS = 4;
+    private static final int STRIPES = 1 << STRIPE_BITS;
+    // Each stripe's state sits on its own 128-byte line to avoid false sharing
+    private static final int STRIPE_SPACING = 16;
+
+    private static final int SNOWFLAKE_NODE_BITS = 10;
+    private static final int SNOWFLAKE_SEQUENCE_BITS = 12;
+    // The low bits of the sequence field hold a stripe's own counter, the high bits its number
+    private static final int SNOWFLAKE_COUNTER_BITS = SNOWFLAKE_SEQUENCE_BITS - STRIPE_BITS;
+    private static final long SNOWFLAKE_COUNTER_MASK = (1L << SNOWFLAKE_COUNTER_BITS) - 1;
+    private static final long SNOWFLAKE_MAX_TIMESTAMP = (1L << 41) - 1;
+    private static final int UUID_V7_COUNTER_BITS = 12;
+
+    private final IdGeneratorProperties.Mode mode;
+    private final long nodeBits;
+    private final long epochMillis;
+    // Per stripe, the last issued snowflake timestamp and counter, packed as (timestamp << 8) | counter
+    private final AtomicLongArray snowflakeStates = new AtomicLongArray(STRIPES * STRIPE_SPACING);
+    // Per stripe, the last issued UUIDv7 millisecond and counter, packed as (millis << 12) | counter
+    private final AtomicLongArray uuidV7States = new AtomicLongArray(STRIPES * STRIPE_SPACING);
+
+    public IdGenerator() {
+        this(new IdGeneratorProperties());
+    }
+
+    @Autowired
+    public IdGenerator(IdGeneratorProperties properties) {
+        if (properties.getNodeId() < 0 || properties.getNodeId() >= 1 << SNOWFLAKE_NODE_BITS) {
+            throw new IllegalArgumentException("Node id must be between 0 and " + ((1 << SNOWFLAKE_NODE_BITS) - 1));
+        }
+        this.mode = properties.getMode();
+        this.nodeBits = (long) properties.getNodeId() << SNOWFLAKE_SEQUENCE_BITS;
+        this.epochMillis = properties.getEpoch().toEpochMilli();
+    }
+
     public String generateUUID() {
         return UUID.randomUUID().toString();
     }
 
+    /**
+     * Generates an id of the configured {@link IdGeneratorProperties.Mode}.
+     */
+    public String generateId() {
+        return switch (mode) {
+            case RANDOM -> generateUUID();
+            case UUID_V7 -> generateUUIDv7();
+            case SNOWFLAKE -> Long.toString(generateSnowflakeId());
+        };
+    }
+
+    /**
+     * Generates {@code count} ids of the configured {@link IdGeneratorProperties.Mode},
+     * in increasing order for the time-ordered modes.
+     */
+    public List<String> generateIds(int count) {
+        return switch (mode) {
+            case RANDOM -> generateUUIDs(count);
+            case UUID_V7 -> generateUUIDv7s(count);
+            case SNOWFLAKE -> generateSnowflakeIds(count);
+        };
+    }
+
+    /**
+     * Generates a version 7 UUID: a 48-bit millisecond timestamp, a 12-bit counter and
+     * 62 random bits. The last timestamp and counter are kept per stripe and claimed
+     * with a compare-and-set, so ids from one thread, platform or virtual, are strictly
+     * increasing while threads on other stripes never touch the same state; the counter
+     * rolls over into the next millisecond if a stripe needs more than 4096 ids in one.
+     * The random bits come from {@link ThreadLocalRandom}, so these ids are unique but
+     * not unguessable.
+     */
+    public String generateUUIDv7() {
+        return toUUIDv7(claimUUIDv7Counter(1));
+    }
+
+    private List<String> generateUUIDv7s(int count) {
+        List<String> ids = new ArrayList<>(count);
+        if (count == 0) {
+            return ids;
+        }
+        long last = claimUUIDv7Counter(count);
+        for (long claimed = last - count + 1; claimed <= last; claimed++) {
+            ids.add(toUUIDv7(claimed));
+        }
+        return ids;
+    }
+
+    /**
+     * Reserves {@code count} consecutive packed millisecond/counter values on the
+     * calling thread's stripe.
+     *
+     * @return the last reserved value
+     */
+    private long claimUUIDv7Counter(int count) {
+        int index = stripe() * STRIPE_SPACING;
+        long now = System.currentTimeMillis();
+        while (true) {
+            long last = uuidV7States.get(index);
+            long first;
+            if (now > last >>> UUID_V7_COUNTER_BITS) {
+                // Start low in the counter range so a burst within the millisecond rarely rolls over
+                first = (now << UUID_V7_COUNTER_BITS) | ThreadLocalRandom.current().nextInt(1 << (UUID_V7_COUNTER_BITS - 1));
+            } else {
+                first = last + 1;
+            }
+            long claimedLast = first + count - 1;
+            if (uuidV7States.compareAndSet(index, last, claimedLast)) {
+                return claimedLast;
+            }
+        }
+    }
+
+    private static String toUUIDv7(long packed) {
+        long msb = (packed << 4 & 0xFFFFFFFFFFFF0000L) | 0x7000L | (packed & ((1L << UUID_V7_COUNTER_BITS) - 1));
+        long lsb = (ThreadLocalRandom.current().nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(msb, lsb).toString();
+    }
+
+    /**
+     * Generates a 64-bit snowflake id: 41 bits of milliseconds since the configured
+     * epoch, 10 bits of node id and a 12-bit sequence. The sequence is the number of
+     * the calling thread's stripe followed by that stripe's 8-bit counter, so stripes
+     * claim ids with their own compare-and-set and never issue the same one. When a
+     * stripe's 256 ids of a millisecond are used up it carries into the timestamp, so
+     * callers never wait for the clock, which catches up later. Ids from one thread are
+     * strictly increasing; ids from different threads within a millisecond are ordered
+     * by stripe.
+     */
+    public long generateSnowflakeId() {
+        int stripe = stripe();
+        return toSnowflakeId(stripe, claimSnowflakeCounter(stripe, 1));
+    }
+
+    private List<String> generateSnowflakeIds(int count) {
+        List<String> ids = new ArrayList<>(count);
+        if (count == 0) {
+            return ids;
+        }
+        int stripe = stripe();
+        long last = claimSnowflakeCounter(stripe, count);
+        for (long claimed = last - count + 1; claimed <= last; claimed++) {
+            ids.add(Long.toString(toSnowflakeId(stripe, claimed)));
+        }
+        return ids;
+    }
+
+    /**
+     * Reserves {@code count} consecutive packed timestamp/counter values of a stripe.
+     *
+     * @return the last reserved value
+     */
+    private long claimSnowflakeCounter(int stripe, int count) {
+        int index = stripe * STRIPE_SPACING;
+        long now = System.currentTimeMillis() - epochMillis;
+        int retries = 0;
+        while (true) {
+            long last = snowflakeStates.get(index);
+            long first = Math.max(now << SNOWFLAKE_COUNTER_BITS, last + 1);
+            long claimedLast = first + count - 1;
+            if ((claimedLast >>> SNOWFLAKE_COUNTER_BITS) > SNOWFLAKE_MAX_TIMESTAMP) {
+                throw new IllegalStateException("Snowflake timestamp range is exhausted");
+            }
+            if (snowflakeStates.compareAndSet(index, last, claimedLast)) {
+                long clockLead = (claimedLast >>> SNOWFLAKE_COUNTER_BITS) - now;
+                if ((retries > 0 || clockLead > 0) && SnowflakeClaimEvent.TYPE.isEnabled()) {
+                    recordClaim(count, retries, clockLead);
+                }
+                return claimedLast;
+            }
+            retries++;
+        }
+    }
+
+    private static void recordClaim(int count, int retries, long clockLead) {
+        SnowflakeClaimEvent event = new SnowflakeClaimEvent();
+        if (event.shouldCommit()) {
+            event.count = count;
+            event.retries = retries;
+            event.clockLead = clockLead;
+            event.commit();
+        }
+    }
+
+    private long toSnowflakeId(int stripe, long packed) {
+        long timestamp = packed >>> SNOWFLAKE_COUNTER_BITS;
+        return (timestamp << (SNOWFLAKE_NODE_BITS + SNOWFLAKE_SEQUENCE_BITS))
+            | nodeBits
+            | ((long) stripe << SNOWFLAKE_COUNTER_BITS)
+            | (packed & SNOWFLAKE_COUNTER_MASK);
+    }
+
+    private static int stripe() {
+        return (int) (Thread.currentThread().threadId() & (STRIPES - 1));
+    }
+
+    /**
+     * Generates random (version 4) UUIDs from a single draw of secure random bytes,
+     * so a bulk reservation pays for the shared generator once instead of per id.
+     */
+    public List<String> generateUUIDs(int count) {
+        byte[] bytes = new byte[count * 16];
+        RANDOM.nextBytes(bytes);
+        List<String> uuids = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int offset = i * 16;
+            long msb = 0;
+            long lsb = 0;
+            for (int j = 0; j < 8; j++) {
+                msb = (msb << 8) | (bytes[offset + j] & 0xff);
+                lsb = (lsb << 8) | (bytes[offset + 8 + j] & 0xff);
+            }
+            msb = (msb & ~0xF000L) | 0x4000L;
+            lsb = (lsb & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+            uuids.add(new UUID(msb, lsb).toString());
+        }
+        return uuids;
+    }
+
     public String generateAlphanumeric(int length) {
         StringBuilder sb = new StringBuilder(length);
         for (int i = 0; i < length; i++) {
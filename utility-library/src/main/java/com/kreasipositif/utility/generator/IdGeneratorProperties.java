@@ -0,0 +1,36 @@
+package com.kreasipositif.utility.generator;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Instant;
+
+@Data
+@ConfigurationProperties(prefix = "utility.id")
+public class IdGeneratorProperties {
+
+    public enum Mode {
+        /** Random version 4 UUIDs. */
+        RANDOM,
+        /** Time-ordered version 7 UUIDs. */
+        UUID_V7,
+        /** 64-bit ids of a millisecond timestamp, the node id and a sequence, in decimal. */
+        SNOWFLAKE
+    }
+
+    /**
+     * Kind of id returned by {@link IdGenerator#generateId()}.
+     */
+    private Mode mode = Mode.RANDOM;
+
+    /**
+     * Node id (0-1023) embedded in snowflake ids. Every instance generating ids for the
+     * same data set needs its own.
+     */
+    private int nodeId = 0;
+
+    /**
+     * Start of the 41-bit snowflake timestamp, which covers about 69 years from here.
+     */
+    private Instant epoch = Instant.parse("2026-01-01T00:00:00Z");
+}
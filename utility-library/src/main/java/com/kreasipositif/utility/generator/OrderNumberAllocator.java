@@ -0,0 +1,255 @@
+package com.kreasipositif.utility.generator;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Hands out unique 8-character order codes: 7 base-36 digits of an obfuscated
+ * sequence number followed by a Luhn mod 36 check character.
+ * <p>
+ * The sequence is mapped through a fixed affine permutation of the 36^7 code space,
+ * so consecutive orders get unrelated-looking codes while distinct sequence numbers
+ * can never collide. This hides order volume from casual observers; it is not a
+ * secret.
+ * <p>
+ * Each node id owns 1/64 of the sequence space, so instances never hand out the same
+ * number. Threads are spread over 16 stripes by thread id; a stripe takes a block of
+ * sequence numbers from the node's counter and its threads then allocate with one
+ * atomic increment on the block, which works the same for platform and virtual
+ * threads. With a state file, the counter's high-water mark is written ahead of the
+ * blocks handed out, so after a restart allocation continues past every number that
+ * may have been issued. Numbers are unique but not dense: unused parts of blocks are
+ * skipped after a restart.
+ */
+@Component
+public class OrderNumberAllocator {
+
+    public static final int CODE_LENGTH = 8;
+
+    private static final String ALPHABET = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZ";
+    private static final int BASE = ALPHABET.length();
+    private static final int SEQUENCE_DIGITS = CODE_LENGTH - 1;
+    private static final long SPACE = 78_364_164_096L; // 36^7
+    static final int NODES = 64;
+    static final long NODE_SPACE = SPACE / NODES;
+    private static final int STRIPES = 16;
+    // Coprime with 36^7, so the affine map below is a bijection on the code space
+    private static final long MULTIPLIER = 48_431_716_913L;
+    private static final long OFFSET = 32_459_499_572L;
+
+    private final long nodeBase;
+    private final AtomicLong nextSequence;
+    private final int blockSize;
+    private final AtomicReferenceArray<Block> blocks = new AtomicReferenceArray<>(STRIPES);
+
+    private final Path stateFile;
+    private final ReentrantLock stateLock = new ReentrantLock();
+    // Sequence values below this are recorded in the state file as possibly issued
+    private volatile long reservedLimit;
+
+    public OrderNumberAllocator() {
+        this(new OrderNumberProperties());
+    }
+
+    @Autowired
+    public OrderNumberAllocator(OrderNumberProperties properties) {
+        if (properties.getBlockSize() < 1) {
+            throw new IllegalArgumentException("Block size must be at least 1");
+        }
+        if (properties.getNodeId() < 0 || properties.getNodeId() >= NODES) {
+            throw new IllegalArgumentException("Node id must be between 0 and " + (NODES - 1));
+        }
+        if (properties.getStart() < 0 || properties.getStart() >= NODE_SPACE) {
+            throw new IllegalArgumentException("Start must be between 0 and " + (NODE_SPACE - 1));
+        }
+        this.blockSize = properties.getBlockSize();
+        this.nodeBase = properties.getNodeId() * NODE_SPACE;
+        this.stateFile = properties.getStateFile() == null ? null : Path.of(properties.getStateFile());
+        long start = properties.getStart();
+        if (stateFile != null) {
+            start = Math.max(start, readReservedLimit(stateFile));
+        }
+        this.reservedLimit = start;
+        this.nextSequence = new AtomicLong(start);
+    }
+
+    /**
+     * @throws IllegalStateException once all 36^7 codes have been handed out
+     */
+    public String next() {
+        int stripe = (int) (Thread.currentThread().threadId() & (STRIPES - 1));
+        while (true) {
+            Block block = blocks.get(stripe);
+            if (block != null) {
+                long sequence = block.next.getAndIncrement();
+                if (sequence < block.end) {
+                    return encode(sequence);
+                }
+            }
+            OrderNumberReservationEvent event = new OrderNumberReservationEvent();
+            event.begin();
+            long first = reserve(blockSize);
+            commit(event, first, blockSize);
+            // If another thread of the stripe refilled it first, this block is skipped
+            blocks.compareAndSet(stripe, block, new Block(first, first + blockSize));
+        }
+    }
+
+    /**
+     * Allocates {@code count} codes with a single update of the shared counter.
+     */
+    public List<String> next(int count) {
+        List<String> codes = new ArrayList<>(count);
+        if (count == 0) {
+            return codes;
+        }
+        OrderNumberReservationEvent event = new OrderNumberReservationEvent();
+        event.begin();
+        long first = reserve(count);
+        commit(event, first, count);
+        for (long sequence = first; sequence < first + count; sequence++) {
+            codes.add(encode(sequence));
+        }
+        return codes;
+    }
+
+    /**
+     * Checks the shape and check character of a code, e.g. to reject mistyped order
+     * numbers before looking them up.
+     */
+    public static boolean isValid(String code) {
+        if (code == null || code.length() != CODE_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < CODE_LENGTH; i++) {
+            if (ALPHABET.indexOf(code.charAt(i)) < 0) {
+                return false;
+            }
+        }
+        return checkCharacter(code.toCharArray()) == code.charAt(SEQUENCE_DIGITS);
+    }
+
+    /**
+     * @return the first of {@code count} reserved sequence values, already offset into
+     *         this node's range
+     */
+    private long reserve(int count) {
+        long first = nextSequence.getAndAdd(count);
+        if (first > NODE_SPACE - count) {
+            throw new IllegalStateException("Order number space is exhausted");
+        }
+        if (stateFile != null && first + count > reservedLimit) {
+            recordReservation(first + count);
+        }
+        return nodeBase + first;
+    }
+
+    /**
+     * Moves the recorded high-water mark past {@code end}, with headroom for the next
+     * several blocks so the file is written rarely.
+     */
+    private void recordReservation(long end) {
+        stateLock.lock();
+        try {
+            if (end <= reservedLimit) {
+                return;
+            }
+            long limit = Math.min(NODE_SPACE, end + (long) blockSize * STRIPES);
+            Path temporary = stateFile.resolveSibling(stateFile.getFileName() + ".tmp");
+            Files.write(temporary, Long.toString(limit).getBytes(StandardCharsets.US_ASCII),
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE,
+                StandardOpenOption.DSYNC);
+            Files.move(temporary, stateFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            reservedLimit = limit;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to record order number reservation", e);
+        } finally {
+            stateLock.unlock();
+        }
+    }
+
+    private static long readReservedLimit(Path stateFile) {
+        try {
+            Path directory = stateFile.toAbsolutePath().getParent();
+            if (directory != null) {
+                Files.createDirectories(directory);
+            }
+            if (!Files.exists(stateFile)) {
+                return 0;
+            }
+            return Long.parseLong(Files.readString(stateFile, StandardCharsets.US_ASCII).trim());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read order number state from " + stateFile, e);
+        } catch (NumberFormatException e) {
+            throw new IllegalStateException("Corrupt order number state in " + stateFile, e);
+        }
+    }
+
+    private static void commit(OrderNumberReservationEvent event, long first, int count) {
+        if (event.shouldCommit()) {
+            event.first = first;
+            event.count = count;
+            event.commit();
+        }
+    }
+
+    static String encode(long sequence) {
+        long permuted = (multiplyModSpace(sequence) + OFFSET) % SPACE;
+        char[] code = new char[CODE_LENGTH];
+        for (int i = SEQUENCE_DIGITS - 1; i >= 0; i--) {
+            code[i] = ALPHABET.charAt((int) (permuted % BASE));
+            permuted /= BASE;
+        }
+        code[SEQUENCE_DIGITS] = checkCharacter(code);
+        return new String(code);
+    }
+
+    /**
+     * Computes {@code MULTIPLIER * value mod 36^7} without overflowing, by splitting
+     * {@code value} into a high and a low 20-bit half.
+     */
+    private static long multiplyModSpace(long value) {
+        long high = value >>> 20;
+        long low = value & 0xFFFFF;
+        long result = (MULTIPLIER * high) % SPACE;
+        return ((result << 20) + MULTIPLIER * low) % SPACE;
+    }
+
+    /**
+     * Luhn mod 36 check character over the sequence digits of {@code code}; it catches
+     * every single-character error and most swaps of adjacent characters.
+     */
+    private static char checkCharacter(char[] code) {
+        int factor = 2;
+        int sum = 0;
+        for (int i = SEQUENCE_DIGITS - 1; i >= 0; i--) {
+            int addend = factor * ALPHABET.indexOf(code[i]);
+            factor = factor == 2 ? 1 : 2;
+            sum += addend / BASE + addend % BASE;
+        }
+        return ALPHABET.charAt((BASE - sum % BASE) % BASE);
+    }
+
+    private static final class Block {
+        private final AtomicLong next;
+        private final long end;
+
+        private Block(long first, long end) {
+            this.next = new AtomicLong(first);
+            this.end = end;
+        }
+    }
+}
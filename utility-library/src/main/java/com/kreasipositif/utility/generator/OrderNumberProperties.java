@@ -0,0 +1,34 @@
+package com.kreasipositif.utility.generator;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "utility.order-number")
+public class OrderNumberProperties {
+
+    /**
+     * Number of sequence values a stripe of threads takes from the shared counter at once.
+     */
+    private int blockSize = 1024;
+
+    /**
+     * Node id (0-63). Each node allocates from its own 1/64 of the code space, so every
+     * instance issuing order numbers for the same data set needs its own.
+     */
+    private int nodeId = 0;
+
+    /**
+     * First sequence value to hand out within this node's range. Set it past the last
+     * allocated value when previously issued numbers must not be reused, e.g. after
+     * restoring orders.
+     */
+    private long start = 0;
+
+    /**
+     * File recording how far this node has reserved its sequence, so a restart continues
+     * after every number handed out before. Without it the sequence restarts at
+     * {@code start}. Each instance needs its own file.
+     */
+    private String stateFile;
+}
@@ -0,0 +1,25 @@
+package com.kreasipositif.utility.generator;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Emitted when a stripe of threads refills its block or a bulk allocation reserves a
+ * range from the shared counter.
+ */
+@Name("com.kreasipositif.utility.OrderNumberReservation")
+@Label("Order Number Reservation")
+@Category({"Kreasipositif", "Utility"})
+@Description("A range of order number sequence values taken from the shared counter")
+@StackTrace(false)
+class OrderNumberReservationEvent extends jdk.jfr.Event {
+
+    @Label("First Sequence")
+    long first;
+
+    @Label("Count")
+    int count;
+}
@@ -0,0 +1,36 @@
+package com.kreasipositif.utility.generator;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Emitted only for claims that had to retry their compare-and-set or that carried past
+ * the clock, so a recording shows id contention without an event per id. Bursts carry
+ * past the clock on most claims, so callers check {@link #TYPE} before creating one.
+ */
+@Name("com.kreasipositif.utility.SnowflakeClaim")
+@Label("Snowflake ID Claim")
+@Category({"Kreasipositif", "Utility"})
+@Description("A snowflake sequence claim that was contended or ran ahead of the clock")
+@StackTrace(false)
+class SnowflakeClaimEvent extends jdk.jfr.Event {
+
+    static final EventType TYPE = EventType.getEventType(SnowflakeClaimEvent.class);
+
+    @Label("IDs")
+    int count;
+
+    @Label("Retries")
+    @Description("Failed compare-and-set attempts before the claim succeeded")
+    int retries;
+
+    @Label("Clock Lead")
+    @Description("How far the last claimed timestamp is ahead of the wall clock")
+    @Timespan(Timespan.MILLISECONDS)
+    long clockLead;
+}
@@ -0,0 +1,38 @@
+package com.kreasipositif.utility.jfr;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "utility.jfr")
+public class FlightRecorderProperties {
+
+    /**
+     * Directory recordings are written to.
+     */
+    private String directory = Path.of(System.getProperty("java.io.tmpdir"), "jfr").toString();
+
+    /**
+     * JDK settings the bundled event settings are layered on: {@code default} (about 1%
+     * overhead) or {@code profile} (more detail, about 2%).
+     */
+    private String settings = "default";
+
+    /**
+     * Length of a recording when none is requested.
+     */
+    private Duration defaultDuration = Duration.ofMinutes(1);
+
+    /**
+     * Longest recording that can be requested, so a forgotten one cannot fill the disk.
+     */
+    private Duration maxDuration = Duration.ofMinutes(10);
+
+    /**
+     * Most recordings that can run at the same time; further starts are rejected.
+     */
+    private int maxRunning = 2;
+}
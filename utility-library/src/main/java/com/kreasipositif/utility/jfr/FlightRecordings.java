@@ -0,0 +1,218 @@
+package com.kreasipositif.utility.jfr;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Starts and stops Flight Recorder recordings in the running JVM, so a pod can be
+ * profiled on demand without attaching an agent or restarting with new flags.
+ * <p>
+ * Recordings use one of the JDK settings with the event settings of
+ * {@value #BUNDLED_SETTINGS} layered on top, which enable the service and utility
+ * events. Each recording stops itself after its duration and is written to its file
+ * in {@link FlightRecorderProperties#getDirectory()}. At most
+ * {@link FlightRecorderProperties#getMaxRunning()} recordings run at once, and a file
+ * is deleted with its recording.
+ */
+@Slf4j
+@Component
+public class FlightRecordings {
+
+    public static final String BUNDLED_SETTINGS = "/jfr/kreasipositif.jfc";
+
+    // Finished recordings stay listed so their files can be fetched; only the latest are kept
+    static final int MAX_FINISHED_RECORDINGS = 16;
+
+    private static final String NAME_PREFIX = "kreasipositif-";
+
+    private final FlightRecorderProperties properties;
+    private final Map<String, String> bundledSettings;
+    private final Map<Long, Recording> recordings = new ConcurrentHashMap<>();
+    private final Lock startLock = new ReentrantLock();
+
+    public FlightRecordings(FlightRecorderProperties properties) {
+        this.properties = properties;
+        this.bundledSettings = loadBundledSettings();
+    }
+
+    /**
+     * @param duration how long to record, or {@code null} for the configured default
+     * @param settings the JDK settings to start from, or {@code null} for the configured ones
+     * @throws IllegalArgumentException if the duration or settings are invalid
+     * @throws IllegalStateException if the maximum number of recordings is already running
+     */
+    public RecordingInfo start(Duration duration, String settings) {
+        Duration length = duration != null ? duration : properties.getDefaultDuration();
+        if (length.isNegative() || length.isZero() || length.compareTo(properties.getMaxDuration()) > 0) {
+            throw new IllegalArgumentException("Duration must be positive and at most " + properties.getMaxDuration());
+        }
+        String base = settings != null ? settings : properties.getSettings();
+
+        Path directory;
+        try {
+            directory = Files.createDirectories(Path.of(properties.getDirectory()));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to create " + properties.getDirectory(), e);
+        }
+
+        Map<String, String> merged = new HashMap<>(jdkSettings(base));
+        merged.putAll(bundledSettings);
+        startLock.lock();
+        try {
+            long running = recordings.values().stream()
+                .filter(recording -> recording.getState() == RecordingState.RUNNING)
+                .count();
+            if (running >= properties.getMaxRunning()) {
+                throw new IllegalStateException(running + " recordings are already running");
+            }
+            return startRecording(merged, base, length, directory);
+        } finally {
+            startLock.unlock();
+        }
+    }
+
+    private RecordingInfo startRecording(Map<String, String> merged, String base, Duration length, Path directory) {
+        Recording recording = new Recording(merged);
+        recording.setName(NAME_PREFIX + base);
+        recording.setDuration(length);
+        recording.setToDisk(true);
+        recording.setDumpOnExit(true);
+        try {
+            recording.setDestination(directory.resolve("recording-" + recording.getId() + ".jfr"));
+        } catch (IOException e) {
+            recording.close();
+            throw new UncheckedIOException("Failed to set the recording destination", e);
+        }
+        recording.start();
+        pruneFinished();
+        recordings.put(recording.getId(), recording);
+        log.info("Started flight recording {} for {} with {} settings", recording.getId(), length, base);
+        return toInfo(recording);
+    }
+
+    public List<RecordingInfo> list() {
+        return recordings.values().stream()
+            .sorted((a, b) -> Long.compare(a.getId(), b.getId()))
+            .map(FlightRecordings::toInfo)
+            .toList();
+    }
+
+    /**
+     * Stops a running recording early and writes it to its file.
+     */
+    public Optional<RecordingInfo> stop(long id) {
+        Recording recording = recordings.get(id);
+        if (recording == null) {
+            return Optional.empty();
+        }
+        if (recording.getState() == RecordingState.RUNNING) {
+            recording.stop();
+            log.info("Stopped flight recording {}", id);
+        }
+        return Optional.of(toInfo(recording));
+    }
+
+    /**
+     * Returns the file holding a recording. A running recording is first dumped as it
+     * stands, and keeps running.
+     */
+    public Optional<Path> file(long id) {
+        Recording recording = recordings.get(id);
+        if (recording == null) {
+            return Optional.empty();
+        }
+        Path destination = recording.getDestination();
+        if (recording.getState() == RecordingState.RUNNING) {
+            try {
+                recording.dump(destination);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to dump recording " + id, e);
+            }
+        }
+        return Files.exists(destination) ? Optional.of(destination) : Optional.empty();
+    }
+
+    /**
+     * Discards a recording and deletes its file.
+     */
+    public boolean close(long id) {
+        Recording recording = recordings.remove(id);
+        if (recording == null) {
+            return false;
+        }
+        Path destination = recording.getDestination();
+        recording.close();
+        if (destination != null) {
+            try {
+                Files.deleteIfExists(destination);
+            } catch (IOException e) {
+                log.warn("Failed to delete recording file {}", destination, e);
+            }
+        }
+        return true;
+    }
+
+    private void pruneFinished() {
+        List<Recording> finished = recordings.values().stream()
+            .filter(recording -> recording.getState() == RecordingState.STOPPED
+                || recording.getState() == RecordingState.CLOSED)
+            .sorted((a, b) -> Long.compare(a.getId(), b.getId()))
+            .toList();
+        for (int i = 0; i < finished.size() - MAX_FINISHED_RECORDINGS; i++) {
+            close(finished.get(i).getId());
+        }
+    }
+
+    private static Map<String, String> jdkSettings(String name) {
+        try {
+            return Configuration.getConfiguration(name).getSettings();
+        } catch (IOException | ParseException e) {
+            throw new IllegalArgumentException("Unknown recording settings: " + name);
+        }
+    }
+
+    private static Map<String, String> loadBundledSettings() {
+        try (InputStream in = FlightRecordings.class.getResourceAsStream(BUNDLED_SETTINGS)) {
+            if (in == null) {
+                throw new IllegalStateException(BUNDLED_SETTINGS + " is missing from the classpath");
+            }
+            try (Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8)) {
+                return Configuration.create(reader).getSettings();
+            }
+        } catch (IOException | ParseException e) {
+            throw new IllegalStateException("Failed to read " + BUNDLED_SETTINGS, e);
+        }
+    }
+
+    private static RecordingInfo toInfo(Recording recording) {
+        return new RecordingInfo(
+            recording.getId(),
+            recording.getName(),
+            recording.getState().name(),
+            recording.getStartTime() != null ? recording.getStartTime().toString() : null,
+            recording.getDuration() != null ? recording.getDuration().toString() : null,
+            recording.getDestination() != null ? recording.getDestination().toString() : null
+        );
+    }
+}
@@ -0,0 +1,17 @@
+package com.kreasipositif.utility.jfr;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RecordingInfo {
+    private long id;
+    private String name;
+    private String state;
+    private String startTime;
+    private String duration;
+    private String file;
+}
@@ -2,37 +2,121 @@ package com.kreasipositif.utility.validator;
 
 import org.springframework.stereotype.Component;
 
-import java.util.regex.Pattern;
+import java.util.BitSet;
+import java.util.List;
+import java.util.function.Predicate;
 
+/**
+ * String checks used on every request, written as single-pass scanners so they
+ * allocate nothing.
+ * <p>
+ * {@link #isValidEmail} accepts exactly {@code ^[A-Za-z0-9+_.-]+@[A-Za-z0-9.-]+\.[A-Za-z]{2,}$}
+ * and {@link #isValidPhone} exactly {@code ^\+?[1-9]\d{1,14}$}, matched against the whole input.
+ */
 @Component
 public class StringValidator {
 
-    private static final Pattern EMAIL_PATTERN = 
-        Pattern.compile("^[A-Za-z0-9+_.-]+@[A-Za-z0-9.-]+\\.[A-Za-z]{2,}$");
-    
-    private static final Pattern PHONE_PATTERN = 
-        Pattern.compile("^\\+?[1-9]\\d{1,14}$");
+    private static final int MIN_PHONE_DIGITS = 2;
+    private static final int MAX_PHONE_DIGITS = 15;
+    private static final int MIN_TOP_LEVEL_DOMAIN_LENGTH = 2;
 
-    
+    /**
+     * Same result as {@code !str.trim().isEmpty()}: true if any character is above
+     * {@code ' '}, without copying the string.
+     */
     public boolean isNotEmpty(String str) {
-        return str != null && !str.trim().isEmpty();
+        if (str == null) {
+            return false;
+        }
+        for (int i = 0, length = str.length(); i < length; i++) {
+            if (str.charAt(i) > ' ') {
+                return true;
+            }
+        }
+        return false;
     }
 
     public boolean isValidEmail(String email) {
         if (email == null) {
             return false;
         }
-        return EMAIL_PATTERN.matcher(email).matches();
+        int length = email.length();
+        int at = 0;
+        while (at < length && isLocalPartChar(email.charAt(at))) {
+            at++;
+        }
+        if (at == 0 || at == length || email.charAt(at) != '@') {
+            return false;
+        }
+
+        // The top-level domain is whatever follows the last dot, so track the run since the latest one
+        int domainStart = at + 1;
+        int lastDot = -1;
+        int trailingLetters = 0;
+        for (int i = domainStart; i < length; i++) {
+            char c = email.charAt(i);
+            if (c == '.') {
+                lastDot = i;
+                trailingLetters = 0;
+            } else if (isAsciiLetter(c)) {
+                trailingLetters++;
+            } else if (isAsciiDigit(c) || c == '-') {
+                trailingLetters = Integer.MIN_VALUE;
+            } else {
+                return false;
+            }
+        }
+        return lastDot > domainStart && trailingLetters >= MIN_TOP_LEVEL_DOMAIN_LENGTH;
     }
 
     public boolean isValidPhone(String phone) {
         if (phone == null) {
             return false;
         }
-        return PHONE_PATTERN.matcher(phone).matches();
+        int length = phone.length();
+        int start = length > 0 && phone.charAt(0) == '+' ? 1 : 0;
+        int digits = length - start;
+        if (digits < MIN_PHONE_DIGITS || digits > MAX_PHONE_DIGITS || phone.charAt(start) == '0') {
+            return false;
+        }
+        for (int i = start; i < length; i++) {
+            if (!isAsciiDigit(phone.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
     }
 
     public boolean hasMinLength(String str, int minLength) {
         return str != null && str.length() >= minLength;
     }
+
+    /**
+     * Checks every record against {@code rule}.
+     *
+     * @return the indexes of the records that failed; empty if all passed
+     */
+    public <T> BitSet findInvalid(List<? extends T> records, Predicate<? super T> rule) {
+        BitSet failures = new BitSet(records.size());
+        int index = 0;
+        for (T record : records) {
+            if (!rule.test(record)) {
+                failures.set(index);
+            }
+            index++;
+        }
+        return failures;
+    }
+
+    private static boolean isLocalPartChar(char c) {
+        return isAsciiLetter(c) || isAsciiDigit(c) || c == '+' || c == '_' || c == '.' || c == '-';
+    }
+
+    private static boolean isAsciiLetter(char c) {
+        return (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z');
+    }
+
+    private static boolean isAsciiDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
 }
@@ -0,0 +1,90 @@
+package com.kreasipositif.utility;
+
+import com.kreasipositif.utility.formatter.DateFormatter;
+import com.kreasipositif.utility.formatter.FastNumberFormat;
+import com.kreasipositif.utility.formatter.NumberFormatter;
+import com.kreasipositif.utility.generator.IdGenerator;
+import com.kreasipositif.utility.generator.IdGeneratorProperties;
+import com.kreasipositif.utility.generator.OrderNumberAllocator;
+import com.kreasipositif.utility.validator.StringValidator;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Locale;
+
+import static com.kreasipositif.utility.testing.AllocationBudget.TOTAL_CALLS;
+import static com.kreasipositif.utility.testing.AllocationBudget.assertWithinBudget;
+
+/**
+ * Allocation budgets, in bytes per call, for the utility methods on every request path.
+ * Each budget leaves some headroom over what the code allocates today; raise one only
+ * in the change that needs it.
+ */
+class UtilityAllocationTest {
+
+    private static IdGenerator idGenerator(IdGeneratorProperties.Mode mode) {
+        IdGeneratorProperties properties = new IdGeneratorProperties();
+        properties.setMode(mode);
+        return new IdGenerator(properties);
+    }
+
+    @Test
+    void testGenerators_StayWithinBudget() {
+        // Arrange
+        IdGenerator random = idGenerator(IdGeneratorProperties.Mode.RANDOM);
+        IdGenerator uuidV7 = idGenerator(IdGeneratorProperties.Mode.UUID_V7);
+        IdGenerator snowflake = idGenerator(IdGeneratorProperties.Mode.SNOWFLAKE);
+        OrderNumberAllocator orderNumberAllocator = new OrderNumberAllocator();
+
+        // Act & Assert
+        assertWithinBudget("generateId (RANDOM)", 256, call -> random.generateId());
+        assertWithinBudget("generateId (UUID_V7)", 128, call -> uuidV7.generateId());
+        assertWithinBudget("generateId (SNOWFLAKE)", 96, call -> snowflake.generateId());
+        assertWithinBudget("generateSnowflakeId", 0, call -> snowflake.generateSnowflakeId());
+        assertWithinBudget("generateAlphanumeric(8)", 640, call -> random.generateAlphanumeric(8));
+        assertWithinBudget("OrderNumberAllocator.next", 128, call -> orderNumberAllocator.next());
+    }
+
+    @Test
+    void testFormatters_StayWithinBudget() {
+        // Arrange
+        DateFormatter dateFormatter = new DateFormatter();
+        NumberFormatter numberFormatter = new NumberFormatter();
+        FastNumberFormat germany = FastNumberFormat.forLocale(Locale.GERMANY);
+        StringBuilder buffer = new StringBuilder(64);
+        LocalDateTime[] dates = new LocalDateTime[TOTAL_CALLS];
+        for (int i = 0; i < dates.length; i++) {
+            dates[i] = LocalDateTime.of(2026, 1, 1, 0, 0).plusSeconds(i * 61L);
+        }
+
+        // Act & Assert
+        assertWithinBudget("formatDateTime", 128, call -> dateFormatter.formatDateTime(dates[call]));
+        assertWithinBudget("formatDateTime(pattern)", 256,
+            call -> dateFormatter.formatDateTime(dates[call], "dd/MM/yyyy HH:mm"));
+        assertWithinBudget("appendDateTime", 0, call -> {
+            buffer.setLength(0);
+            dateFormatter.appendDateTime(buffer, dates[call]);
+        });
+        assertWithinBudget("formatNumber", 160, call -> numberFormatter.formatNumber(call * 1_001L));
+        assertWithinBudget("formatCurrency", 160, call -> numberFormatter.formatCurrency(call * 1.25));
+        assertWithinBudget("formatPercentage", 128, call -> numberFormatter.formatPercentage(call / 100_000.0));
+        assertWithinBudget("appendCurrency", 0, call -> {
+            buffer.setLength(0);
+            germany.appendCurrency(buffer, call * 1.25);
+        });
+    }
+
+    @Test
+    void testStringValidator_DoesNotAllocate() {
+        // Arrange
+        StringValidator stringValidator = new StringValidator();
+        String[] emails = {"john.doe@example.com", "invalid-email", "jane+tag@mail.example.co.id"};
+        String[] phones = {"+6281234567890", "+0123", "081234567890"};
+        String[] names = {"John Doe", "   ", "\tJane "};
+
+        // Act & Assert
+        assertWithinBudget("isValidEmail", 0, call -> stringValidator.isValidEmail(emails[call % emails.length]));
+        assertWithinBudget("isValidPhone", 0, call -> stringValidator.isValidPhone(phones[call % phones.length]));
+        assertWithinBudget("isNotEmpty", 0, call -> stringValidator.isNotEmpty(names[call % names.length]));
+    }
+}
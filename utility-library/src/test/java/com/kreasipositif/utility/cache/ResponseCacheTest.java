@@ -0,0 +1,103 @@
+package com.kreasipositif.utility.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResponseCacheTest {
+
+    private final AtomicInteger conversions = new AtomicInteger();
+    private final Function<StringBuilder, String> converter = source -> {
+        conversions.incrementAndGet();
+        return source.toString().toUpperCase();
+    };
+
+    private static byte[] utf8(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void testGet_SameSource_ConvertsOnce() {
+        // Arrange
+        ResponseCache<StringBuilder, String> cache = new ResponseCache<>(10, ResponseCacheTest::utf8);
+        StringBuilder record = new StringBuilder("alice");
+
+        // Act
+        String first = cache.get("1", record, converter);
+        String second = cache.get("1", record, converter);
+        byte[] bytes = cache.getBytes("1", record, converter);
+
+        // Assert
+        assertEquals("ALICE", first);
+        assertSame(first, second);
+        assertSame(bytes, cache.getBytes("1", record, converter));
+        assertArrayEquals(utf8("ALICE"), bytes);
+        assertEquals(1, conversions.get());
+    }
+
+    @Test
+    void testGet_ReplacedSource_RebuildsEntry() {
+        // Arrange
+        ResponseCache<StringBuilder, String> cache = new ResponseCache<>(10, ResponseCacheTest::utf8);
+        cache.getBytes("1", new StringBuilder("alice"), converter);
+
+        // Act
+        byte[] bytes = cache.getBytes("1", new StringBuilder("alicia"), converter);
+
+        // Assert
+        assertArrayEquals(utf8("ALICIA"), bytes);
+        assertEquals(2, conversions.get());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void testInvalidate_RemovesEntry() {
+        // Arrange
+        ResponseCache<StringBuilder, String> cache = new ResponseCache<>(10, ResponseCacheTest::utf8);
+        StringBuilder record = new StringBuilder("alice");
+        cache.get("1", record, converter);
+
+        // Act
+        cache.invalidate("1");
+        cache.get("1", record, converter);
+
+        // Assert
+        assertEquals(2, conversions.get());
+    }
+
+    @Test
+    void testGet_OverCapacity_EvictsOldestEntries() {
+        // Arrange
+        ResponseCache<StringBuilder, String> cache = new ResponseCache<>(3, ResponseCacheTest::utf8);
+        StringBuilder oldest = new StringBuilder("user-0");
+        cache.get("0", oldest, converter);
+
+        // Act
+        for (int i = 1; i < 10; i++) {
+            cache.get(String.valueOf(i), new StringBuilder("user-" + i), converter);
+        }
+        cache.get("0", oldest, converter);
+
+        // Assert
+        assertTrue(cache.size() <= 3);
+        assertEquals(11, conversions.get());
+    }
+
+    @Test
+    void testGetBytes_WhenSerializerFails_ThrowsUncheckedIOException() {
+        // Arrange
+        ResponseCache<StringBuilder, String> cache = new ResponseCache<>(10, value -> {
+            throw new IOException("boom");
+        });
+
+        // Act & Assert
+        assertThrows(UncheckedIOException.class, () -> cache.getBytes("1", new StringBuilder("alice"), converter));
+        assertThrows(IllegalArgumentException.class, () -> new ResponseCache<String, String>(-1, String::getBytes));
+    }
+}
@@ -0,0 +1,117 @@
+package com.kreasipositif.utility.feed;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChangeFeedStreamTest {
+
+    private static byte[] json(String value) {
+        return ("\"" + value + "\"").getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Collects what is written until it is closed, after which writes fail like they do
+     * once a client disconnects.
+     */
+    private static final class Client extends OutputStream {
+        private final ByteArrayOutputStream received = new ByteArrayOutputStream();
+        private volatile boolean closed;
+
+        @Override
+        public synchronized void write(int b) throws IOException {
+            if (closed) {
+                throw new IOException("Broken pipe");
+            }
+            received.write(b);
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+
+        synchronized String text() {
+            return received.toString(StandardCharsets.UTF_8);
+        }
+
+        void awaitText(String expected) throws InterruptedException {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (!text().equals(expected) && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+            assertEquals(expected, text());
+        }
+    }
+
+    @Test
+    void testWriteTo_ResumesAfterPositionAndStreamsNewEvents() throws Exception {
+        // Arrange
+        ChangeFeed<String> feed = new ChangeFeed<>(16, 10);
+        long start = feed.lastSequence();
+        feed.publish("created", "a");
+        feed.publish("created", "b");
+        ChangeFeedStream<String> stream = new ChangeFeedStream<>(feed, ChangeFeedStreamTest::json, Duration.ofSeconds(10));
+        Client client = new Client();
+        String resumed = ":\n\n" + "id: " + (start + 2) + "\nevent: created\ndata: \"b\"\n\n";
+
+        // Act
+        Thread subscriber = Thread.ofVirtual().start(() -> stream.writeTo(client, start + 1));
+        client.awaitText(resumed);
+        int subscribedWhileStreaming = feed.subscriberCount();
+        feed.publish("updated", "a");
+        client.awaitText(resumed + "id: " + (start + 3) + "\nevent: updated\ndata: \"a\"\n\n");
+        client.close();
+        feed.publish("created", "c");
+        subscriber.join(5_000);
+
+        // Assert
+        assertFalse(subscriber.isAlive());
+        assertEquals(1, subscribedWhileStreaming);
+        assertEquals(0, feed.subscriberCount());
+    }
+
+    @Test
+    void testWriteTo_WhenPositionCannotBeResumed_SendsResetAndEnds() {
+        // Arrange
+        ChangeFeed<String> feed = new ChangeFeed<>(2, 10);
+        long start = feed.lastSequence();
+        for (int i = 0; i < 5; i++) {
+            feed.publish("created", "x" + i);
+        }
+        ChangeFeedStream<String> stream = new ChangeFeedStream<>(feed, ChangeFeedStreamTest::json, Duration.ofSeconds(10));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        stream.writeTo(out, start);
+
+        // Assert
+        assertEquals("id: " + feed.lastSequence() + "\nevent: reset\ndata: {\"lastSequence\":" + feed.lastSequence()
+            + "}\n\n", out.toString(StandardCharsets.UTF_8));
+        assertEquals(0, feed.subscriberCount());
+    }
+
+    @Test
+    void testWriteTo_WhenFeedHasNoRoom_SendsResetAndKeepsOtherSubscribers() {
+        // Arrange
+        ChangeFeed<String> feed = new ChangeFeed<>(16, 1);
+        assertTrue(feed.subscribe());
+        ChangeFeedStream<String> stream = new ChangeFeedStream<>(feed, ChangeFeedStreamTest::json, Duration.ofSeconds(10));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        stream.writeTo(out, null);
+
+        // Assert
+        assertTrue(out.toString(StandardCharsets.UTF_8).contains("event: reset\n"));
+        assertEquals(1, feed.subscriberCount());
+        assertFalse(feed.hasRoom());
+    }
+}
@@ -0,0 +1,123 @@
+package com.kreasipositif.utility.feed;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChangeFeedTest {
+
+    @Test
+    void testReadAfter_ReturnsEventsInOrderFromPosition() {
+        // Arrange
+        ChangeFeed<String> feed = new ChangeFeed<>(8, 10);
+        long start = feed.lastSequence();
+        feed.publish("created", "a");
+        long second = feed.publish("created", "b");
+        feed.publish("updated", "a");
+        List<ChangeEvent<String>> all = new ArrayList<>();
+        List<ChangeEvent<String>> later = new ArrayList<>();
+
+        // Act
+        boolean allRead = feed.readAfter(start, 100, all);
+        boolean laterRead = feed.readAfter(second, 100, later);
+
+        // Assert
+        assertTrue(allRead && laterRead);
+        assertEquals(List.of("a", "b", "a"), all.stream().map(ChangeEvent::getPayload).toList());
+        assertEquals(List.of(start + 1, start + 2, start + 3), all.stream().map(ChangeEvent::getSequence).toList());
+        assertEquals("updated", later.get(0).getType());
+        assertEquals(1, later.size());
+    }
+
+    @Test
+    void testReadAfter_WhenReaderFellBehind_ReportsMissedEvents() {
+        // Arrange
+        ChangeFeed<Integer> feed = new ChangeFeed<>(5, 10);
+        long start = feed.lastSequence();
+        for (int i = 0; i < 9; i++) {
+            feed.publish("created", i);
+        }
+        List<ChangeEvent<Integer>> events = new ArrayList<>();
+
+        // Act & Assert
+        assertEquals(8, feed.capacity());
+        assertFalse(feed.readAfter(start, 100, events));
+        assertFalse(feed.canResumeAfter(start));
+        assertTrue(feed.canResumeAfter(start + 1));
+        assertTrue(feed.readAfter(start + 1, 100, events));
+        assertEquals(List.of(1, 2, 3, 4, 5, 6, 7, 8), events.stream().map(ChangeEvent::getPayload).toList());
+        assertFalse(feed.canResumeAfter(feed.lastSequence() + 1));
+    }
+
+    @Test
+    void testAwaitAfter_WakesWaitingReadersOnPublishAndTimesOutOtherwise() throws Exception {
+        // Arrange
+        ChangeFeed<String> feed = new ChangeFeed<>(16, 10);
+        long start = feed.lastSequence();
+        ExecutorService readers = Executors.newVirtualThreadPerTaskExecutor();
+        List<Future<Boolean>> waits = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            waits.add(readers.submit(() -> feed.awaitAfter(start, Duration.ofSeconds(10))));
+        }
+
+        // Act
+        Thread.sleep(50);
+        feed.publish("created", "a");
+
+        // Assert
+        for (Future<Boolean> wait : waits) {
+            assertTrue(wait.get(5, TimeUnit.SECONDS));
+        }
+        readers.shutdown();
+        assertFalse(feed.awaitAfter(feed.lastSequence(), Duration.ofMillis(20)));
+    }
+
+    @Test
+    void testPublish_FromManyThreads_KeepsEveryEventOnce() throws Exception {
+        // Arrange
+        ChangeFeed<Integer> feed = new ChangeFeed<>(1 << 16, 10);
+        long start = feed.lastSequence();
+        ExecutorService writers = Executors.newFixedThreadPool(8);
+
+        // Act
+        for (int t = 0; t < 8; t++) {
+            int thread = t;
+            writers.submit(() -> {
+                for (int i = 0; i < 5_000; i++) {
+                    feed.publish("created", thread * 5_000 + i);
+                }
+            });
+        }
+        writers.shutdown();
+        assertTrue(writers.awaitTermination(30, TimeUnit.SECONDS));
+        List<ChangeEvent<Integer>> events = new ArrayList<>();
+
+        // Assert
+        assertTrue(feed.readAfter(start, 100_000, events));
+        assertEquals(40_000, events.size());
+        assertEquals(40_000, events.stream().map(ChangeEvent::getPayload).distinct().count());
+    }
+
+    @Test
+    void testSubscribe_StopsAtMaxSubscribers() {
+        // Arrange
+        ChangeFeed<String> feed = new ChangeFeed<>(8, 2);
+
+        // Act & Assert
+        assertTrue(feed.subscribe());
+        assertTrue(feed.subscribe());
+        assertFalse(feed.subscribe());
+        feed.unsubscribe();
+        assertTrue(feed.subscribe());
+        assertEquals(2, feed.subscriberCount());
+        assertThrows(IllegalArgumentException.class, () -> new ChangeFeed<>(0, 1));
+    }
+}
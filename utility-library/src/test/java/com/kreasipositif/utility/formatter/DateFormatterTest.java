@@ -4,6 +4,8 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.SplittableRandom;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -83,4 +85,58 @@ class DateFormatterTest {
         // Assert
         assertEquals("2026-01-06 00:00:00", result);
     }
+
+    @Test
+    void testFormatDateTime_AcrossYearRange_MatchesDateTimeFormatter() {
+        // Arrange
+        DateTimeFormatter reference = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+        SplittableRandom random = new SplittableRandom(7);
+        int[] years = {-10_000, -1, 0, 1, 9, 99, 999, 1970, 2026, 9999, 10_000, 999_999};
+
+        for (int i = 0; i < 10_000; i++) {
+            LocalDateTime dateTime = LocalDateTime.of(
+                i < years.length ? years[i] : random.nextInt(1, 10_000),
+                random.nextInt(1, 13), random.nextInt(1, 29),
+                random.nextInt(24), random.nextInt(60), random.nextInt(60), random.nextInt(1_000_000_000));
+
+            // Act
+            String formatted = dateFormatter.formatDateTime(dateTime);
+            String appended = dateFormatter.appendDateTime(new StringBuilder(), dateTime).toString();
+
+            // Assert
+            assertEquals(dateTime.format(reference), formatted);
+            assertEquals(formatted, appended);
+        }
+    }
+
+    @Test
+    void testAppendDateTime_WithNullDate_AppendsNA() {
+        // Act
+        String result = dateFormatter.appendDateTime(new StringBuilder("at "), null).toString();
+
+        // Assert
+        assertEquals("at N/A", result);
+    }
+
+    @Test
+    void testFormatDateTime_WithManyCustomPatterns_StaysCorrectPastCacheLimit() {
+        // Arrange
+        LocalDateTime dateTime = LocalDateTime.of(2026, 1, 6, 13, 30, 45);
+
+        // Act & Assert
+        for (int i = 0; i < DateFormatter.MAX_CACHED_PATTERNS * 2; i++) {
+            String pattern = "'" + i + "' dd/MM/yyyy";
+            assertEquals(i + " 06/01/2026", dateFormatter.formatDateTime(dateTime, pattern));
+            assertEquals(i + " 06/01/2026", dateFormatter.formatDateTime(dateTime, pattern));
+        }
+    }
+
+    @Test
+    void testFormatDateTime_WithInvalidPattern_ThrowsException() {
+        // Arrange
+        LocalDateTime dateTime = LocalDateTime.of(2026, 1, 6, 13, 30, 45);
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> dateFormatter.formatDateTime(dateTime, "{bad}"));
+    }
 }
@@ -0,0 +1,90 @@
+package com.kreasipositif.utility.formatter;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.text.NumberFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FastNumberFormatTest {
+
+    private static final List<Locale> LOCALES = List.of(
+        Locale.US, Locale.UK, Locale.GERMANY, Locale.FRANCE, Locale.JAPAN,
+        Locale.forLanguageTag("de-CH"), Locale.forLanguageTag("en-IN"), Locale.forLanguageTag("id-ID"),
+        Locale.forLanguageTag("ar-EG"), Locale.forLanguageTag("th-TH-u-nu-thai"));
+
+    private static void assertSameAsJdk(Locale locale, double value) {
+        FastNumberFormat format = FastNumberFormat.forLocale(locale);
+        assertEquals(NumberFormat.getCurrencyInstance(locale).format(value), format.formatCurrency(value),
+            () -> "currency " + value + " in " + locale);
+        assertEquals(NumberFormat.getPercentInstance(locale).format(value), format.formatPercent(value),
+            () -> "percent " + value + " in " + locale);
+    }
+
+    private static void assertSameAsJdk(Locale locale, long value) {
+        assertEquals(NumberFormat.getNumberInstance(locale).format(value),
+            FastNumberFormat.forLocale(locale).formatNumber(value), () -> "number " + value + " in " + locale);
+    }
+
+    @Test
+    void testFormat_EdgeValues_MatchesJdk() {
+        double[] doubles = {0.0, -0.0, 0.005, 0.015, 0.125, -0.125, 1.005, 2.675, 999.99, 1000000.50,
+            -1234567.125, 0.001, -0.001, 0.4999999, 1e13, -1e14, 1e300, Double.MIN_VALUE,
+            Double.MAX_VALUE, Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY};
+        long[] longs = {0, 1, -1, 999, 1000, -1000, 1000000, Long.MAX_VALUE, Long.MIN_VALUE};
+
+        for (Locale locale : LOCALES) {
+            for (double value : doubles) {
+                assertSameAsJdk(locale, value);
+            }
+            for (long value : longs) {
+                assertSameAsJdk(locale, value);
+            }
+        }
+    }
+
+    @Test
+    void testFormat_RandomValues_MatchesJdk() {
+        SplittableRandom random = new SplittableRandom(42);
+        for (int i = 0; i < 20_000; i++) {
+            Locale locale = LOCALES.get(i % LOCALES.size());
+            // Cents and half-cents exercise the rounding ties; the rest covers general magnitudes
+            double value = switch (i % 3) {
+                case 0 -> random.nextLong(-100_000_000, 100_000_000) / 100.0;
+                case 1 -> (random.nextLong(-1_000_000, 1_000_000) * 2 + 1) / 200.0;
+                default -> random.nextDouble(-1e9, 1e9) * Math.pow(10, -random.nextInt(12));
+            };
+            assertSameAsJdk(locale, value);
+            assertSameAsJdk(locale, random.nextLong());
+        }
+    }
+
+    @Test
+    void testAppend_WritesIntoCallerBuffer() throws IOException {
+        // Arrange
+        FastNumberFormat format = FastNumberFormat.forLocale(Locale.US);
+        StringBuilder builder = new StringBuilder("Total: ");
+        StringWriter writer = new StringWriter();
+
+        // Act
+        format.appendCurrency(builder, 1234.5).append(" (");
+        format.appendPercent(builder, 0.25).append(')');
+        format.appendNumber(writer, 1234567);
+
+        // Assert
+        assertEquals("Total: $1,234.50 (25%)", builder.toString());
+        assertEquals("1,234,567", writer.toString());
+    }
+
+    @Test
+    void testForLocale_ReturnsSharedInstance() {
+        // Act & Assert
+        assertSame(FastNumberFormat.forLocale(Locale.GERMANY), FastNumberFormat.forLocale(Locale.GERMANY));
+        assertEquals(Locale.GERMANY, FastNumberFormat.forLocale(Locale.GERMANY).getLocale());
+    }
+}
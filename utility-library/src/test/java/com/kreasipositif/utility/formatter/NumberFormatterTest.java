@@ -3,6 +3,9 @@ package com.kreasipositif.utility.formatter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.text.NumberFormat;
+import java.util.Locale;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class NumberFormatterTest {
@@ -110,4 +113,14 @@ class NumberFormatterTest {
         assertTrue(result.contains("75") || result.contains("76"));
         assertTrue(result.contains("%"));
     }
+
+    @Test
+    void testFormatCurrency_WithLocale_UsesLocaleSymbols() {
+        // Act
+        String result = numberFormatter.formatCurrency(1234.5, Locale.GERMANY);
+
+        // Assert
+        assertEquals(NumberFormat.getCurrencyInstance(Locale.GERMANY).format(1234.5), result);
+        assertTrue(result.startsWith("1.234,50"));
+    }
 }
@@ -3,6 +3,16 @@ package com.kreasipositif.utility.generator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class IdGeneratorTest {
@@ -112,4 +122,160 @@ class IdGeneratorTest {
         // Assert (very high probability of being different)
         assertNotEquals(code1, code2);
     }
+
+    @Test
+    void testGenerateUUIDs_ReturnsDistinctVersion4UUIDs() {
+        // Act
+        List<String> uuids = idGenerator.generateUUIDs(1000);
+
+        // Assert
+        assertEquals(1000, uuids.size());
+        assertEquals(1000, new HashSet<>(uuids).size());
+        for (String uuid : uuids) {
+            UUID parsed = UUID.fromString(uuid);
+            assertEquals(4, parsed.version());
+            assertEquals(2, parsed.variant());
+            assertEquals(36, uuid.length());
+        }
+    }
+
+    private static IdGenerator withMode(IdGeneratorProperties.Mode mode, int nodeId) {
+        IdGeneratorProperties properties = new IdGeneratorProperties();
+        properties.setMode(mode);
+        properties.setNodeId(nodeId);
+        return new IdGenerator(properties);
+    }
+
+    @Test
+    void testGenerateUUIDv7_IsVersion7AndIncreasingWithinThread() {
+        // Arrange
+        long before = System.currentTimeMillis();
+
+        // Act
+        List<String> uuids = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            uuids.add(idGenerator.generateUUIDv7());
+        }
+
+        // Assert
+        UUID first = UUID.fromString(uuids.get(0));
+        assertEquals(7, first.version());
+        assertEquals(2, first.variant());
+        assertTrue((first.getMostSignificantBits() >>> 16) >= before);
+        for (int i = 1; i < uuids.size(); i++) {
+            assertTrue(uuids.get(i - 1).compareTo(uuids.get(i)) < 0, "not increasing at " + i);
+        }
+    }
+
+    @Test
+    void testGenerateId_OnOneVirtualThread_IsIncreasingAcrossCalls() throws Exception {
+        for (IdGeneratorProperties.Mode mode : List.of(IdGeneratorProperties.Mode.UUID_V7, IdGeneratorProperties.Mode.SNOWFLAKE)) {
+            // Arrange
+            IdGenerator generator = withMode(mode, 0);
+
+            // Act
+            List<String> ids;
+            try (ExecutorService virtual = Executors.newVirtualThreadPerTaskExecutor()) {
+                ids = virtual.submit(() -> {
+                    List<String> generated = new ArrayList<>();
+                    for (int i = 0; i < 5_000; i++) {
+                        generated.add(generator.generateId());
+                        if (i % 100 == 0) {
+                            Thread.yield();
+                        }
+                    }
+                    return generated;
+                }).get();
+            }
+
+            // Assert
+            for (int i = 1; i < ids.size(); i++) {
+                assertTrue(compareIds(mode, ids.get(i - 1), ids.get(i)) < 0, mode + " not increasing at " + i);
+            }
+        }
+    }
+
+    private static int compareIds(IdGeneratorProperties.Mode mode, String a, String b) {
+        return mode == IdGeneratorProperties.Mode.SNOWFLAKE ? Long.compare(Long.parseLong(a), Long.parseLong(b)) : a.compareTo(b);
+    }
+
+    @Test
+    void testGenerateSnowflakeId_EmbedsNodeAndIsIncreasing() {
+        // Arrange
+        IdGenerator generator = withMode(IdGeneratorProperties.Mode.SNOWFLAKE, 513);
+
+        // Act
+        long previous = generator.generateSnowflakeId();
+        for (int i = 0; i < 50_000; i++) {
+            long id = generator.generateSnowflakeId();
+
+            // Assert
+            assertTrue(id > previous);
+            assertEquals(513, (id >>> 12) & 0x3FF);
+            previous = id;
+        }
+    }
+
+    @Test
+    void testGenerateId_FromPlatformAndVirtualThreads_IsUnique() throws Exception {
+        for (IdGeneratorProperties.Mode mode : IdGeneratorProperties.Mode.values()) {
+            // Arrange
+            IdGenerator generator = withMode(mode, 1);
+            Set<String> ids = ConcurrentHashMap.newKeySet();
+            ExecutorService executor = Executors.newFixedThreadPool(8);
+            ExecutorService virtual = Executors.newVirtualThreadPerTaskExecutor();
+
+            // Act
+            for (int t = 0; t < 8; t++) {
+                executor.submit(() -> {
+                    for (int i = 0; i < 5_000; i++) {
+                        ids.add(generator.generateId());
+                    }
+                    ids.addAll(generator.generateIds(1_000));
+                });
+            }
+            for (int t = 0; t < 2_000; t++) {
+                virtual.submit(() -> {
+                    ids.add(generator.generateId());
+                    ids.addAll(generator.generateIds(5));
+                });
+            }
+            executor.shutdown();
+            virtual.shutdown();
+            assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+            assertTrue(virtual.awaitTermination(30, TimeUnit.SECONDS));
+
+            // Assert
+            assertEquals(48_000 + 12_000, ids.size(), mode.name());
+        }
+    }
+
+    @Test
+    void testGenerateIds_TimeOrderedModes_ReturnsIncreasingIds() throws Exception {
+        // Arrange
+        IdGenerator uuidV7 = withMode(IdGeneratorProperties.Mode.UUID_V7, 0);
+        IdGenerator snowflake = withMode(IdGeneratorProperties.Mode.SNOWFLAKE, 0);
+
+        // Act
+        List<String> uuids = uuidV7.generateIds(10_000);
+        List<String> virtualUuids;
+        try (ExecutorService virtual = Executors.newVirtualThreadPerTaskExecutor()) {
+            virtualUuids = virtual.submit(() -> uuidV7.generateIds(10_000)).get();
+        }
+        List<Long> snowflakes = snowflake.generateIds(10_000).stream().map(Long::parseLong).toList();
+
+        // Assert
+        assertEquals(uuids.stream().sorted().toList(), uuids);
+        assertEquals(virtualUuids.stream().sorted().toList(), virtualUuids);
+        assertEquals(snowflakes.stream().sorted().distinct().toList(), snowflakes);
+        assertTrue(idGenerator.generateIds(0).isEmpty());
+        assertTrue(snowflake.generateIds(0).isEmpty());
+    }
+
+    @Test
+    void testConstructor_WithInvalidNodeId_ThrowsException() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> withMode(IdGeneratorProperties.Mode.SNOWFLAKE, 1024));
+        assertThrows(IllegalArgumentException.class, () -> withMode(IdGeneratorProperties.Mode.SNOWFLAKE, -1));
+    }
 }
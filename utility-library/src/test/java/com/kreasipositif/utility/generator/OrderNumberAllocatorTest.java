@@ -0,0 +1,182 @@
+package com.kreasipositif.utility.generator;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderNumberAllocatorTest {
+
+    private static final long SPACE = 78_364_164_096L;
+
+    private static OrderNumberAllocator allocator(int blockSize, long start) {
+        OrderNumberProperties properties = new OrderNumberProperties();
+        properties.setBlockSize(blockSize);
+        properties.setStart(start);
+        return new OrderNumberAllocator(properties);
+    }
+
+    @Test
+    void testNext_ReturnsValidEightCharacterCodes() {
+        // Arrange
+        OrderNumberAllocator allocator = new OrderNumberAllocator();
+
+        // Act
+        String first = allocator.next();
+        String second = allocator.next();
+
+        // Assert
+        assertTrue(first.matches("[0-9A-Z]{8}"));
+        assertTrue(OrderNumberAllocator.isValid(first));
+        assertTrue(OrderNumberAllocator.isValid(second));
+        assertNotEquals(first, second);
+    }
+
+    @Test
+    void testEncode_DistinctSequences_NeverCollide() {
+        // Arrange
+        Set<String> codes = new HashSet<>();
+
+        // Act
+        for (long sequence = 0; sequence < 200_000; sequence++) {
+            codes.add(OrderNumberAllocator.encode(sequence));
+        }
+        for (long sequence = SPACE - 1000; sequence < SPACE; sequence++) {
+            codes.add(OrderNumberAllocator.encode(sequence));
+        }
+
+        // Assert
+        assertEquals(201_000, codes.size());
+    }
+
+    @Test
+    void testNext_FromPlatformAndVirtualThreads_IsUnique() throws Exception {
+        // Arrange
+        OrderNumberAllocator allocator = allocator(64, 0);
+        Set<String> codes = ConcurrentHashMap.newKeySet();
+        ExecutorService platform = Executors.newFixedThreadPool(8);
+        ExecutorService virtual = Executors.newVirtualThreadPerTaskExecutor();
+
+        // Act
+        for (int t = 0; t < 8; t++) {
+            platform.submit(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    codes.add(allocator.next());
+                }
+                codes.addAll(allocator.next(500));
+            });
+        }
+        for (int t = 0; t < 2_000; t++) {
+            virtual.submit(() -> codes.add(allocator.next()));
+        }
+        platform.shutdown();
+        virtual.shutdown();
+        assertTrue(platform.awaitTermination(30, TimeUnit.SECONDS));
+        assertTrue(virtual.awaitTermination(30, TimeUnit.SECONDS));
+
+        // Assert
+        assertEquals(8 * 10_500 + 2_000, codes.size());
+    }
+
+    @Test
+    void testIsValid_DetectsSingleCharacterErrors() {
+        // Arrange
+        String code = new OrderNumberAllocator().next();
+        String alphabet = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZ";
+
+        // Act & Assert
+        for (int position = 0; position < code.length(); position++) {
+            for (char replacement : alphabet.toCharArray()) {
+                if (replacement == code.charAt(position)) {
+                    continue;
+                }
+                String mistyped = code.substring(0, position) + replacement + code.substring(position + 1);
+                assertFalse(OrderNumberAllocator.isValid(mistyped), mistyped);
+            }
+        }
+        assertFalse(OrderNumberAllocator.isValid(null));
+        assertFalse(OrderNumberAllocator.isValid("abc"));
+        assertFalse(OrderNumberAllocator.isValid(code.toLowerCase()));
+    }
+
+    @Test
+    void testNext_WhenSpaceIsExhausted_ThrowsException() {
+        // Arrange
+        OrderNumberAllocator allocator = allocator(1, OrderNumberAllocator.NODE_SPACE - 2);
+
+        // Act
+        List<String> last = allocator.next(2);
+
+        // Assert
+        assertEquals(2, last.size());
+        assertThrows(IllegalStateException.class, allocator::next);
+    }
+
+    @Test
+    void testConstructor_WithInvalidProperties_ThrowsException() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> allocator(0, 0));
+        assertThrows(IllegalArgumentException.class, () -> allocator(16, -1));
+        assertThrows(IllegalArgumentException.class, () -> allocator(16, OrderNumberAllocator.NODE_SPACE));
+        OrderNumberProperties properties = new OrderNumberProperties();
+        properties.setNodeId(OrderNumberAllocator.NODES);
+        assertThrows(IllegalArgumentException.class, () -> new OrderNumberAllocator(properties));
+    }
+
+    @Test
+    void testNext_OnDifferentNodes_NeverCollides() {
+        // Arrange
+        Set<String> codes = new HashSet<>();
+        List<OrderNumberAllocator> nodes = List.of(node(0), node(1), node(OrderNumberAllocator.NODES - 1));
+
+        // Act
+        for (OrderNumberAllocator node : nodes) {
+            codes.addAll(node.next(10_000));
+            for (int i = 0; i < 1_000; i++) {
+                codes.add(node.next());
+            }
+        }
+
+        // Assert
+        assertEquals(3 * 11_000, codes.size());
+    }
+
+    private static OrderNumberAllocator node(int nodeId) {
+        OrderNumberProperties properties = new OrderNumberProperties();
+        properties.setNodeId(nodeId);
+        return new OrderNumberAllocator(properties);
+    }
+
+    @Test
+    void testNext_AfterRestartWithStateFile_ContinuesPastIssuedNumbers(@TempDir Path directory) throws Exception {
+        // Arrange
+        OrderNumberProperties properties = new OrderNumberProperties();
+        properties.setBlockSize(8);
+        properties.setStateFile(directory.resolve("state/order-number.state").toString());
+        OrderNumberAllocator before = new OrderNumberAllocator(properties);
+        Set<String> issued = new HashSet<>(before.next(100));
+        for (int i = 0; i < 500; i++) {
+            issued.add(before.next());
+        }
+
+        // Act
+        OrderNumberAllocator after = new OrderNumberAllocator(properties);
+        List<String> next = after.next(1_000);
+        next.add(after.next());
+
+        // Assert
+        assertTrue(Files.exists(directory.resolve("state/order-number.state")));
+        assertEquals(600, issued.size());
+        assertTrue(next.stream().noneMatch(issued::contains));
+    }
+}
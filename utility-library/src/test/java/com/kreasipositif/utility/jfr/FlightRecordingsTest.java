@@ -0,0 +1,122 @@
+package com.kreasipositif.utility.jfr;
+
+import com.kreasipositif.utility.cache.ResponseCache;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FlightRecordingsTest {
+
+    @TempDir
+    Path directory;
+
+    private FlightRecordings flightRecordings;
+
+    @BeforeEach
+    void setUp() {
+        FlightRecorderProperties properties = new FlightRecorderProperties();
+        properties.setDirectory(directory.toString());
+        properties.setMaxDuration(Duration.ofMinutes(5));
+        flightRecordings = new FlightRecordings(properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        flightRecordings.list().forEach(recording -> flightRecordings.close(recording.getId()));
+    }
+
+    @Test
+    void testStartAndStop_WritesBundledEventsToFile() throws Exception {
+        // Arrange
+        ResponseCache<String, String> cache = new ResponseCache<>(10, value -> value.getBytes(StandardCharsets.UTF_8));
+
+        // Act
+        RecordingInfo started = flightRecordings.start(Duration.ofMinutes(1), null);
+        cache.getBytes("key-1", "source", source -> "response");
+        RecordingInfo stopped = flightRecordings.stop(started.getId()).orElseThrow();
+        Path file = flightRecordings.file(started.getId()).orElseThrow();
+
+        // Assert
+        assertEquals("RUNNING", started.getState());
+        // Recordings with a destination are closed once written
+        assertEquals("CLOSED", stopped.getState());
+        assertEquals("kreasipositif-default", stopped.getName());
+        assertEquals(directory.resolve("recording-" + started.getId() + ".jfr").toString(), stopped.getFile());
+        List<RecordedEvent> serializations = RecordingFile.readAllEvents(file).stream()
+            .filter(event -> event.getEventType().getName().equals("com.kreasipositif.utility.ResponseSerialization"))
+            .toList();
+        assertEquals(1, serializations.size());
+        assertEquals("key-1", serializations.get(0).getString("key"));
+        assertEquals(8, serializations.get(0).getInt("size"));
+    }
+
+    @Test
+    void testFile_OfRunningRecording_DumpsWhatIsRecordedSoFar() {
+        // Arrange
+        RecordingInfo started = flightRecordings.start(null, "profile");
+
+        // Act
+        Path file = flightRecordings.file(started.getId()).orElseThrow();
+
+        // Assert
+        assertEquals("RUNNING", flightRecordings.list().get(0).getState());
+        assertEquals("kreasipositif-profile", started.getName());
+        assertTrue(file.toFile().length() > 0);
+    }
+
+    @Test
+    void testStart_WithInvalidDurationOrSettings_ThrowsException() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> flightRecordings.start(Duration.ZERO, null));
+        assertThrows(IllegalArgumentException.class, () -> flightRecordings.start(Duration.ofMinutes(6), null));
+        assertThrows(IllegalArgumentException.class, () -> flightRecordings.start(null, "no-such-settings"));
+        assertTrue(flightRecordings.list().isEmpty());
+    }
+
+    @Test
+    void testStart_WhenMaxRunning_IsRejectedUntilOneStops() {
+        // Arrange
+        RecordingInfo first = flightRecordings.start(null, null);
+        flightRecordings.start(null, null);
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> flightRecordings.start(null, null));
+        flightRecordings.stop(first.getId());
+        assertEquals("RUNNING", flightRecordings.start(null, null).getState());
+    }
+
+    @Test
+    void testClose_DeletesRecordingFile() {
+        // Arrange
+        RecordingInfo started = flightRecordings.start(null, null);
+        flightRecordings.stop(started.getId());
+        Path file = flightRecordings.file(started.getId()).orElseThrow();
+
+        // Act
+        boolean closed = flightRecordings.close(started.getId());
+
+        // Assert
+        assertTrue(closed);
+        assertFalse(Files.exists(file));
+        assertTrue(flightRecordings.list().isEmpty());
+    }
+
+    @Test
+    void testStopAndFile_WithUnknownId_ReturnEmpty() {
+        // Act & Assert
+        assertTrue(flightRecordings.stop(-1).isEmpty());
+        assertTrue(flightRecordings.file(-1).isEmpty());
+        assertFalse(flightRecordings.close(-1));
+    }
+}
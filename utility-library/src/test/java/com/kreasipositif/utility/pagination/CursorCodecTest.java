@@ -0,0 +1,49 @@
+package com.kreasipositif.utility.pagination;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CursorCodecTest {
+
+    private CursorCodec cursorCodec;
+
+    @BeforeEach
+    void setUp() {
+        cursorCodec = new CursorCodec();
+    }
+
+    @Test
+    void testEncodeDecode_RoundTripsPosition() {
+        // Arrange
+        LocalDateTime createdAt = LocalDateTime.of(2026, 1, 6, 13, 30, 45, 123456789);
+
+        // Act
+        String cursor = cursorCodec.encode(createdAt, "id|with|pipes");
+        CursorCodec.Position position = cursorCodec.decode(cursor);
+
+        // Assert
+        assertEquals(createdAt, position.getCreatedAt());
+        assertEquals("id|with|pipes", position.getId());
+    }
+
+    @Test
+    void testEncode_ReturnsUrlSafeToken() {
+        // Act
+        String cursor = cursorCodec.encode(LocalDateTime.of(2026, 1, 6, 13, 30), "test-uuid-123");
+
+        // Assert
+        assertTrue(cursor.matches("[A-Za-z0-9_-]+"));
+    }
+
+    @Test
+    void testDecode_WithGarbage_ThrowsException() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> cursorCodec.decode("not a cursor!"));
+        assertThrows(IllegalArgumentException.class, () -> cursorCodec.decode("bm90LWEtZGF0ZXxpZA"));
+        assertThrows(IllegalArgumentException.class, () -> cursorCodec.decode(""));
+    }
+}
@@ -0,0 +1,68 @@
+package com.kreasipositif.utility.testing;
+
+import java.lang.management.ManagementFactory;
+import java.util.function.IntConsumer;
+
+import static org.junit.jupiter.api.Assertions.fail;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Measures heap bytes allocated per call by the current thread, for tests that pin an
+ * operation to an allocation budget.
+ * <p>
+ * The operation first runs {@link #WARMUP_CALLS} times so the JIT has compiled it,
+ * with escape analysis, the way it runs in production. After that it is measured over
+ * several rounds. The smallest round counts, because a round can only pick up extra
+ * bytes (for example a lazily grown table), never lose them. Shared with the service
+ * modules through the utility-library test jar.
+ */
+public final class AllocationBudget {
+
+    static final int WARMUP_CALLS = 20_000;
+    static final int CALLS_PER_ROUND = 5_000;
+    static final int ROUNDS = 5;
+
+    /**
+     * Number of times the operation is called, for tests that prepare one input per call.
+     */
+    public static final int TOTAL_CALLS = WARMUP_CALLS + CALLS_PER_ROUND * ROUNDS;
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+        (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private AllocationBudget() {
+    }
+
+    /**
+     * Fails if {@code operation} allocates more than {@code budgetBytes} per call on average.
+     * Each call gets its index, below {@link #TOTAL_CALLS}, so inputs can be prepared up
+     * front instead of being allocated inside the measurement. Skipped on JVMs that cannot
+     * report per-thread allocation.
+     */
+    public static void assertWithinBudget(String name, long budgetBytes, IntConsumer operation) {
+        long measured = bytesPerCall(operation);
+        if (measured > budgetBytes) {
+            fail(String.format("%s allocated %d bytes per call, over its budget of %d", name, measured, budgetBytes));
+        }
+    }
+
+    public static long bytesPerCall(IntConsumer operation) {
+        assumeTrue(THREADS.isThreadAllocatedMemorySupported(), "Per-thread allocation is not supported");
+        if (!THREADS.isThreadAllocatedMemoryEnabled()) {
+            THREADS.setThreadAllocatedMemoryEnabled(true);
+        }
+        int call = 0;
+        while (call < WARMUP_CALLS) {
+            operation.accept(call++);
+        }
+        long smallest = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            long before = THREADS.getCurrentThreadAllocatedBytes();
+            for (int i = 0; i < CALLS_PER_ROUND; i++) {
+                operation.accept(call++);
+            }
+            smallest = Math.min(smallest, THREADS.getCurrentThreadAllocatedBytes() - before);
+        }
+        return smallest / CALLS_PER_ROUND;
+    }
+}
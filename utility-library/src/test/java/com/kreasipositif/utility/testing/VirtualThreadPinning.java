@@ -0,0 +1,80 @@
+package com.kreasipositif.utility.testing;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingFile;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.IntConsumer;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Runs an operation on virtual threads while Flight Recorder records every
+ * {@code jdk.VirtualThreadPinned} event, for tests that guard blocking paths against
+ * parking inside a {@code synchronized} block or native frame. A pinned virtual thread
+ * holds on to its carrier while it waits, so a few of them stall every other request.
+ * Shared with the service modules through the utility-library test jar.
+ */
+public final class VirtualThreadPinning {
+
+    private static final String PINNED = "jdk.VirtualThreadPinned";
+    private static final int REPORTED_FRAMES = 8;
+
+    private VirtualThreadPinning() {
+    }
+
+    /**
+     * Calls {@code operation} once per index below {@code calls}, each on its own virtual
+     * thread, and fails with the pinned stack if any of them parked while pinned.
+     */
+    public static void assertNoPinning(String name, int calls, IntConsumer operation) throws Exception {
+        Path file = Files.createTempFile("pinning-", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(PINNED).withThreshold(Duration.ZERO).withStackTrace();
+            recording.start();
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                List<Future<?>> results = new ArrayList<>(calls);
+                for (int i = 0; i < calls; i++) {
+                    int call = i;
+                    results.add(executor.submit(() -> operation.accept(call)));
+                }
+                for (Future<?> result : results) {
+                    result.get();
+                }
+            }
+            recording.stop();
+            recording.dump(file);
+            List<RecordedEvent> pinned = RecordingFile.readAllEvents(file).stream()
+                .filter(event -> event.getEventType().getName().equals(PINNED))
+                .toList();
+            if (!pinned.isEmpty()) {
+                fail(String.format("%s pinned %d virtual threads, first at:%n%s", name, pinned.size(), stack(pinned.get(0))));
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static String stack(RecordedEvent event) {
+        if (event.getStackTrace() == null) {
+            return "  (no stack trace)";
+        }
+        StringBuilder text = new StringBuilder();
+        List<RecordedFrame> frames = event.getStackTrace().getFrames();
+        for (RecordedFrame frame : frames.subList(0, Math.min(REPORTED_FRAMES, frames.size()))) {
+            text.append("  ").append(frame.getMethod().getType().getName())
+                .append('.').append(frame.getMethod().getName())
+                .append(':').append(frame.getLineNumber()).append(System.lineSeparator());
+        }
+        return text.toString();
+    }
+}
@@ -0,0 +1,74 @@
+package com.kreasipositif.utility.validator;
+
+import net.jqwik.api.Arbitraries;
+import net.jqwik.api.Arbitrary;
+import net.jqwik.api.Combinators;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Property;
+import net.jqwik.api.Provide;
+
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Checks the hand-written scanners against the regular expressions they replaced.
+ */
+class StringValidatorPropertyTest {
+
+    private static final Pattern EMAIL_PATTERN =
+        Pattern.compile("^[A-Za-z0-9+_.-]+@[A-Za-z0-9.-]+\\.[A-Za-z]{2,}$");
+
+    private static final Pattern PHONE_PATTERN =
+        Pattern.compile("^\\+?[1-9]\\d{1,14}$");
+
+    // Every character class the patterns distinguish, plus a few they all reject
+    private static final String EMAIL_ALPHABET = "aZ09+_.-@.. \né";
+    private static final String PHONE_ALPHABET = "+0123456789a \n٣";
+
+    private final StringValidator stringValidator = new StringValidator();
+
+    @Property(tries = 5000)
+    void isValidEmail_AgreesWithRegex(@ForAll("emailLike") String email) {
+        assertEquals(EMAIL_PATTERN.matcher(email).matches(), stringValidator.isValidEmail(email), email);
+    }
+
+    @Property(tries = 5000)
+    void isValidEmail_OnArbitraryText_AgreesWithRegex(@ForAll String text) {
+        assertEquals(EMAIL_PATTERN.matcher(text).matches(), stringValidator.isValidEmail(text), text);
+    }
+
+    @Property(tries = 5000)
+    void isValidPhone_AgreesWithRegex(@ForAll("phoneLike") String phone) {
+        assertEquals(PHONE_PATTERN.matcher(phone).matches(), stringValidator.isValidPhone(phone), phone);
+    }
+
+    @Property(tries = 5000)
+    void isValidPhone_OnArbitraryText_AgreesWithRegex(@ForAll String text) {
+        assertEquals(PHONE_PATTERN.matcher(text).matches(), stringValidator.isValidPhone(text), text);
+    }
+
+    @Property(tries = 2000)
+    void isNotEmpty_AgreesWithTrim(@ForAll("padded") String text) {
+        assertEquals(!text.trim().isEmpty(), stringValidator.isNotEmpty(text));
+    }
+
+    @Provide
+    Arbitrary<String> emailLike() {
+        Arbitrary<String> part = Arbitraries.strings().withChars(EMAIL_ALPHABET).ofMaxLength(6);
+        Arbitrary<String> tld = Arbitraries.strings().withChars("aZ0.-").ofMaxLength(4);
+        Arbitrary<String> structured = Combinators.combine(part, part, tld)
+            .as((local, domain, suffix) -> local + "@" + domain + "." + suffix);
+        return Arbitraries.oneOf(structured, Arbitraries.strings().withChars(EMAIL_ALPHABET).ofMaxLength(16));
+    }
+
+    @Provide
+    Arbitrary<String> phoneLike() {
+        return Arbitraries.strings().withChars(PHONE_ALPHABET).ofMaxLength(18);
+    }
+
+    @Provide
+    Arbitrary<String> padded() {
+        return Arbitraries.strings().withChars(" \t\n\u0000\u001f  x").ofMaxLength(6);
+    }
+}
@@ -3,6 +3,9 @@ package com.kreasipositif.utility.validator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.BitSet;
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class StringValidatorTest {
@@ -133,4 +136,45 @@ class StringValidatorTest {
         // Act & Assert
         assertFalse(stringValidator.hasMinLength(null, 5));
     }
+
+    @Test
+    void testIsNotEmpty_WithControlCharactersOnly_ReturnsFalse() {
+        // Act & Assert
+        assertFalse(stringValidator.isNotEmpty("\t\n\u0000 "));
+        assertTrue(stringValidator.isNotEmpty(" \u00A0 "));
+    }
+
+    @Test
+    void testIsValidEmail_WithInvalidTopLevelDomain_ReturnsFalse() {
+        // Act & Assert
+        assertFalse(stringValidator.isValidEmail("test@example.c"));
+        assertFalse(stringValidator.isValidEmail("test@example.c0m"));
+        assertFalse(stringValidator.isValidEmail("test@.com"));
+        assertFalse(stringValidator.isValidEmail("test@a@example.com"));
+        assertTrue(stringValidator.isValidEmail("test@sub.example-1.co"));
+    }
+
+    @Test
+    void testFindInvalid_ReturnsIndexesOfFailedRecords() {
+        // Arrange
+        List<String> emails = List.of("a@example.com", "invalid", "b@example.com", "", "c@example.org");
+
+        // Act
+        BitSet failures = stringValidator.findInvalid(emails, stringValidator::isValidEmail);
+
+        // Assert
+        BitSet expected = new BitSet();
+        expected.set(1);
+        expected.set(3);
+        assertEquals(expected, failures);
+    }
+
+    @Test
+    void testFindInvalid_WhenAllValid_ReturnsEmptySet() {
+        // Act
+        BitSet failures = stringValidator.findInvalid(List.of("+6281234567", "1234"), stringValidator::isValidPhone);
+
+        // Assert
+        assertTrue(failures.isEmpty());
+    }
 }